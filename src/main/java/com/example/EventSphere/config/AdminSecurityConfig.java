@@ -18,10 +18,13 @@ public class AdminSecurityConfig {
 
     private final CustomAdminDetailsService adminDetailsService;
     private final PasswordEncoder passwordEncoder;
+    private final StatelessSessions statelessSessions;
 
-    public AdminSecurityConfig(CustomAdminDetailsService adminDetailsService, PasswordEncoder passwordEncoder) {
+    public AdminSecurityConfig(CustomAdminDetailsService adminDetailsService, PasswordEncoder passwordEncoder,
+                               StatelessSessions statelessSessions) {
         this.adminDetailsService = adminDetailsService;
         this.passwordEncoder = passwordEncoder;
+        this.statelessSessions = statelessSessions;
     }
 
     @Bean
@@ -50,13 +53,15 @@ public class AdminSecurityConfig {
             )
             .authenticationProvider(adminAuthenticationProvider());
 
+        statelessSessions.apply(http);
+
         return http.build();
     }
 
     @Bean
     public DaoAuthenticationProvider adminAuthenticationProvider() {
-        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
-        authProvider.setUserDetailsService(adminDetailsService);
+        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(adminDetailsService);
+        authProvider.setUserDetailsPasswordService(adminDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
@@ -0,0 +1,21 @@
+package com.example.EventSphere.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+public class ApiConfig {
+
+    // Hashes each JSON response into a weak ETag (weak because response compression changes the bytes) and
+    // answers a matching If-None-Match with 304, so unchanged pages cost no transfer
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> apiEtagFilter() {
+        ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter();
+        filter.setWriteWeakETag(true);
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
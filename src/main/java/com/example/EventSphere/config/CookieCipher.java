@@ -0,0 +1,99 @@
+package com.example.EventSphere.config;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * AES-GCM sealing for cookie values. GCM authenticates as well as encrypts, so a cookie that was altered,
+ * sealed for another purpose or sealed with an unknown key simply fails to open.
+ *
+ * <p>Keys are configured as {@code id:base64Key} pairs. The first key seals new values; the others are only
+ * used to open existing ones, which allows rotating keys without logging everyone out.
+ */
+final class CookieCipher {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final String activeKeyId;
+    private final Map<String, SecretKey> keys;
+    private final SecureRandom random = new SecureRandom();
+
+    private CookieCipher(String activeKeyId, Map<String, SecretKey> keys) {
+        this.activeKeyId = activeKeyId;
+        this.keys = keys;
+    }
+
+    static CookieCipher fromKeys(String keySpec) {
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        for (String entry : keySpec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int colon = trimmed.indexOf(':');
+            if (colon <= 0 || trimmed.substring(0, colon).contains(".")) {
+                throw new IllegalStateException("Cookie keys must be configured as <id>:<base64 key> with ids free of '.'");
+            }
+            byte[] key = Base64.getDecoder().decode(trimmed.substring(colon + 1));
+            if (key.length != 16 && key.length != 24 && key.length != 32) {
+                throw new IllegalStateException("Cookie key " + trimmed.substring(0, colon) + " must be 128, 192 or 256 bits");
+            }
+            keys.put(trimmed.substring(0, colon), new SecretKeySpec(key, "AES"));
+        }
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("At least one cookie key is required for stateless sessions");
+        }
+        return new CookieCipher(keys.keySet().iterator().next(), keys);
+    }
+
+    String seal(byte[] plaintext, String purpose) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, keys.get(activeKeyId), new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(purpose.getBytes(StandardCharsets.UTF_8));
+            byte[] sealed = cipher.doFinal(plaintext);
+            byte[] value = ByteBuffer.allocate(iv.length + sealed.length).put(iv).put(sealed).array();
+            return activeKeyId + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to seal cookie", e);
+        }
+    }
+
+    Optional<byte[]> open(String value, String purpose) {
+        int dot = value.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        SecretKey key = keys.get(value.substring(0, dot));
+        if (key == null) {
+            return Optional.empty();
+        }
+        try {
+            byte[] data = Base64.getUrlDecoder().decode(value.substring(dot + 1));
+            if (data.length <= IV_LENGTH) {
+                return Optional.empty();
+            }
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, data, 0, IV_LENGTH));
+            cipher.updateAAD(purpose.getBytes(StandardCharsets.UTF_8));
+            return Optional.of(cipher.doFinal(data, IV_LENGTH, data.length - IV_LENGTH));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.EventSphere.config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.servlet.FlashMap;
+import org.springframework.web.servlet.support.AbstractFlashMapManager;
+import org.springframework.web.util.WebUtils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Stores redirect flash attributes in an encrypted cookie rather than the HTTP session, so a flash message
+ * survives the redirect even when the follow-up request lands on another node.
+ * Attribute values are written as JSON; the application only flashes strings.
+ */
+public class CookieFlashMapManager extends AbstractFlashMapManager {
+
+    static final String COOKIE_NAME = "ES_FLASH";
+
+    private static final TypeReference<List<StoredFlashMap>> STORED_TYPE = new TypeReference<>() {
+    };
+
+    private final CookieCipher cipher;
+    private final ObjectMapper objectMapper;
+
+    CookieFlashMapManager(CookieCipher cipher, ObjectMapper objectMapper) {
+        this.cipher = cipher;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected List<FlashMap> retrieveFlashMaps(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie == null) {
+            return null;
+        }
+        return cipher.open(cookie.getValue(), COOKIE_NAME).map(this::readFlashMaps).orElse(null);
+    }
+
+    @Override
+    protected void updateFlashMaps(List<FlashMap> flashMaps, HttpServletRequest request, HttpServletResponse response) {
+        String value = "";
+        if (!flashMaps.isEmpty()) {
+            List<StoredFlashMap> stored = flashMaps.stream().map(StoredFlashMap::of).toList();
+            try {
+                value = cipher.seal(objectMapper.writeValueAsBytes(stored), COOKIE_NAME);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to store flash attributes", e);
+            }
+        }
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+            .path("/")
+            .maxAge(flashMaps.isEmpty() ? 0 : getFlashMapTimeout())
+            .httpOnly(true)
+            .secure(request.isSecure())
+            .sameSite("Lax")
+            .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    // The cookie travels with the request, so there is no shared state to synchronize on
+    @Override
+    protected Object getFlashMapsMutex(HttpServletRequest request) {
+        return null;
+    }
+
+    private List<FlashMap> readFlashMaps(byte[] json) {
+        try {
+            List<FlashMap> flashMaps = new ArrayList<>();
+            for (StoredFlashMap stored : objectMapper.readValue(json, STORED_TYPE)) {
+                flashMaps.add(stored.toFlashMap());
+            }
+            return flashMaps;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    record StoredFlashMap(String targetPath, Map<String, List<String>> targetParams, long expirationTime,
+                          Map<String, Object> attributes) {
+
+        static StoredFlashMap of(FlashMap flashMap) {
+            return new StoredFlashMap(flashMap.getTargetRequestPath(), flashMap.getTargetRequestParams(),
+                flashMap.getExpirationTime(), flashMap);
+        }
+
+        FlashMap toFlashMap() {
+            FlashMap flashMap = new FlashMap();
+            flashMap.setTargetRequestPath(targetPath);
+            if (targetParams != null) {
+                flashMap.addTargetRequestParams(new LinkedMultiValueMap<>(targetParams));
+            }
+            flashMap.setExpirationTime(expirationTime);
+            if (attributes != null) {
+                flashMap.putAll(attributes);
+            }
+            return flashMap;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.EventSphere.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.util.WebUtils;
+
+import com.example.EventSphere.model.AuthenticatedUser;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Keeps the authenticated principal in an encrypted, expiring cookie instead of the HTTP session,
+ * so any node can serve any request. Like the session it replaces, one cookie is shared by the user and admin
+ * chains, so an admin signed in under {@code /admin} is also recognised on the public event pages.
+ *
+ * <p>The cookie holds the account type and email, its credentials version and an absolute expiry. On each request
+ * the principal is re-read through the (cached) details service: a disabled account, a changed password or a
+ * removed account invalidates the cookie, and role changes take effect without logging in again.
+ */
+public class CookieSecurityContextRepository implements SecurityContextRepository {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final CookieCipher cipher;
+    private final String cookieName;
+    private final Duration maxAge;
+    private final UserDetailsService userDetailsService;
+    private final UserDetailsService adminDetailsService;
+
+    CookieSecurityContextRepository(CookieCipher cipher, String cookieName, Duration maxAge,
+                                    UserDetailsService userDetailsService, UserDetailsService adminDetailsService) {
+        this.cipher = cipher;
+        this.cookieName = cookieName;
+        this.maxAge = maxAge;
+        this.userDetailsService = userDetailsService;
+        this.adminDetailsService = adminDetailsService;
+    }
+
+    @Override
+    @Deprecated
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        readPrincipal(requestResponseHolder.getRequest()).ifPresent(principal ->
+            context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())));
+        return context;
+    }
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        Authentication authentication = context.getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof AuthenticatedUser principal)) {
+            if (containsContext(request)) {
+                writeCookie(request, response, "", Duration.ZERO);
+            }
+            return;
+        }
+
+        Instant expiresAt = Instant.now().plus(maxAge);
+        writeCookie(request, response, cipher.seal(encode(principal, expiresAt), cookieName), maxAge);
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        return WebUtils.getCookie(request, cookieName) != null;
+    }
+
+    private Optional<AuthenticatedUser> readPrincipal(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, cookieName);
+        if (cookie == null) {
+            return Optional.empty();
+        }
+        return cipher.open(cookie.getValue(), cookieName).flatMap(this::decode);
+    }
+
+    private Optional<AuthenticatedUser> decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            boolean adminAccount = in.readBoolean();
+            String email = in.readUTF();
+            long credentialsVersion = in.readLong();
+            long expiresAt = in.readLong();
+            if (Instant.now().getEpochSecond() >= expiresAt) {
+                return Optional.empty();
+            }
+
+            UserDetails current = (adminAccount ? adminDetailsService : userDetailsService).loadUserByUsername(email);
+            if (!(current instanceof AuthenticatedUser principal) || !principal.isEnabled()
+                    || principal.getCredentialsVersion() != credentialsVersion) {
+                return Optional.empty();
+            }
+            principal.eraseCredentials();
+            return Optional.of(principal);
+        } catch (IOException | AuthenticationException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] encode(AuthenticatedUser principal, Instant expiresAt) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeBoolean(principal.isAdminAccount());
+            out.writeUTF(principal.getEmail());
+            out.writeLong(principal.getCredentialsVersion());
+            out.writeLong(expiresAt.getEpochSecond());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void writeCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration age) {
+        ResponseCookie cookie = ResponseCookie.from(cookieName, value)
+            .path("/")
+            .maxAge(age)
+            .httpOnly(true)
+            .secure(request.isSecure())
+            .sameSite("Lax")
+            .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.EventSphere.config;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.RSVP;
+import com.example.EventSphere.model.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Measures bulk event and RSVP insert throughput when started with {@code --app.benchmark.inserts=<rows>},
+ * once with JDBC batching disabled (the behaviour of the old identity ids) and once with the configured batch size,
+ * then shuts the application down. Everything runs in a transaction that is rolled back.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class InsertBenchmarkRunner implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(InsertBenchmarkRunner.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationContext applicationContext;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.benchmark.inserts:0}")
+    private int inserts;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    public InsertBenchmarkRunner(PlatformTransactionManager transactionManager, ApplicationContext applicationContext) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (inserts <= 0) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            User organizer = new User();
+            organizer.setEmail("benchmark-" + UUID.randomUUID() + "@eventsphere.local");
+            organizer.setPassword("-");
+            organizer.setName("Insert benchmark");
+            organizer.setRole(User.Role.ORGANIZER);
+            entityManager.persist(organizer);
+            Event event = newEvent(organizer, 0);
+            entityManager.persist(event);
+            entityManager.flush();
+
+            for (int size : new int[] {1, batchSize}) {
+                session.setJdbcBatchSize(size);
+                measure("events", size, i -> entityManager.persist(newEvent(organizer, i)));
+                // The organizer and event are detached by then, which is fine: new rows only need their ids
+                measure("rsvps", size, i -> entityManager.persist(new RSVP(event, organizer, RSVP.Status.GOING)));
+            }
+            status.setRollbackOnly();
+        });
+
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    private void measure(String table, int size, IntConsumer insert) {
+        long start = System.nanoTime();
+        for (int i = 0; i < inserts; i++) {
+            insert.accept(i);
+            if ((i + 1) % 1000 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        long nanos = System.nanoTime() - start;
+        logger.info("Inserted {} {} with JDBC batch size {} in {} ms ({} rows/s)", inserts, table, size,
+            nanos / 1_000_000, String.format("%,.0f", inserts * 1_000_000_000.0 / nanos));
+    }
+
+    private static Event newEvent(User organizer, int index) {
+        Event event = new Event();
+        event.setTitle("Benchmark event " + index);
+        event.setCategory(Event.Category.OTHER);
+        event.setLocation("Benchmark");
+        event.setDateTime(LocalDateTime.now().plusDays(30));
+        event.setOrganizer(organizer);
+        return event;
+    }
+}
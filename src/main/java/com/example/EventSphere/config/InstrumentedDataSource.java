@@ -0,0 +1,119 @@
+package com.example.EventSphere.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Reports every statement executed through the wrapped data source to {@link QueryInspector}: its SQL shape and
+ * execution time, and the rows read from its result sets. Outside an inspection scope the overhead is one
+ * thread-local lookup per call.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    public InstrumentedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> proxy(PreparedStatement.class, (PreparedStatement) result, new StatementHandler((String) args[0], true));
+                case "prepareCall" -> proxy(CallableStatement.class, (CallableStatement) result, new StatementHandler((String) args[0], true));
+                case "createStatement" -> proxy(Statement.class, (Statement) result, new StatementHandler(null, false));
+                default -> result;
+            };
+        });
+    }
+
+    private static final class StatementHandler implements TargetHandler<Statement> {
+
+        private final String preparedSql;
+        private final boolean parameterized;
+
+        private StatementHandler(String preparedSql, boolean parameterized) {
+            this.preparedSql = preparedSql;
+            this.parameterized = parameterized;
+        }
+
+        @Override
+        public Object handle(Statement target, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute") || !QueryInspector.isActive()) {
+                return wrapResultSet(invoke(target, method, args));
+            }
+
+            String sql = preparedSql != null ? preparedSql : (args != null && args.length > 0 ? (String) args[0] : "<batch>");
+            long start = System.nanoTime();
+            try {
+                return wrapResultSet(invoke(target, method, args));
+            } finally {
+                QueryInspector.statement(sql, parameterized, System.nanoTime() - start);
+            }
+        }
+
+        private static Object wrapResultSet(Object result) {
+            if (!(result instanceof ResultSet resultSet) || !QueryInspector.isActive()) {
+                return result;
+            }
+            return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+                Object value = invoke(target, method, args);
+                if ("next".equals(method.getName()) && Boolean.TRUE.equals(value)) {
+                    QueryInspector.rows(1);
+                }
+                return value;
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface TargetHandler<T> {
+
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, P extends T> P proxy(Class<P> type, T target, TargetHandler<? super T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> invoke(target, method, args);
+                };
+            }
+            return handler.handle(target, method, args);
+        };
+        return (P) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[] {type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.EventSphere.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.springframework.web.util.WebUtils;
+
+import com.example.EventSphere.service.PageVersionService.PageVersion;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Conditional GET support for the public event pages. The weak ETag combines the page's data version with the
+ * viewer, because logged-in pages carry the user's name, RSVP state and CSRF token; anonymous visitors all share
+ * one ETag, so a reverse proxy can keep a single copy and revalidate it.
+ *
+ * <p>Controllers call {@link #notModified} before loading anything and return {@code null} when it answers true;
+ * Spring MVC then sends the 304 without rendering a view.
+ */
+@Component
+public class PageCaching {
+
+    private static final String CSRF_COOKIE_NAME = "XSRF-TOKEN";
+
+    private final boolean enabled;
+    private final Duration sharedMaxAge;
+
+    public PageCaching(@Value("${app.http-cache.enabled:true}") boolean enabled,
+                       @Value("${app.http-cache.shared-max-age:0s}") Duration sharedMaxAge) {
+        this.enabled = enabled;
+        this.sharedMaxAge = sharedMaxAge;
+    }
+
+    /**
+     * Sets the cache headers and validators for a page built from {@code version}, and returns true when the
+     * client's copy is still current.
+     */
+    public boolean notModified(NativeWebRequest webRequest, Authentication authentication, PageVersion version) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        // A page showing a one-off flash message must not be revalidated into a cached copy, or vice versa
+        if (!enabled || request == null || response == null || RequestContextUtils.getInputFlashMap(request) != null) {
+            return false;
+        }
+
+        boolean anonymous = authentication == null || authentication instanceof AnonymousAuthenticationToken
+            || !authentication.isAuthenticated();
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(anonymous).getHeaderValue());
+
+        String etag = "W/\"" + digest(version.tag() + "|" + viewerKey(request, authentication, anonymous)) + "\"";
+        return webRequest.checkNotModified(etag, version.lastModified().toEpochMilli());
+    }
+
+    // Spring Security leaves its no-store default off responses that already carry Cache-Control
+    private CacheControl cacheControl(boolean anonymous) {
+        if (!anonymous) {
+            return CacheControl.noCache().cachePrivate();
+        }
+        if (sharedMaxAge.isZero() || sharedMaxAge.isNegative()) {
+            return CacheControl.noCache().cachePublic();
+        }
+        return CacheControl.maxAge(Duration.ZERO).sMaxAge(sharedMaxAge).mustRevalidate().cachePublic();
+    }
+
+    private static String viewerKey(HttpServletRequest request, Authentication authentication, boolean anonymous) {
+        if (anonymous) {
+            return "";
+        }
+        HttpSession session = request.getSession(false);
+        Cookie csrfCookie = WebUtils.getCookie(request, CSRF_COOKIE_NAME);
+        return authentication.getName()
+            + "|" + (session != null ? session.getId() : "")
+            + "|" + (csrfCookie != null ? csrfCookie.getValue() : "");
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
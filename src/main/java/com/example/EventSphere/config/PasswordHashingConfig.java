@@ -0,0 +1,61 @@
+package com.example.EventSphere.config;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingConfig.class);
+
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                                  @Value("${app.security.password-hashing.cost:0}") int fixedCost,
+                                                  @Value("${app.security.password-hashing.target-latency:250ms}") Duration targetLatency,
+                                                  @Value("${app.security.password-hashing.min-cost:10}") int minCost,
+                                                  @Value("${app.security.password-hashing.max-cost:14}") int maxCost,
+                                                  @Value("${app.security.password-hashing.threads:0}") int threads,
+                                                  @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                                  @Value("${app.security.password-hashing.timeout:5s}") Duration timeout) {
+        int cost = fixedCost > 0 ? fixedCost : calibrate(targetLatency, minCost, maxCost);
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        logger.info("Password hashing uses BCrypt cost {} on {} threads (queue capacity {})", cost, poolSize, queueCapacity);
+        return new BoundedPasswordEncoder(cost, poolSize, queueCapacity, timeout, meterRegistry);
+    }
+
+    /**
+     * Picks the highest BCrypt cost whose hash time on this host stays within the target latency.
+     * Each step doubles the work, so measuring stops at the first cost that exceeds the target.
+     */
+    static int calibrate(Duration targetLatency, int minCost, int maxCost) {
+        long targetNanos = targetLatency.toNanos();
+        String salt = BCrypt.gensalt(minCost);
+        BCrypt.hashpw("calibration-warmup", salt);
+
+        int chosen = minCost;
+        for (int cost = minCost; cost <= maxCost; cost++) {
+            long best = Long.MAX_VALUE;
+            for (int sample = 0; sample < CALIBRATION_SAMPLES; sample++) {
+                long start = System.nanoTime();
+                BCrypt.hashpw("calibration-password", BCrypt.gensalt(cost));
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            logger.info("BCrypt cost {}: {} ms per hash", cost, best / 1_000_000);
+            if (best > targetNanos) {
+                break;
+            }
+            chosen = cost;
+        }
+        return chosen;
+    }
+}
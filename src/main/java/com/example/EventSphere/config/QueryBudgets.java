@@ -0,0 +1,67 @@
+package com.example.EventSphere.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Maximum number of statements per endpoint, configured as {@code METHOD /pattern=limit} pairs separated by commas.
+ * Exceeding a budget is logged and counted; with enforcement on, as in the test profile, {@link QueryInspectionFilter}
+ * also turns the response into an error while it is still uncommitted.
+ */
+public class QueryBudgets {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgets.class);
+
+    private final Map<String, Integer> limits;
+    private final boolean enforce;
+    private final MeterRegistry meterRegistry;
+
+    QueryBudgets(Map<String, Integer> limits, boolean enforce, MeterRegistry meterRegistry) {
+        this.limits = limits;
+        this.enforce = enforce;
+        this.meterRegistry = meterRegistry;
+    }
+
+    static Map<String, Integer> parse(String value) {
+        Map<String, Integer> limits = new LinkedHashMap<>();
+        if (!StringUtils.hasText(value)) {
+            return limits;
+        }
+        for (String entry : value.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid query budget '" + entry.trim() + "', expected METHOD /pattern=limit");
+            }
+            limits.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+        }
+        return limits;
+    }
+
+    boolean isEnforced() {
+        return enforce;
+    }
+
+    /**
+     * Counts and logs a request that went over its endpoint's budget.
+     *
+     * @return the violation, or empty if the endpoint has no budget or stayed within it
+     */
+    Optional<String> check(String endpoint, QueryStats stats) {
+        Integer limit = limits.get(endpoint);
+        if (limit == null || stats.getQueries() <= limit) {
+            return Optional.empty();
+        }
+
+        meterRegistry.counter("eventsphere.sql.budget.exceeded", "endpoint", endpoint).increment();
+        String message = endpoint + " executed " + stats.getQueries() + " statements, budget is " + limit;
+        logger.warn(message);
+        return Optional.of(message);
+    }
+}
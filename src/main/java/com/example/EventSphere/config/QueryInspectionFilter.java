@@ -0,0 +1,126 @@
+package com.example.EventSphere.config;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts the statements, rows and database time of each request. The totals are sent as a {@code Server-Timing}
+ * header, recorded per endpoint, checked against the endpoint's query budget, and statement shapes that repeat
+ * within the request are logged as likely N+1 patterns.
+ *
+ * <p>The totals are only known once the chain returns, when the response may already be committed. Violations are
+ * therefore reported through logs and metrics; an enforced budget only replaces the response while it is still
+ * uncommitted, and a committed response is left alone.
+ */
+public class QueryInspectionFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryInspectionFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgets budgets;
+    private final int repeatThreshold;
+    private final boolean serverTiming;
+
+    QueryInspectionFilter(MeterRegistry meterRegistry, QueryBudgets budgets, int repeatThreshold, boolean serverTiming) {
+        this.meterRegistry = meterRegistry;
+        this.budgets = budgets;
+        this.repeatThreshold = repeatThreshold;
+        this.serverTiming = serverTiming;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryInspector.open();
+        // The header has to be added before the body commits the response
+        HttpServletResponse wrapped = serverTiming ? new OnCommittedResponseWrapper(response) {
+            @Override
+            protected void onResponseCommitted() {
+                addServerTiming(response, stats);
+            }
+        } : response;
+
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            QueryInspector.close(stats);
+            if (serverTiming && !response.isCommitted()) {
+                addServerTiming(response, stats);
+            }
+        }
+
+        Optional<String> violation = record(request, stats);
+        if (violation.isPresent() && budgets.isEnforced()) {
+            fail(response, violation.get());
+        }
+    }
+
+    private Optional<String> record(HttpServletRequest request, QueryStats stats) {
+        if (stats.getQueries() == 0) {
+            return Optional.empty();
+        }
+        String endpoint = endpoint(request);
+
+        DistributionSummary.builder("eventsphere.sql.queries")
+            .description("Statements executed per request")
+            .tag("endpoint", endpoint)
+            .register(meterRegistry)
+            .record(stats.getQueries());
+        DistributionSummary.builder("eventsphere.sql.rows")
+            .description("Rows read per request")
+            .tag("endpoint", endpoint)
+            .register(meterRegistry)
+            .record(stats.getRows());
+        Timer.builder("eventsphere.sql.time")
+            .description("Database time per request")
+            .tag("endpoint", endpoint)
+            .register(meterRegistry)
+            .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+        Map<String, Integer> repeated = stats.repeatedShapes(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("eventsphere.sql.n-plus-one", "endpoint", endpoint).increment();
+            repeated.forEach((shape, count) ->
+                logger.warn("Possible N+1 on {}: {} executions of {}", endpoint, count, shape));
+        }
+
+        return budgets.check(endpoint, stats);
+    }
+
+    private static void fail(HttpServletResponse response, String violation) throws IOException {
+        if (response.isCommitted()) {
+            logger.error("{}; the response was already committed, so the request was not failed", violation);
+            return;
+        }
+        response.resetBuffer();
+        response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, violation);
+    }
+
+    private static void addServerTiming(HttpServletResponse response, QueryStats stats) {
+        response.addHeader("Server-Timing", String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d queries, %d rows\"",
+            stats.getNanos() / 1e6, stats.getQueries(), stats.getRows()));
+    }
+
+    // Uses the mapped pattern so /events/1 and /events/2 share one series
+    static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.EventSphere.config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Pattern;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Thread-bound stack of open {@link QueryStats} scopes. Every statement executed on the thread is added to all
+ * open scopes, so a request sees the total while each service call sees its own share.
+ * Statements on other threads, such as background exports, are not attributed to the request that started them.
+ */
+public final class QueryInspector {
+
+    private static final ThreadLocal<Deque<QueryStats>> SCOPES = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Prepared statements repeat the same SQL text, so their shape is computed once
+    private static final Cache<String, String> PREPARED_SHAPES = Caffeine.newBuilder().maximumSize(4096).build();
+
+    private QueryInspector() {
+    }
+
+    public static QueryStats open() {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        QueryStats stats = new QueryStats();
+        scopes.push(stats);
+        return stats;
+    }
+
+    public static void close(QueryStats stats) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.remove(stats);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    static boolean isActive() {
+        return SCOPES.get() != null;
+    }
+
+    static void statement(String sql, boolean parameterized, long elapsedNanos) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        String shape = parameterized ? PREPARED_SHAPES.get(sql, key -> shape(key, true)) : shape(sql, false);
+        for (QueryStats stats : scopes) {
+            stats.statement(shape, elapsedNanos);
+        }
+    }
+
+    static void rows(long count) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        for (QueryStats stats : scopes) {
+            stats.rows(count);
+        }
+    }
+
+    // Literals only need stripping from plain statements; IN lists of any length count as one shape
+    static String shape(String sql, boolean parameterized) {
+        String shape = sql;
+        if (!parameterized) {
+            shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+            shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        }
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return IN_LIST.matcher(shape).replaceAll("(?...)");
+    }
+}
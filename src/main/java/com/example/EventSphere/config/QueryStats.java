@@ -0,0 +1,58 @@
+package com.example.EventSphere.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * SQL activity of one scope, such as an HTTP request or a service call. Only touched by the thread that owns
+ * the scope, so it needs no synchronization.
+ */
+public class QueryStats {
+
+    // Bounds memory for requests that generate many distinct statements
+    private static final int MAX_SHAPES = 256;
+
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+    private int queries;
+    private long rows;
+    private long nanos;
+
+    void statement(String shape, long elapsedNanos) {
+        queries++;
+        nanos += elapsedNanos;
+        if (shapes.size() < MAX_SHAPES || shapes.containsKey(shape)) {
+            shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    void rows(long count) {
+        rows += count;
+    }
+
+    public int getQueries() {
+        return queries;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Statement shapes executed at least {@code threshold} times; the usual sign of an N+1 access pattern.
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        return shapes.entrySet().stream()
+            .filter(entry -> entry.getValue() >= threshold)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d queries, %d rows, %.1f ms", queries, rows, nanos / 1e6);
+    }
+}
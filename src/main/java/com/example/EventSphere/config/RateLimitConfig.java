@@ -0,0 +1,43 @@
+package com.example.EventSphere.config;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.EventSphere.config.RateLimitFilter.Rule;
+import com.example.EventSphere.config.TokenBuckets.Limit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class RateLimitConfig {
+
+    // Registered ahead of the Spring Security filter so it guards the user and admin chains alike
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(MeterRegistry meterRegistry,
+                                                                   @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                                                                   @Value("${app.rate-limit.max-keys:100000}") long maxKeys,
+                                                                   @Value("${app.rate-limit.login.per-ip:20/1m}") String loginPerIp,
+                                                                   @Value("${app.rate-limit.login.per-account:5/1m}") String loginPerAccount,
+                                                                   @Value("${app.rate-limit.register.per-ip:5/10m}") String registerPerIp,
+                                                                   @Value("${app.rate-limit.password-reset.per-ip:5/10m}") String resetPerIp,
+                                                                   @Value("${app.rate-limit.password-reset.per-account:3/1h}") String resetPerAccount) {
+        List<Rule> rules = List.of(
+            new Rule("login", Set.of("/login", "/admin/login"), "username", Limit.parse(loginPerIp), Limit.parse(loginPerAccount)),
+            new Rule("register", Set.of("/user/register", "/user/register-organizer"), null, Limit.parse(registerPerIp), null),
+            new Rule("password-reset", Set.of("/forgot-password", "/reset-password"), "email", Limit.parse(resetPerIp), Limit.parse(resetPerAccount))
+        );
+
+        FilterRegistrationBean<RateLimitFilter> registration =
+            new FilterRegistrationBean<>(new RateLimitFilter(rules, maxKeys, meterRegistry));
+        registration.setEnabled(enabled);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        registration.setUrlPatterns(rules.stream().flatMap(rule -> rule.paths().stream()).toList());
+        return registration;
+    }
+}
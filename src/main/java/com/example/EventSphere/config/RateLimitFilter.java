@@ -0,0 +1,117 @@
+package com.example.EventSphere.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.EventSphere.config.TokenBuckets.Limit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Throttles credential-handling form posts by client IP and by the account named in the form.
+ * Requests over the limit are answered with 429 before they reach Spring Security, so they cost no BCrypt work,
+ * no reset token and no email.
+ *
+ * <p>The client IP is {@link HttpServletRequest#getRemoteAddr()} as resolved by the container: with
+ * {@code server.forward-headers-strategy=native} Tomcat replaces it with the X-Forwarded-For client only when the
+ * request came through one of {@code server.tomcat.remoteip.internal-proxies}. The header itself is never read here,
+ * since a client could put anything in it.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<Rule> rules;
+    private final TokenBuckets buckets;
+    private final MeterRegistry meterRegistry;
+
+    RateLimitFilter(List<Rule> rules, long maximumKeys, MeterRegistry meterRegistry) {
+        this.rules = rules;
+        this.meterRegistry = meterRegistry;
+
+        Duration longestPeriod = rules.stream()
+            .flatMap(rule -> rule.limits().stream())
+            .map(Limit::period)
+            .max(Duration::compareTo)
+            .orElse(Duration.ofHours(1));
+        this.buckets = new TokenBuckets(maximumKeys, longestPeriod);
+
+        Gauge.builder("eventsphere.ratelimit.keys", buckets, TokenBuckets::size)
+            .description("Rate-limit buckets currently tracked")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Rule rule : rules) {
+            if (!rule.paths().contains(path)) {
+                continue;
+            }
+
+            long wait = 0;
+            if (rule.perIp() != null) {
+                wait = acquire(rule, "ip", rule.name() + ":ip:" + request.getRemoteAddr(), rule.perIp());
+            }
+            String account = rule.accountParameter() != null ? request.getParameter(rule.accountParameter()) : null;
+            if (wait == 0 && rule.perAccount() != null && account != null && !account.isBlank()) {
+                String key = rule.name() + ":" + path + ":account:" + account.trim().toLowerCase(Locale.ROOT);
+                wait = acquire(rule, "account", key, rule.perAccount());
+            }
+
+            if (wait > 0) {
+                reject(response, wait);
+                return;
+            }
+            break;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private long acquire(Rule rule, String keyType, String key, Limit limit) {
+        long wait = buckets.tryAcquire(key, limit);
+        if (wait > 0) {
+            meterRegistry.counter("eventsphere.ratelimit.rejected", "endpoint", rule.name(), "key", keyType).increment();
+        }
+        return wait;
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("Too many attempts. Please try again in " + retryAfterSeconds + " seconds.");
+    }
+
+    /**
+     * Limits for a group of endpoints. Either limit may be {@code null}; the account key is read from
+     * {@code accountParameter} and scoped to the exact path, so user and admin logins are counted separately.
+     */
+    record Rule(String name, Set<String> paths, String accountParameter, Limit perIp, Limit perAccount) {
+
+        List<Limit> limits() {
+            return Stream.of(perIp, perAccount).filter(Objects::nonNull).toList();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.EventSphere.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Decides when a read-only transaction must still read from the primary because a replica may not have the data
+ * yet: during form submissions and other non-GET requests, and for a short window after the current user's own
+ * writes, so a user always sees their RSVP on the page they are redirected to.
+ */
+@Component
+public class ReadYourWrites {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(@Value("${app.datasource.replicas.read-your-writes-window:5s}") Duration window,
+                          @Value("${app.datasource.replicas.read-your-writes-max-users:100000}") long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterWrite(window)
+            .build();
+    }
+
+    /**
+     * Pins the user's reads to the primary. The window starts when the surrounding transaction commits.
+     */
+    public void recordWrite(String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWriters.put(username, Boolean.TRUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(username, Boolean.TRUE);
+            }
+        });
+    }
+
+    boolean requiresPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            String method = servletAttributes.getRequest().getMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                return true;
+            }
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && recentWriters.getIfPresent(authentication.getName()) != null;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.EventSphere.config;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Keeps replica reads out of the second-level cache. Cached entries are shared with primary reads, so
+ * a row a lagging replica returned would otherwise be served from the cache long after the primary moved on.
+ *
+ * <p>When a read-only transaction starts, this decides whether it goes to a replica and pins that choice for
+ * {@link ReplicaPool}. Replica-bound sessions switch to {@link CacheMode#GET}: they still read the cache but never
+ * put into it. The decision has to be made up front, before the first query makes the lazy data source hand out
+ * the connection.
+ */
+public class ReplicaCacheMode implements TransactionExecutionListener {
+
+    private static final Object ROUTE_KEY = new Object();
+
+    private final ReplicaPool replicaPool;
+    private final EntityManagerFactory entityManagerFactory;
+
+    ReplicaCacheMode(ReplicaPool replicaPool, EntityManagerFactory entityManagerFactory) {
+        this.replicaPool = replicaPool;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * @return whether the current read-only transaction was pinned to a replica, or {@code null} outside of one
+     */
+    static Boolean pinnedRoute() {
+        return (Boolean) TransactionSynchronizationManager.getResource(ROUTE_KEY);
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isNewTransaction() || !transaction.isReadOnly()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        boolean replica = replicaPool.routesToReplica();
+        TransactionSynchronizationManager.bindResource(ROUTE_KEY, replica);
+
+        Session session = replica ? currentSession() : null;
+        CacheMode previous = session != null ? session.getCacheMode() : null;
+        if (session != null) {
+            session.setCacheMode(CacheMode.GET);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ROUTE_KEY);
+                // The session outlives the transaction when the caller bound it, as a test or batch job may
+                if (session != null && session.isOpen()) {
+                    session.setCacheMode(previous);
+                }
+            }
+        });
+    }
+
+    private Session currentSession() {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        return entityManager != null ? entityManager.unwrap(Session.class) : null;
+    }
+}
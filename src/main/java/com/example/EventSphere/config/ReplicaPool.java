@@ -0,0 +1,191 @@
+package com.example.EventSphere.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The primary pool and the read replica pools. Read-only connections are handed out round-robin from the replicas
+ * that passed their last health check; when none did, or {@link ReadYourWrites} asks for it, they come from the
+ * primary instead. A replica that fails to hand out a connection is taken out of rotation until the next check.
+ */
+public class ReplicaPool implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaPool.class);
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final Duration maxLag;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+
+    ReplicaPool(HikariDataSource primary, List<HikariDataSource> replicas, ReadYourWrites readYourWrites, Duration maxLag,
+                MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.readYourWrites = readYourWrites;
+        this.maxLag = maxLag;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("eventsphere.datasource.replicas.healthy", this.replicas,
+            list -> list.stream().filter(Replica::isHealthy).count());
+    }
+
+    DataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * The data source for read-only transactions.
+     */
+    DataSource readOnlyDataSource() {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return readConnection(null, null);
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return readConnection(username, password);
+            }
+        };
+    }
+
+    /**
+     * Whether a read-only transaction starting now is going to read from a replica. {@link ReplicaCacheMode} asks at
+     * the start of the transaction and pins the answer, so the data source and the second-level cache agree on it.
+     */
+    boolean routesToReplica() {
+        return !readYourWrites.requiresPrimary() && replicas.stream().anyMatch(Replica::isHealthy);
+    }
+
+    private Connection readConnection(String username, String password) throws SQLException {
+        if (readYourWrites.requiresPrimary()) {
+            return primaryConnection("read-your-writes", username, password);
+        }
+        // The transaction started with replicas out of reach and may already share cached entities with the primary
+        if (Boolean.FALSE.equals(ReplicaCacheMode.pinnedRoute())) {
+            return primaryConnection("no-healthy-replica", username, password);
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            if (!replica.isHealthy()) {
+                continue;
+            }
+            try {
+                Connection connection = connect(replica.dataSource, username, password);
+                meterRegistry.counter("eventsphere.datasource.reads", "target", replica.name(), "reason", "replica").increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+        return primaryConnection("no-healthy-replica", username, password);
+    }
+
+    private Connection primaryConnection(String reason, String username, String password) throws SQLException {
+        meterRegistry.counter("eventsphere.datasource.reads", "target", "primary", "reason", reason).increment();
+        return connect(primary, username, password);
+    }
+
+    // Replica pools share the primary's credentials, so asking for those is the same as asking for a pooled connection;
+    // Hikari rejects any others with an SQLException
+    private static Connection connect(HikariDataSource dataSource, String username, String password) throws SQLException {
+        if (username == null || (username.equals(dataSource.getUsername()) && Objects.equals(password, dataSource.getPassword()))) {
+            return dataSource.getConnection();
+        }
+        return dataSource.getConnection(username, password);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(2)) {
+                    replica.markDown("connection is not valid");
+                } else if (maxLag.isZero() || withinMaxLag(connection, replica)) {
+                    replica.markUp();
+                }
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+
+    // Seconds_Behind_Source is NULL while replication is stopped, which counts as lagging
+    private boolean withinMaxLag(Connection connection, Replica replica) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                replica.markDown("not configured as a replica");
+                return false;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            if (rs.wasNull()) {
+                replica.markDown("replication is stopped");
+                return false;
+            }
+            if (lag > maxLag.toSeconds()) {
+                replica.markDown("replication lag " + lag + "s");
+                return false;
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private String name() {
+            return dataSource.getPoolName();
+        }
+
+        private boolean isHealthy() {
+            return healthy;
+        }
+
+        private void markDown(String reason) {
+            if (healthy) {
+                logger.warn("Replica {} taken out of rotation: {}", name(), reason);
+            }
+            healthy = false;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                logger.info("Replica {} back in rotation", name());
+            }
+            healthy = true;
+        }
+    }
+}
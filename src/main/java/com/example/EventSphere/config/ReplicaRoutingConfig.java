@@ -0,0 +1,82 @@
+package com.example.EventSphere.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Read/write splitting. Replaces the auto-configured data source with one that defers opening a connection until
+ * the first statement, by which time the transaction has marked it read-only or not: read-only transactions are
+ * served by {@link ReplicaPool}, everything else by the primary. Enable with {@code app.datasource.replicas.enabled}
+ * and a comma-separated list of {@code app.datasource.replicas.urls}; replicas use the primary's credentials.
+ * Replica reads never populate the second-level cache; see {@link ReplicaCacheMode}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReplicaPool replicaPool(DataSourceProperties properties, Environment environment, ReadYourWrites readYourWrites,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.datasource.replicas.urls:}") String urls,
+                                   @Value("${app.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+                                   @Value("${app.datasource.replicas.max-lag:0s}") Duration maxLag) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        // The spring.datasource.hikari.* settings still apply to the primary pool
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (!StringUtils.hasText(primary.getPoolName())) {
+            primary.setPoolName("primary");
+        }
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : StringUtils.commaDelimitedListToStringArray(urls)) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(url.trim())
+                .build();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("app.datasource.replicas.enabled is set but app.datasource.replicas.urls is empty");
+        }
+        return new ReplicaPool(primary, replicas, readYourWrites, maxLag, meterRegistry);
+    }
+
+    // Picked up by the auto-configured transaction manager like any TransactionExecutionListener bean
+    @Bean
+    public ReplicaCacheMode replicaCacheMode(ReplicaPool replicaPool, EntityManagerFactory entityManagerFactory) {
+        return new ReplicaCacheMode(replicaPool, entityManagerFactory);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaPool replicaPool) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(replicaPool.getPrimary());
+        dataSource.setReadOnlyDataSource(replicaPool.readOnlyDataSource());
+        return dataSource;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.EventSphere.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails startup when the live schema lacks an index the repository queries depend on, for example because a
+ * migration was skipped or an index was dropped by hand. Indexes are compared by table, columns and uniqueness;
+ * names may differ on databases that were created by Hibernate. Unexpected indexes are only logged.
+ */
+@Component
+@DependsOn("flywayInitializer")
+public class SchemaIndexVerifier implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaIndexVerifier.class);
+
+    static final List<ExpectedIndex> EXPECTED_INDEXES = List.of(
+        ExpectedIndex.unique("users", "email"),
+        ExpectedIndex.of("users", "role"),
+        ExpectedIndex.unique("admins", "email"),
+        ExpectedIndex.of("events", "is_active", "date_time"),
+        ExpectedIndex.of("events", "is_active", "category"),
+        ExpectedIndex.of("events", "end_date_time"),
+        ExpectedIndex.of("events", "organizer_id"),
+        ExpectedIndex.of("rsvps", "event_id", "status"),
+        ExpectedIndex.of("rsvps", "user_id", "status"),
+        ExpectedIndex.of("volunteers", "event_id", "status"),
+        ExpectedIndex.of("volunteers", "user_id", "status"),
+        ExpectedIndex.unique("subscriptions", "type", "topic_key", "user_id"),
+        ExpectedIndex.of("subscriptions", "user_id"),
+        ExpectedIndex.unique("password_reset_tokens", "token_hash"),
+        ExpectedIndex.of("password_reset_tokens", "expires_at"),
+        ExpectedIndex.of("password_reset_tokens", "user_id"),
+        ExpectedIndex.of("email_outbox", "status", "next_attempt_at"),
+        ExpectedIndex.of("export_jobs", "updated_at"),
+        ExpectedIndex.of("archived_events", "organizer_id", "end_date_time"),
+        ExpectedIndex.of("archived_rsvps", "event_id"),
+        ExpectedIndex.of("archived_rsvps", "user_id"),
+        ExpectedIndex.of("archived_volunteers", "event_id"),
+        ExpectedIndex.of("archived_volunteers", "user_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.schema.verify-indexes:true}")
+    private boolean enabled;
+
+    public SchemaIndexVerifier(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+
+        Map<String, Map<String, LiveIndex>> live = readIndexes();
+        List<ExpectedIndex> missing = new ArrayList<>();
+        for (ExpectedIndex expected : EXPECTED_INDEXES) {
+            boolean present = live.getOrDefault(expected.table(), Map.of()).values().stream()
+                .anyMatch(index -> index.columns().equals(expected.columns()) && index.unique() == expected.unique());
+            if (!present) {
+                missing.add(expected);
+            }
+        }
+
+        live.forEach((table, indexes) -> indexes.forEach((name, index) -> {
+            List<ExpectedIndex> forTable = EXPECTED_INDEXES.stream().filter(expected -> expected.table().equals(table)).toList();
+            boolean known = forTable.isEmpty() || "PRIMARY".equals(name)
+                || forTable.stream().anyMatch(expected -> expected.covers(index.columns()));
+            if (!known) {
+                logger.warn("Unexpected index {} on {}({})", name, table, String.join(", ", index.columns()));
+            }
+        }));
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Database schema is missing expected indexes: " + missing
+                + ". Run the pending migrations or set app.schema.verify-indexes=false to start anyway.");
+        }
+        logger.info("Verified {} expected indexes", EXPECTED_INDEXES.size());
+    }
+
+    private Map<String, Map<String, LiveIndex>> readIndexes() {
+        Map<String, Map<String, LiveIndex>> indexes = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT TABLE_NAME, INDEX_NAME, NON_UNIQUE, COLUMN_NAME FROM information_schema.STATISTICS "
+                + "WHERE TABLE_SCHEMA = DATABASE() ORDER BY TABLE_NAME, INDEX_NAME, SEQ_IN_INDEX", rs -> {
+            String table = rs.getString("TABLE_NAME").toLowerCase();
+            boolean unique = rs.getInt("NON_UNIQUE") == 0;
+            LiveIndex index = indexes.computeIfAbsent(table, key -> new LinkedHashMap<>())
+                .computeIfAbsent(rs.getString("INDEX_NAME"), key -> new LiveIndex(new ArrayList<>(), unique));
+            index.columns().add(rs.getString("COLUMN_NAME").toLowerCase());
+        });
+        return indexes;
+    }
+
+    record ExpectedIndex(String table, List<String> columns, boolean unique) {
+
+        static ExpectedIndex of(String table, String... columns) {
+            return new ExpectedIndex(table, List.of(columns), false);
+        }
+
+        static ExpectedIndex unique(String table, String... columns) {
+            return new ExpectedIndex(table, List.of(columns), true);
+        }
+
+        // Indexes MySQL created for a foreign key are fine when they are a prefix of an expected index
+        boolean covers(List<String> indexColumns) {
+            return indexColumns.size() <= columns.size() && columns.subList(0, indexColumns.size()).equals(indexColumns);
+        }
+
+        @Override
+        public String toString() {
+            return (unique ? "unique " : "") + table + "(" + String.join(", ", columns) + ")";
+        }
+    }
+
+    private record LiveIndex(List<String> columns, boolean unique) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.EventSphere.config;
+
+import java.util.Map;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records the statements each service method issues, including those of nested service calls, and logs statement
+ * shapes it repeats. Only active on threads that are already inside an inspection scope, such as a web request.
+ */
+class ServiceQueryStatsInterceptor implements MethodInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceQueryStatsInterceptor.class);
+
+    // Resolved lazily: the advisor is created before the meter registry exists
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int repeatThreshold;
+
+    ServiceQueryStatsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!QueryInspector.isActive()) {
+            return invocation.proceed();
+        }
+
+        QueryStats stats = QueryInspector.open();
+        try {
+            return invocation.proceed();
+        } finally {
+            QueryInspector.close(stats);
+            if (stats.getQueries() > 0) {
+                record(invocation, stats);
+            }
+        }
+    }
+
+    private void record(MethodInvocation invocation, QueryStats stats) {
+        String method = invocation.getMethod().getDeclaringClass().getSimpleName() + "." + invocation.getMethod().getName();
+        DistributionSummary.builder("eventsphere.sql.method.queries")
+            .description("Statements executed per service method call")
+            .tag("method", method)
+            .register(meterRegistry.getObject())
+            .record(stats.getQueries());
+
+        Map<String, Integer> repeated = stats.repeatedShapes(repeatThreshold);
+        repeated.forEach((shape, count) ->
+            logger.debug("{} repeated {} times: {}", method, count, shape));
+    }
+}
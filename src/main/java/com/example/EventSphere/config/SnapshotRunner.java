@@ -0,0 +1,66 @@
+package com.example.EventSphere.config;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.example.EventSphere.service.DatabaseSnapshotService;
+import com.example.EventSphere.service.DatabaseSnapshotService.TableStats;
+
+/**
+ * Runs a snapshot export or restore when started with {@code --app.snapshot.mode=export|restore --app.snapshot.dir=...}
+ * and shuts the application down afterwards. Runs before the other startup runners so a restore sees an empty database.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SnapshotRunner implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotRunner.class);
+
+    private final DatabaseSnapshotService snapshotService;
+    private final ApplicationContext applicationContext;
+
+    @Value("${app.snapshot.mode:}")
+    private String mode;
+
+    @Value("${app.snapshot.dir:}")
+    private String directory;
+
+    public SnapshotRunner(DatabaseSnapshotService snapshotService, ApplicationContext applicationContext) {
+        this.snapshotService = snapshotService;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (!StringUtils.hasText(mode)) {
+            return;
+        }
+        if (!StringUtils.hasText(directory)) {
+            throw new IllegalArgumentException("app.snapshot.dir is required for snapshot " + mode);
+        }
+
+        Path path = Path.of(directory);
+        long start = System.nanoTime();
+        List<TableStats> stats = switch (mode) {
+            case "export" -> snapshotService.exportSnapshot(path);
+            case "restore" -> snapshotService.restoreSnapshot(path);
+            default -> throw new IllegalArgumentException("Unknown app.snapshot.mode: " + mode);
+        };
+
+        TableStats total = new TableStats("total", stats.stream().mapToLong(TableStats::rows).sum(), System.nanoTime() - start);
+        logger.info("Snapshot {} of {} finished. {}", mode, path, total);
+
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+}
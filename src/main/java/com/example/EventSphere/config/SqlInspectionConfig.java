@@ -0,0 +1,66 @@
+package com.example.EventSphere.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Statement inspection: the data source reports each statement, and requests and service methods open scopes that
+ * collect them. Disable with {@code app.sql-inspection.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-inspection.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInspectionConfig {
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Outermost filter, so statements issued by the security chain are counted too
+    @Bean
+    public FilterRegistrationBean<QueryInspectionFilter> queryInspectionFilter(MeterRegistry meterRegistry,
+                                                                               @Value("${app.sql-inspection.repeat-threshold:5}") int repeatThreshold,
+                                                                               @Value("${app.sql-inspection.server-timing:true}") boolean serverTiming,
+                                                                               @Value("${app.sql-inspection.budgets:}") String budgets,
+                                                                               @Value("${app.sql-inspection.enforce-budgets:false}") boolean enforceBudgets) {
+        QueryBudgets queryBudgets = new QueryBudgets(QueryBudgets.parse(budgets), enforceBudgets, meterRegistry);
+        FilterRegistrationBean<QueryInspectionFilter> registration =
+            new FilterRegistrationBean<>(new QueryInspectionFilter(meterRegistry, queryBudgets, repeatThreshold, serverTiming));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceQueryStatsAdvisor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                   @Value("${app.sql-inspection.repeat-threshold:5}") int repeatThreshold) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Service.class, true),
+            new ServiceQueryStatsInterceptor(meterRegistry, repeatThreshold));
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return advisor;
+    }
+}
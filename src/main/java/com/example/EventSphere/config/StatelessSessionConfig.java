@@ -0,0 +1,39 @@
+package com.example.EventSphere.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.FlashMapManager;
+
+import com.example.EventSphere.service.CustomAdminDetailsService;
+import com.example.EventSphere.service.CustomUserDetailsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+public class StatelessSessionConfig {
+
+    @Bean
+    public StatelessSessions statelessSessions(CustomUserDetailsService userDetailsService,
+                                               CustomAdminDetailsService adminDetailsService,
+                                               @Value("${app.security.stateless.enabled:false}") boolean enabled,
+                                               @Value("${app.security.stateless.keys:}") String keys,
+                                               @Value("${app.security.stateless.max-age:8h}") Duration maxAge) {
+        if (!enabled) {
+            return new StatelessSessions(false, null, null);
+        }
+        CookieCipher cipher = CookieCipher.fromKeys(keys);
+        return new StatelessSessions(true, cipher, new CookieSecurityContextRepository(
+            cipher, StatelessSessions.AUTH_COOKIE_NAME, maxAge, userDetailsService, adminDetailsService));
+    }
+
+    // Replaces the session-backed flash map manager so redirect messages work without sticky sessions
+    @Bean(name = DispatcherServlet.FLASH_MAP_MANAGER_BEAN_NAME)
+    @ConditionalOnProperty(name = "app.security.stateless.enabled", havingValue = "true")
+    public FlashMapManager flashMapManager(StatelessSessions statelessSessions, ObjectMapper objectMapper) {
+        return new CookieFlashMapManager(statelessSessions.cipher(), objectMapper);
+    }
+}
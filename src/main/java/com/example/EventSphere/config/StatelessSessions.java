@@ -0,0 +1,66 @@
+package com.example.EventSphere.config;
+
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.savedrequest.CookieRequestCache;
+
+/**
+ * Optional session-free mode for running several nodes behind a plain round-robin balancer.
+ * When enabled, the chains keep the principal in an encrypted cookie, the CSRF token in a cookie and the
+ * post-login redirect target in a cookie, and never create an HTTP session.
+ * Both chains share these cookies, just as they share the session in the default mode.
+ */
+public class StatelessSessions {
+
+    static final String AUTH_COOKIE_NAME = "ES_AUTH";
+
+    private final boolean enabled;
+    private final CookieCipher cipher;
+    private final CookieSecurityContextRepository securityContextRepository;
+    private final CookieCsrfTokenRepository csrfTokenRepository = new CookieCsrfTokenRepository();
+
+    StatelessSessions(boolean enabled, CookieCipher cipher, CookieSecurityContextRepository securityContextRepository) {
+        this.enabled = enabled;
+        this.cipher = cipher;
+        this.securityContextRepository = securityContextRepository;
+        this.csrfTokenRepository.setCookiePath("/");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    CookieCipher cipher() {
+        return cipher;
+    }
+
+    /**
+     * Switches {@code http} to cookie-based state if stateless mode is enabled.
+     *
+     * @return {@code false} if the chain should keep using HTTP sessions
+     */
+    public boolean apply(HttpSecurity http) throws Exception {
+        if (!enabled) {
+            return false;
+        }
+
+        http
+            .securityContext(context -> context
+                .securityContextRepository(securityContextRepository)
+            )
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .requestCache(cache -> cache
+                .requestCache(new CookieRequestCache())
+            )
+            .csrf(csrf -> csrf
+                .csrfTokenRepository(csrfTokenRepository)
+            )
+            .logout(logout -> logout
+                .deleteCookies(AUTH_COOKIE_NAME)
+            );
+        return true;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.EventSphere.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+/**
+ * Serves the application's CSS and JavaScript under content-hashed URLs ({@code /css/style-<md5>.css}) so browsers
+ * can keep them for a year without revalidating. Templates link assets with {@code @{/css/style.css}}, which the
+ * encoding filter rewrites to the current hashed URL. The build minifies the assets and writes gzipped copies
+ * next to them, which are sent as-is to clients that accept gzip.
+ */
+@Configuration
+public class StaticAssetConfig implements WebMvcConfigurer {
+
+    private final Duration maxAge;
+
+    public StaticAssetConfig(@Value("${app.static-assets.max-age:365d}") Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : new String[] {"css", "js"}) {
+            addAssetHandler(registry, directory);
+        }
+    }
+
+    // Only hashed URLs are linked from the templates, so the long lifetime never pins an outdated asset
+    private void addAssetHandler(ResourceHandlerRegistry registry, String directory) {
+        registry.addResourceHandler("/" + directory + "/**")
+            .addResourceLocations("classpath:/static/" + directory + "/")
+            .setCacheControl(CacheControl.maxAge(maxAge).cachePublic().immutable())
+            .setUseLastModified(false)
+            .resourceChain(true)
+            .addResolver(new EncodedResourceResolver())
+            .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.EventSphere.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Keyed token buckets with a bounded memory footprint.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} holding the theoretical arrival time of the next request
+ * (the GCRA form of a token bucket), updated with compare-and-set, so checks never take a lock. Buckets live in
+ * a size-bounded Caffeine map whose lock striping keeps unrelated keys from contending. A bucket idle for longer
+ * than the longest period is full again, so expiring it after that long loses no state.
+ */
+class TokenBuckets {
+
+    private static final long ORIGIN = System.nanoTime();
+
+    private final Cache<String, AtomicLong> buckets;
+
+    TokenBuckets(long maximumKeys, Duration idleExpiry) {
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maximumKeys)
+            .expireAfterAccess(idleExpiry)
+            .build();
+    }
+
+    /**
+     * Takes one token from the bucket for {@code key}.
+     *
+     * @return 0 if the request is allowed, otherwise the nanoseconds until a token becomes available
+     */
+    long tryAcquire(String key, Limit limit) {
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong());
+        long interval = limit.intervalNanos();
+        long tolerance = limit.period().toNanos() - interval;
+        while (true) {
+            long now = System.nanoTime() - ORIGIN;
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now);
+            long wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    long size() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * {@code capacity} requests per {@code period}, written as {@code "20/1m"}.
+     */
+    record Limit(int capacity, Duration period) {
+
+        static Limit parse(String value) {
+            int slash = value.indexOf('/');
+            if (slash < 0) {
+                throw new IllegalArgumentException("Rate limit must look like <requests>/<period>, e.g. 20/1m: " + value);
+            }
+            int capacity = Integer.parseInt(value.substring(0, slash).trim());
+            Duration period = DurationStyle.detectAndParse(value.substring(slash + 1).trim());
+            if (capacity <= 0 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("Rate limit must be positive: " + value);
+            }
+            return new Limit(capacity, period);
+        }
+
+        long intervalNanos() {
+            return period.toNanos() / capacity;
+        }
+    }
+}
@@ -3,12 +3,15 @@ package com.example.EventSphere.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
 
 import com.example.EventSphere.service.CustomUserDetailsService;
 
@@ -17,16 +20,22 @@ import com.example.EventSphere.service.CustomUserDetailsService;
 public class UserSecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    private final StatelessSessions statelessSessions;
 
-    public UserSecurityConfig(CustomUserDetailsService userDetailsService) {
+    public UserSecurityConfig(CustomUserDetailsService userDetailsService, PasswordEncoder passwordEncoder,
+                              StatelessSessions statelessSessions) {
         this.userDetailsService = userDetailsService;
+        this.passwordEncoder = passwordEncoder;
+        this.statelessSessions = statelessSessions;
     }
 
     @Bean
     public SecurityFilterChain userFilterChain(HttpSecurity http) throws Exception {
         http
             .authorizeHttpRequests(authz -> authz
-                .requestMatchers("/", "/events", "/events/{id}", "/register", "/register-organizer", "/user/register", "/user/register-organizer", "/login", "/css/**", "/js/**", "/images/**").permitAll()
+                .requestMatchers("/", "/events", "/events/{id}", "/events/{id}/seats", "/register", "/register-organizer", "/user/register", "/user/register-organizer", "/login", "/css/**", "/js/**", "/images/**").permitAll()
+                .requestMatchers("/api/v1/events", "/api/v1/events/{id}").permitAll()
                 .requestMatchers("/organizer/**").hasAnyRole("ORGANIZER", "ADMIN")
                 .requestMatchers("/events/create", "/events/{id}/edit", "/events/{id}/rsvp", "/events/{id}/volunteer").authenticated()
                 .requestMatchers("/user/profile", "/user/update-profile").hasAnyRole("USER", "ORGANIZER", "ADMIN")
@@ -46,18 +55,30 @@ public class UserSecurityConfig {
                 .clearAuthentication(true)
                 .permitAll()
             )
-            .sessionManagement(session -> session
+            // API clients get a 401 instead of a redirect to the login page
+            .exceptionHandling(exceptions -> exceptions
+                .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                    PathPatternRequestMatcher.withDefaults().matcher("/api/**"))
+            )
+            .authenticationProvider(userAuthenticationProvider());
+
+        if (!statelessSessions.apply(http)) {
+            http.sessionManagement(session -> session
                 .maximumSessions(1)
                 .maxSessionsPreventsLogin(false)
-            )
-            .userDetailsService(userDetailsService);
+            );
+        }
 
         return http.build();
     }
 
+    // Rehashes the stored password on login when its BCrypt cost differs from the calibrated one
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public DaoAuthenticationProvider userAuthenticationProvider() {
+        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
+        authProvider.setUserDetailsPasswordService(userDetailsService);
+        authProvider.setPasswordEncoder(passwordEncoder);
+        return authProvider;
     }
 
     @Bean
@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -12,10 +14,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.ExportJob;
 import com.example.EventSphere.model.User;
+import com.example.EventSphere.service.EventArchiveService;
+import com.example.EventSphere.service.EventExportService;
 import com.example.EventSphere.service.EventService;
 import com.example.EventSphere.service.UserService;
 
@@ -25,10 +31,15 @@ public class AdminController {
     
     private final UserService userService;
     private final EventService eventService;
+    private final EventExportService exportService;
+    private final EventArchiveService archiveService;
     
-    public AdminController(UserService userService, EventService eventService) {
+    public AdminController(UserService userService, EventService eventService, EventExportService exportService,
+                           EventArchiveService archiveService) {
         this.userService = userService;
         this.eventService = eventService;
+        this.exportService = exportService;
+        this.archiveService = archiveService;
     }
     
     @GetMapping("/login")
@@ -189,6 +200,40 @@ public class AdminController {
         return "redirect:/admin/events";
     }
 
+    // Participant and volunteer CSVs for the selected events, in one ZIP
+    @PostMapping("/exports")
+    public ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(name = "eventIds", required = false) List<Long> eventIds,
+                                                              @RequestParam(name = "mode", defaultValue = "download") String mode,
+                                                              Authentication authentication) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        List<Event> events = eventService.getEventsByIds(eventIds);
+        return ExportResponses.export(exportService, events, mode, adminOwnerKey(authentication), "events", "/admin/exports");
+    }
+    
+    @GetMapping("/exports/{jobId}")
+    public String exportStatus(@PathVariable String jobId, Model model, Authentication authentication) {
+        ExportJob job = exportService.findJob(jobId, adminOwnerKey(authentication))
+            .orElseThrow(() -> new RuntimeException("Export not found"));
+        model.addAttribute("job", job);
+        model.addAttribute("downloadUrl", "/admin/exports/" + jobId + "/download");
+        model.addAttribute("backUrl", "/admin/events");
+        return "export-status";
+    }
+    
+    @GetMapping("/exports/{jobId}/download")
+    public ResponseEntity<Resource> downloadExport(@PathVariable String jobId, Authentication authentication) {
+        return exportService.findJob(jobId, adminOwnerKey(authentication))
+            .map(job -> ExportResponses.download(exportService, job))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+    
+    private String adminOwnerKey(Authentication authentication) {
+        return "admin:" + authentication.getName();
+    }
+
     @PostMapping("/users/{userId}/delete")
     public String deleteUser(@PathVariable Long userId, RedirectAttributes redirectAttributes) {
         try {
@@ -239,6 +284,7 @@ public class AdminController {
         model.addAttribute("totalEvents", totalEvents);
         model.addAttribute("activeEvents", activeEvents);
         model.addAttribute("upcomingEvents", upcomingEvents);
+        model.addAttribute("archive", archiveService.getTotals());
         
         return "admin/reports";
     }
@@ -0,0 +1,66 @@
+package com.example.EventSphere.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.RSVP;
+
+/**
+ * Opaque pagination cursors of the JSON API. A cursor is the sort key of the last item of a page, so the next
+ * page is a keyset query that stays correct when rows are added or removed in between.
+ */
+final class ApiCursors {
+
+    private ApiCursors() {
+    }
+
+    record EventPosition(LocalDateTime dateTime, Long eventId) {
+    }
+
+    static String after(Event event) {
+        return encode(event.getDateTime() + "|" + event.getEventId());
+    }
+
+    static String after(RSVP rsvp) {
+        return encode(String.valueOf(rsvp.getRsvpId()));
+    }
+
+    /**
+     * @return the position after which the next page starts, with null fields for the first page
+     * @throws IllegalArgumentException if the cursor was not issued by this API
+     */
+    static EventPosition eventPosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new EventPosition(null, null);
+        }
+        String[] parts = decode(cursor).split("\\|", 2);
+        try {
+            return new EventPosition(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (DateTimeParseException | ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    static Long rsvpPosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(decode(cursor));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static String encode(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        // Base64 decoding failures are IllegalArgumentExceptions already
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.EventSphere.controller;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The JSON fields an API resource offers, and the selection a client asks for with {@code fields=title,startsAt}.
+ * Responses list the selected fields in declaration order; without the parameter the defaults are returned.
+ */
+final class ApiFieldSet<T> {
+
+    private final Map<String, Function<T, Object>> fields = new LinkedHashMap<>();
+    private final List<String> defaults;
+
+    ApiFieldSet(List<String> defaults) {
+        this.defaults = defaults;
+    }
+
+    ApiFieldSet<T> field(String name, Function<T, Object> value) {
+        fields.put(name, value);
+        return this;
+    }
+
+    /**
+     * Parses a comma-separated {@code fields} parameter.
+     *
+     * @throws IllegalArgumentException if it names a field the resource does not have
+     */
+    Set<String> select(String fieldsParam) {
+        List<String> requested = fieldsParam == null || fieldsParam.isBlank()
+            ? defaults
+            : List.of(fieldsParam.split(","));
+        Set<String> wanted = new LinkedHashSet<>();
+        for (String name : requested) {
+            String trimmed = name.trim();
+            if (!fields.containsKey(trimmed)) {
+                throw new IllegalArgumentException("Unknown field '" + trimmed + "'; available: " + String.join(",", fields.keySet()));
+            }
+            wanted.add(trimmed);
+        }
+        Set<String> selected = new LinkedHashSet<>(fields.keySet());
+        selected.retainAll(wanted);
+        return selected;
+    }
+
+    Map<String, Object> project(T item, Set<String> selected) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        for (String name : selected) {
+            json.put(name, fields.get(name).apply(item));
+        }
+        return json;
+    }
+}
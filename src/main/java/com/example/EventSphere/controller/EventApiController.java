@@ -0,0 +1,154 @@
+package com.example.EventSphere.controller;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.EventSphere.controller.ApiCursors.EventPosition;
+import com.example.EventSphere.model.AuthenticatedUser;
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.RSVP;
+import com.example.EventSphere.service.EventService;
+import com.example.EventSphere.service.RSVPService;
+
+/**
+ * Read-only JSON API for the mobile app and kiosk displays. Every list call runs a fixed number of queries: one
+ * keyset page query with the joined rows it needs, plus one grouped count when seat counts are requested.
+ * Responses get a weak ETag from the API filter, so clients revalidate with If-None-Match.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class EventApiController {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private static final ApiFieldSet<EventRow> EVENT_FIELDS = new ApiFieldSet<EventRow>(
+            List.of("id", "title", "category", "location", "startsAt", "endsAt", "participants", "maxParticipants"))
+        .field("id", eventField(Event::getEventId))
+        .field("title", eventField(Event::getTitle))
+        .field("description", eventField(Event::getDescription))
+        .field("category", eventField(Event::getCategory))
+        .field("location", eventField(Event::getLocation))
+        .field("startsAt", eventField(Event::getDateTime))
+        .field("endsAt", eventField(Event::getEndDateTime))
+        .field("registrationDeadline", eventField(Event::getRegistrationDeadline))
+        .field("participationType", eventField(Event::getParticipationType))
+        .field("requiresApproval", eventField(Event::getRequiresApproval))
+        .field("participants", EventRow::participants)
+        .field("maxParticipants", eventField(Event::getMaxParticipants))
+        .field("organizer", eventField(e -> e.getOrganizer().getName()));
+
+    private static final ApiFieldSet<RSVP> RSVP_FIELDS = new ApiFieldSet<RSVP>(
+            List.of("id", "eventId", "eventTitle", "startsAt", "status"))
+        .field("id", RSVP::getRsvpId)
+        .field("eventId", rsvp -> rsvp.getEvent().getEventId())
+        .field("eventTitle", rsvp -> rsvp.getEvent().getTitle())
+        .field("startsAt", rsvp -> rsvp.getEvent().getDateTime())
+        .field("location", rsvp -> rsvp.getEvent().getLocation())
+        .field("status", RSVP::getStatus)
+        .field("rsvpDate", RSVP::getRsvpDate)
+        .field("teamName", RSVP::getTeamName)
+        .field("teamSize", RSVP::getTeamSize);
+
+    private final EventService eventService;
+    private final RSVPService rsvpService;
+
+    public EventApiController(EventService eventService, RSVPService rsvpService) {
+        this.eventService = eventService;
+        this.rsvpService = rsvpService;
+    }
+
+    @GetMapping("/events")
+    public ResponseEntity<Map<String, Object>> events(@RequestParam(required = false) String category,
+                                                      @RequestParam(required = false) String fields,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        Set<String> selected = EVENT_FIELDS.select(fields);
+        Event.Category eventCategory = category == null || category.isBlank() ? null : Event.Category.valueOf(category.toUpperCase());
+        EventPosition after = ApiCursors.eventPosition(cursor);
+        int pageSize = Math.clamp(limit, 1, MAX_LIMIT);
+
+        // One extra row tells whether another page follows
+        List<Event> rows = eventService.getUpcomingEventsPage(eventCategory, after.dateTime(), after.eventId(), pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<Event> events = hasMore ? rows.subList(0, pageSize) : rows;
+
+        Map<Long, Long> going = selected.contains("participants")
+            ? rsvpService.getGoingCounts(events.stream().map(Event::getEventId).toList())
+            : Map.of();
+        List<Map<String, Object>> data = events.stream()
+            .map(e -> EVENT_FIELDS.project(new EventRow(e, going.getOrDefault(e.getEventId(), 0L)), selected))
+            .toList();
+
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .body(page(data, hasMore ? ApiCursors.after(events.getLast()) : null));
+    }
+
+    @GetMapping("/events/{eventId}")
+    public ResponseEntity<Map<String, Object>> event(@PathVariable Long eventId,
+                                                     @RequestParam(required = false) String fields) {
+        Set<String> selected = EVENT_FIELDS.select(fields);
+        return eventService.findByIdWithDetails(eventId)
+            .filter(event -> Boolean.TRUE.equals(event.getActive()))
+            .map(event -> ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(EVENT_FIELDS.project(new EventRow(event, event.getCurrentParticipants()), selected)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/me/rsvps")
+    public ResponseEntity<Map<String, Object>> myRsvps(@RequestParam(required = false) String fields,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit,
+                                                       Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user) || user.isAdminAccount()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        Set<String> selected = RSVP_FIELDS.select(fields);
+        int pageSize = Math.clamp(limit, 1, MAX_LIMIT);
+
+        List<RSVP> rows = rsvpService.getUserRSVPsPage(user.getUserId(), ApiCursors.rsvpPosition(cursor), pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<RSVP> rsvps = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<Map<String, Object>> data = rsvps.stream().map(rsvp -> RSVP_FIELDS.project(rsvp, selected)).toList();
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(page(data, hasMore ? ApiCursors.after(rsvps.getLast()) : null));
+    }
+
+    // Unknown fields, categories and malformed cursors
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+    }
+
+    private static Map<String, Object> page(List<Map<String, Object>> data, String nextCursor) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("data", data);
+        body.put("nextCursor", nextCursor);
+        return body;
+    }
+
+    private static Function<EventRow, Object> eventField(Function<Event, Object> field) {
+        return row -> field.apply(row.event());
+    }
+
+    private record EventRow(Event event, long participants) {
+    }
+}
@@ -1,13 +1,14 @@
 package com.example.EventSphere.controller;
 
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
@@ -16,17 +17,27 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import com.example.EventSphere.model.Admin;
+import com.example.EventSphere.config.PageCaching;
+import com.example.EventSphere.model.AuthenticatedUser;
 import com.example.EventSphere.model.Event;
-import com.example.EventSphere.model.RSVP;
 import com.example.EventSphere.model.User;
-import com.example.EventSphere.model.Volunteer;
+import com.example.EventSphere.service.EventExportService;
+import com.example.EventSphere.service.EventFieldChange;
 import com.example.EventSphere.service.EventService;
+import com.example.EventSphere.service.PageVersionService;
+import com.example.EventSphere.service.PageVersionService.EventPageVersion;
+import com.example.EventSphere.service.ParticipantExportService;
 import com.example.EventSphere.service.RSVPService;
+import com.example.EventSphere.service.SeatAvailabilityHub;
+import com.example.EventSphere.service.UserService;
 import com.example.EventSphere.service.VolunteerService;
 
 @Controller
@@ -36,15 +47,36 @@ public class EventController {
     private final EventService eventService;
     private final RSVPService rsvpService;
     private final VolunteerService volunteerService;
+    private final ParticipantExportService exportService;
+    private final UserService userService;
+    private final PageVersionService pageVersionService;
+    private final PageCaching pageCaching;
+    private final SeatAvailabilityHub seatAvailabilityHub;
     
-    public EventController(EventService eventService, RSVPService rsvpService, VolunteerService volunteerService) {
+    public EventController(EventService eventService, RSVPService rsvpService, VolunteerService volunteerService,
+                           ParticipantExportService exportService, UserService userService,
+                           PageVersionService pageVersionService, PageCaching pageCaching,
+                           SeatAvailabilityHub seatAvailabilityHub) {
         this.eventService = eventService;
         this.rsvpService = rsvpService;
         this.volunteerService = volunteerService;
+        this.exportService = exportService;
+        this.userService = userService;
+        this.pageVersionService = pageVersionService;
+        this.pageCaching = pageCaching;
+        this.seatAvailabilityHub = seatAvailabilityHub;
     }
     
     @GetMapping("/{eventId}")
-    public String eventDetails(@PathVariable Long eventId, Model model, Authentication authentication) {
+    public String eventDetails(@PathVariable Long eventId, Model model, Authentication authentication,
+                               NativeWebRequest webRequest) {
+        // The organizer and admin views list participants, which the page version does not cover
+        Optional<EventPageVersion> pageVersion = pageVersionService.eventVersion(eventId);
+        if (pageVersion.isPresent() && !canManage(authentication, pageVersion.get().organizerId())
+                && pageCaching.notModified(webRequest, authentication, pageVersion.get().page())) {
+            return null;
+        }
+        
         Event event = eventService.findByIdWithDetails(eventId)
             .orElseThrow(() -> new RuntimeException("Event not found"));
         
@@ -57,13 +89,12 @@ public class EventController {
         if (authentication != null && authentication.isAuthenticated()) {
             Object principal = authentication.getPrincipal();
             
-            if (principal instanceof Admin) {
+            if (isAdmin(principal)) {
                 // Admin is viewing the event
                 isAdminView = true;
                 isOrganizerView = true; // Admins can see all details
                 model.addAttribute("isAdmin", true);
-            } else if (principal instanceof User) {
-                User user = (User) principal;
+            } else if (principal instanceof AuthenticatedUser user) {
                 model.addAttribute("currentUser", user);
                 model.addAttribute("isAdmin", false);
                 
@@ -88,6 +119,18 @@ public class EventController {
         return "event-details";
     }
     
+    // Live seat count for the details page; EventSource reconnects when the stream times out, and a refused
+    // stream leaves the page with the counts it was rendered with
+    @GetMapping(value = "/{eventId}/seats", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> seatUpdates(@PathVariable Long eventId) {
+        if (!seatAvailabilityHub.acceptsSubscribers()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return seatAvailabilityHub.subscribe(eventId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+    
     @GetMapping("/create")
     public String createEventForm(Model model, Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -95,8 +138,7 @@ public class EventController {
         }
         
         Object principal = authentication.getPrincipal();
-        if (principal instanceof User) {
-            User user = (User) principal;
+        if (principal instanceof AuthenticatedUser user && !user.isAdminAccount()) {
             if (user.getRole() == User.Role.USER) {
                 return "redirect:/";
             }
@@ -116,19 +158,18 @@ public class EventController {
         }
         
         Object principal = authentication.getPrincipal();
-        if (!(principal instanceof User)) {
+        if (!(principal instanceof AuthenticatedUser user) || user.isAdminAccount()) {
             redirectAttributes.addFlashAttribute("error", "Only organizers can create events.");
             return "redirect:/admin/dashboard";
         }
         
-        User user = (User) principal;
         if (user.getRole() == User.Role.USER) {
             redirectAttributes.addFlashAttribute("error", "Only organizers can create events.");
             return "redirect:/";
         }
         
         try {
-            Event savedEvent = eventService.createEvent(event, user);
+            Event savedEvent = eventService.createEvent(event, userService.getUser(user.getUserId()));
             redirectAttributes.addFlashAttribute("success", "Event created successfully!");
             return "redirect:/events/" + savedEvent.getEventId();
         } catch (Exception e) {
@@ -149,18 +190,17 @@ public class EventController {
         Object principal = authentication.getPrincipal();
         
         // Allow admins to edit events
-        if (principal instanceof Admin) {
+        if (isAdmin(principal)) {
             model.addAttribute("event", event);
             model.addAttribute("categories", Event.Category.values());
             model.addAttribute("isAdmin", true);
             return "edit-event";
         }
         
-        if (!(principal instanceof User)) {
+        if (!(principal instanceof AuthenticatedUser user)) {
             return "redirect:/admin/events";
         }
         
-        User user = (User) principal;
         if (!eventService.canUserManageEvent(event, user)) {
             return "redirect:/events/" + eventId;
         }
@@ -172,7 +212,7 @@ public class EventController {
     }
     
     @PostMapping("/{eventId}/edit")
-    public String updateEvent(@PathVariable Long eventId, @ModelAttribute Event event, Authentication authentication, RedirectAttributes redirectAttributes) {
+    public String updateEvent(@PathVariable Long eventId, @ModelAttribute Event event, Model model, Authentication authentication, RedirectAttributes redirectAttributes) {
         if (authentication == null || !authentication.isAuthenticated()) {
             return "redirect:/login";
         }
@@ -184,22 +224,25 @@ public class EventController {
         
         // Allow admins to update events
         boolean canEdit = false;
-        if (principal instanceof Admin) {
+        if (isAdmin(principal)) {
             canEdit = true;
-        } else if (principal instanceof User) {
-            User user = (User) principal;
+        } else if (principal instanceof AuthenticatedUser user) {
             canEdit = eventService.canUserManageEvent(existingEvent, user);
         }
         
         if (!canEdit) {
             redirectAttributes.addFlashAttribute("error", "You don't have permission to edit this event.");
-            if (principal instanceof Admin) {
+            if (isAdmin(principal)) {
                 return "redirect:/admin/events";
             }
             return "redirect:/events/" + eventId;
         }
         
         try {
+            // Saving with the version the form was rendered from makes a concurrent change fail the save
+            if (event.getVersion() != null) {
+                existingEvent.setVersion(event.getVersion());
+            }
             existingEvent.setTitle(event.getTitle());
             existingEvent.setDescription(event.getDescription());
             existingEvent.setCategory(event.getCategory());
@@ -213,6 +256,18 @@ public class EventController {
             eventService.updateEvent(existingEvent);
             redirectAttributes.addFlashAttribute("success", "Event updated successfully!");
             return "redirect:/events/" + eventId;
+        } catch (OptimisticLockingFailureException e) {
+            // Show what changed and keep the submitted values; the form now carries the current version,
+            // so saving again overwrites the other change knowingly
+            Event currentEvent = eventService.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+            event.setEventId(eventId);
+            event.setVersion(currentEvent.getVersion());
+            model.addAttribute("event", event);
+            model.addAttribute("conflicts", EventFieldChange.diff(event, currentEvent));
+            model.addAttribute("categories", Event.Category.values());
+            model.addAttribute("isAdmin", isAdmin(principal));
+            return "edit-event";
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "Failed to update event: " + e.getMessage());
             return "redirect:/events/" + eventId + "/edit";
@@ -232,14 +287,14 @@ public class EventController {
         }
         
         Object principal = authentication.getPrincipal();
-        if (!(principal instanceof User)) {
+        if (!(principal instanceof AuthenticatedUser account) || account.isAdminAccount()) {
             redirectAttributes.addFlashAttribute("error", "Admins cannot RSVP to events.");
             return "redirect:/events/" + eventId;
         }
         
         Event event = eventService.getEventWithDetails(eventId);
         
-        User user = (User) principal;
+        User user = userService.getUser(account.getUserId());
         
         try {
             com.example.EventSphere.model.RSVP.Status rsvpStatus = com.example.EventSphere.model.RSVP.Status.valueOf(status.toUpperCase());
@@ -288,14 +343,14 @@ public class EventController {
         }
         
         Object principal = authentication.getPrincipal();
-        if (!(principal instanceof User)) {
+        if (!(principal instanceof AuthenticatedUser account) || account.isAdminAccount()) {
             redirectAttributes.addFlashAttribute("error", "Admins cannot volunteer for events.");
             return "redirect:/events/" + eventId;
         }
         
         Event event = eventService.getEventWithDetails(eventId);
         
-        User user = (User) principal;
+        User user = userService.getUser(account.getUserId());
         
         try {
             if (eventService.isRegistrationClosed(event, LocalDateTime.now())) {
@@ -313,7 +368,9 @@ public class EventController {
     }
     
     @GetMapping("/{eventId}/participants/export")
-    public ResponseEntity<byte[]> exportParticipants(@PathVariable Long eventId, Authentication authentication) {
+    public ResponseEntity<StreamingResponseBody> exportParticipants(@PathVariable Long eventId,
+                                                                    @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                                    Authentication authentication) {
         Event event = eventService.findById(eventId)
             .orElseThrow(() -> new RuntimeException("Event not found"));
         
@@ -322,13 +379,14 @@ public class EventController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
         
-        List<RSVP> participants = rsvpService.getEventRSVPsWithUsers(event);
-        String csv = buildParticipantsCsv(event, participants);
-        return buildCsvResponse(csv, event.getTitle(), "participants");
+        boolean gzip = acceptsGzip(acceptEncoding);
+        return buildCsvResponse(out -> exportService.writeParticipantsCsv(eventId, out), gzip, event.getTitle(), "participants");
     }
     
     @GetMapping("/{eventId}/volunteers/export")
-    public ResponseEntity<byte[]> exportVolunteers(@PathVariable Long eventId, Authentication authentication) {
+    public ResponseEntity<StreamingResponseBody> exportVolunteers(@PathVariable Long eventId,
+                                                                  @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                                  Authentication authentication) {
         Event event = eventService.findById(eventId)
             .orElseThrow(() -> new RuntimeException("Event not found"));
         
@@ -337,9 +395,8 @@ public class EventController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
         
-        List<Volunteer> volunteers = volunteerService.getEventVolunteersWithUsers(event);
-        String csv = buildVolunteersCsv(event, volunteers);
-        return buildCsvResponse(csv, event.getTitle(), "volunteers");
+        boolean gzip = acceptsGzip(acceptEncoding);
+        return buildCsvResponse(out -> exportService.writeVolunteersCsv(eventId, out), gzip, event.getTitle(), "volunteers");
     }
     
     private boolean canManageEvent(Event event, Authentication authentication) {
@@ -350,73 +407,53 @@ public class EventController {
         Object principal = authentication.getPrincipal();
         
         // Admins can manage any event
-        if (principal instanceof Admin) {
+        if (isAdmin(principal)) {
             return true;
         }
         
         // Organizers can manage their own events
-        if (principal instanceof User) {
-            User user = (User) principal;
+        if (principal instanceof AuthenticatedUser user) {
             return eventService.canUserManageEvent(event, user);
         }
         
         return false;
     }
     
-    private User getAuthenticatedUser(Authentication authentication) {
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("Unauthorized access");
-        }
-        return (User) authentication.getPrincipal();
+    private boolean isAdmin(Object principal) {
+        return principal instanceof AuthenticatedUser account && account.isAdminAccount();
     }
     
-    private String buildParticipantsCsv(Event event, List<RSVP> participants) {
-        String header = "Participant Name,Email,Status,RSVP Date,Team Name,Team Size";
-        String rows = participants.stream()
-            .map(rsvp -> String.join(",",
-                safeCsv(rsvp.getUser().getName()),
-                safeCsv(rsvp.getUser().getEmail()),
-                rsvp.getStatus().name(),
-                rsvp.getRsvpDate() != null ? rsvp.getRsvpDate().toString() : "",
-                safeCsv(rsvp.getTeamName()),
-                rsvp.getTeamSize() != null ? rsvp.getTeamSize().toString() : ""))
-            .collect(Collectors.joining("\n"));
-        return header + "\n" + rows;
+    // Same rule as EventService.canUserManageEvent, from the organizer id alone
+    private boolean canManage(Authentication authentication, Long organizerId) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return false;
+        }
+        return user.isAdminAccount() || user.getRole() == User.Role.ADMIN || user.getUserId().equals(organizerId);
     }
     
-    private String buildVolunteersCsv(Event event, List<Volunteer> volunteers) {
-        String header = "Volunteer Name,Email,Status,Role Description,Registration Date";
-        String rows = volunteers.stream()
-            .map(volunteer -> String.join(",",
-                safeCsv(volunteer.getUser().getName()),
-                safeCsv(volunteer.getUser().getEmail()),
-                volunteer.getStatus().name(),
-                safeCsv(volunteer.getRoleDescription()),
-                volunteer.getRegistrationDate() != null ? volunteer.getRegistrationDate().toString() : ""))
-            .collect(Collectors.joining("\n"));
-        return header + "\n" + rows;
+    private boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
     }
     
-    private ResponseEntity<byte[]> buildCsvResponse(String csvContent, String eventTitle, String type) {
-        String sanitizedTitle = eventTitle.replaceAll("[^a-zA-Z0-9]+", "-").toLowerCase();
-        String filename = String.format("%s-%s.csv", sanitizedTitle, type);
-        byte[] csvBytes = csvContent.getBytes(StandardCharsets.UTF_8);
+    // Rows are streamed straight from the database cursor to the client, so memory stays flat for any attendee count
+    private ResponseEntity<StreamingResponseBody> buildCsvResponse(StreamingResponseBody csvBody, boolean gzip, String eventTitle, String type) {
+        String filename = String.format("%s-%s.csv", EventExportService.fileSlug(eventTitle), type);
         
         HttpHeaders headers = new HttpHeaders();
         headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename);
         headers.add(HttpHeaders.CONTENT_TYPE, "text/csv; charset=UTF-8");
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
         
-        return new ResponseEntity<>(csvBytes, headers, HttpStatus.OK);
-    }
-    
-    private String safeCsv(String value) {
-        if (value == null) {
-            return "";
+        if (!gzip) {
+            return new ResponseEntity<>(csvBody, headers, HttpStatus.OK);
         }
-        String escaped = value.replace("\"", "\"\"");
-        if (escaped.contains(",") || escaped.contains("\n") || escaped.contains("\r")) {
-            return "\"" + escaped + "\"";
-        }
-        return escaped;
+        
+        headers.add(HttpHeaders.CONTENT_ENCODING, "gzip");
+        StreamingResponseBody gzipBody = out -> {
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+            csvBody.writeTo(gzipOut);
+            gzipOut.finish();
+        };
+        return new ResponseEntity<>(gzipBody, headers, HttpStatus.OK);
     }
 }
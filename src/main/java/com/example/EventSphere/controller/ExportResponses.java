@@ -0,0 +1,64 @@
+package com.example.EventSphere.controller;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.ExportJob;
+import com.example.EventSphere.service.EventExportService;
+
+/**
+ * Response helpers shared by the organizer and admin multi-event export endpoints.
+ */
+final class ExportResponses {
+
+    static final String MODE_BACKGROUND = "background";
+
+    private ExportResponses() {
+    }
+
+    static String zipFilename(String prefix) {
+        return String.format("%s-%s.zip", prefix, LocalDate.now());
+    }
+
+    /**
+     * Streams the ZIP directly, or starts a background job and redirects to its status page.
+     */
+    static ResponseEntity<StreamingResponseBody> export(EventExportService exportService, List<Event> events, String mode,
+                                                        String owner, String filenamePrefix, String statusPath) {
+        String filename = zipFilename(filenamePrefix);
+        if (MODE_BACKGROUND.equals(mode)) {
+            ExportJob job = exportService.startExport(events, owner, filename);
+            return ResponseEntity.status(HttpStatus.SEE_OTHER)
+                .location(URI.create(statusPath + "/" + job.getId()))
+                .build();
+        }
+
+        StreamingResponseBody body = out -> exportService.writeZip(events, out);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
+            .contentType(MediaType.parseMediaType("application/zip"))
+            .body(body);
+    }
+
+    static ResponseEntity<Resource> download(EventExportService exportService, ExportJob job) {
+        if (!job.isCompleted()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return exportService.findFile(job)
+            .map(file -> ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + job.getFilename())
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .<Resource>body(new FileSystemResource(file)))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE).build());
+    }
+}
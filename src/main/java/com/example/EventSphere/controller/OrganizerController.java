@@ -0,0 +1,101 @@
+package com.example.EventSphere.controller;
+
+import java.util.List;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.EventSphere.model.AuthenticatedUser;
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.ExportJob;
+import com.example.EventSphere.service.EventArchiveService;
+import com.example.EventSphere.service.EventExportService;
+import com.example.EventSphere.service.EventService;
+
+@Controller
+@RequestMapping("/organizer")
+public class OrganizerController {
+    
+    private final EventService eventService;
+    private final EventExportService exportService;
+    private final EventArchiveService archiveService;
+    
+    public OrganizerController(EventService eventService, EventExportService exportService, EventArchiveService archiveService) {
+        this.eventService = eventService;
+        this.exportService = exportService;
+        this.archiveService = archiveService;
+    }
+    
+    // Completed events live in the archive tables, not in events
+    @GetMapping("/history")
+    public String history(Model model, Authentication authentication) {
+        AuthenticatedUser organizer = currentUser(authentication);
+        if (organizer == null) {
+            return "redirect:/login";
+        }
+        
+        model.addAttribute("events", archiveService.getOrganizerHistory(organizer.getUserId()));
+        return "organizer/history";
+    }
+    
+    // Participant and volunteer CSVs for every event the organizer runs, in one ZIP
+    @PostMapping("/exports")
+    public ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(name = "mode", defaultValue = "download") String mode,
+                                                              Authentication authentication) {
+        AuthenticatedUser organizer = currentUser(authentication);
+        if (organizer == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        List<Event> events = eventService.getEventsByOrganizerId(organizer.getUserId());
+        return ExportResponses.export(exportService, events, mode, ownerKey(organizer), "my-events", "/organizer/exports");
+    }
+    
+    @GetMapping("/exports/{jobId}")
+    public String exportStatus(@PathVariable String jobId, Model model, Authentication authentication) {
+        AuthenticatedUser organizer = currentUser(authentication);
+        if (organizer == null) {
+            return "redirect:/login";
+        }
+        
+        ExportJob job = exportService.findJob(jobId, ownerKey(organizer))
+            .orElseThrow(() -> new RuntimeException("Export not found"));
+        model.addAttribute("job", job);
+        model.addAttribute("downloadUrl", "/organizer/exports/" + jobId + "/download");
+        model.addAttribute("backUrl", "/user/profile");
+        return "export-status";
+    }
+    
+    @GetMapping("/exports/{jobId}/download")
+    public ResponseEntity<Resource> downloadExport(@PathVariable String jobId, Authentication authentication) {
+        AuthenticatedUser organizer = currentUser(authentication);
+        if (organizer == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        return exportService.findJob(jobId, ownerKey(organizer))
+            .map(job -> ExportResponses.download(exportService, job))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+    
+    private AuthenticatedUser currentUser(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user && !user.isAdminAccount()) {
+            return user;
+        }
+        return null;
+    }
+    
+    private String ownerKey(AuthenticatedUser user) {
+        return "user:" + user.getUserId();
+    }
+}
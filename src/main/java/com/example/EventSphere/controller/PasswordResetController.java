@@ -9,11 +9,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import com.example.EventSphere.model.PasswordResetToken;
 import com.example.EventSphere.model.User;
-import com.example.EventSphere.service.EmailService;
 import com.example.EventSphere.service.UserService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,11 +19,9 @@ import jakarta.servlet.http.HttpServletRequest;
 public class PasswordResetController {
 
     private final UserService userService;
-    private final EmailService emailService;
 
-    public PasswordResetController(UserService userService, EmailService emailService) {
+    public PasswordResetController(UserService userService) {
         this.userService = userService;
-        this.emailService = emailService;
     }
 
     @GetMapping("/forgot-password")
@@ -41,20 +36,12 @@ public class PasswordResetController {
         Optional<User> optionalUser = userService.findByEmail(email);
 
         if (optionalUser.isPresent()) {
-            User user = optionalUser.get();
-            PasswordResetToken token = userService.createPasswordResetToken(user);
-
             String applicationUrl = ServletUriComponentsBuilder.fromRequestUri(request)
                 .replacePath(null)
                 .build()
                 .toUriString();
 
-            String resetLink = UriComponentsBuilder.fromHttpUrl(applicationUrl)
-                .path("/reset-password")
-                .queryParam("token", token.getToken())
-                .toUriString();
-
-            emailService.sendPasswordResetEmail(user, resetLink);
+            userService.requestPasswordReset(optionalUser.get(), applicationUrl);
         }
 
         redirectAttributes.addFlashAttribute("success",
@@ -66,10 +53,7 @@ public class PasswordResetController {
     public String showResetPasswordForm(@RequestParam("token") String token,
                                         Model model,
                                         RedirectAttributes redirectAttributes) {
-        Optional<PasswordResetToken> passwordResetToken = userService.findToken(token);
-
-        if (passwordResetToken.isEmpty() || passwordResetToken.get().isExpired()) {
-            passwordResetToken.ifPresent(t -> userService.deleteToken(t.getToken()));
+        if (!userService.isPasswordResetTokenValid(token)) {
             redirectAttributes.addFlashAttribute("error",
                 "The reset link is invalid or has expired. Please request a new one.");
             return "redirect:/forgot-password";
@@ -89,19 +73,12 @@ public class PasswordResetController {
             return "redirect:/reset-password?token=" + token;
         }
 
-        Optional<PasswordResetToken> passwordResetToken = userService.findToken(token);
-
-        if (passwordResetToken.isEmpty() || passwordResetToken.get().isExpired()) {
-            passwordResetToken.ifPresent(t -> userService.deleteToken(t.getToken()));
+        if (!userService.resetPassword(token, password)) {
             redirectAttributes.addFlashAttribute("error",
                 "The reset link is invalid or has expired. Please request a new one.");
             return "redirect:/forgot-password";
         }
 
-        User user = passwordResetToken.get().getUser();
-        userService.updatePassword(user, password);
-        userService.deleteToken(token);
-
         redirectAttributes.addFlashAttribute("success",
             "Password updated successfully. You can now log in with your new password.");
         return "redirect:/login";
@@ -6,11 +6,17 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.example.EventSphere.model.AuthenticatedUser;
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.Subscription;
 import com.example.EventSphere.model.User;
+import com.example.EventSphere.service.SubscriptionService;
 import com.example.EventSphere.service.UserService;
 
 @Controller
@@ -19,10 +25,12 @@ public class UserController {
     
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
+    private final SubscriptionService subscriptionService;
     
-    public UserController(UserService userService, PasswordEncoder passwordEncoder) {
+    public UserController(UserService userService, PasswordEncoder passwordEncoder, SubscriptionService subscriptionService) {
         this.userService = userService;
         this.passwordEncoder = passwordEncoder;
+        this.subscriptionService = subscriptionService;
     }
     
     @PostMapping("/register")
@@ -56,9 +64,11 @@ public class UserController {
     public String profile(Model model, Authentication authentication) {
         if (authentication != null && authentication.isAuthenticated()) {
             Object principal = authentication.getPrincipal();
-            if (principal instanceof User) {
-                User user = (User) principal;
+            if (principal instanceof AuthenticatedUser account && !account.isAdminAccount()) {
+                User user = userService.getUser(account.getUserId());
                 model.addAttribute("user", user);
+                model.addAttribute("subscriptions", subscriptionService.getUserSubscriptions(user.getUserId()));
+                model.addAttribute("categories", Event.Category.values());
                 return "user/profile";
             } else {
                 // Admin trying to access user profile - redirect to admin dashboard
@@ -72,8 +82,8 @@ public class UserController {
     public String updateProfile(@ModelAttribute User user, Authentication authentication, RedirectAttributes redirectAttributes) {
         if (authentication != null && authentication.isAuthenticated()) {
             Object principal = authentication.getPrincipal();
-            if (principal instanceof User) {
-                User currentUser = (User) principal;
+            if (principal instanceof AuthenticatedUser account && !account.isAdminAccount()) {
+                User currentUser = userService.getUser(account.getUserId());
                 currentUser.setName(user.getName());
                 currentUser.setPhone(user.getPhone());
                 
@@ -88,4 +98,36 @@ public class UserController {
         }
         return "redirect:/login";
     }
+    
+    @PostMapping("/subscriptions")
+    public String subscribe(@RequestParam String type, @RequestParam String value,
+                            Authentication authentication, RedirectAttributes redirectAttributes) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof AuthenticatedUser account) || account.isAdminAccount()) {
+            return "redirect:/login";
+        }
+        
+        try {
+            Subscription.Type subscriptionType = Subscription.Type.valueOf(type.toUpperCase());
+            subscriptionService.subscribe(userService.getUser(account.getUserId()), subscriptionType, value);
+            redirectAttributes.addFlashAttribute("success", "You will be notified about new events for " + value.trim() + ".");
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", "Unknown subscription type.");
+        } catch (RuntimeException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        }
+        return "redirect:/user/profile";
+    }
+    
+    @PostMapping("/subscriptions/{subscriptionId}/delete")
+    public String unsubscribe(@PathVariable Long subscriptionId, Authentication authentication, RedirectAttributes redirectAttributes) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof AuthenticatedUser account) || account.isAdminAccount()) {
+            return "redirect:/login";
+        }
+        
+        subscriptionService.unsubscribe(account.getUserId(), subscriptionId);
+        redirectAttributes.addFlashAttribute("success", "Subscription removed.");
+        return "redirect:/user/profile";
+    }
 }
@@ -8,10 +8,14 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.NativeWebRequest;
 
+import com.example.EventSphere.config.PageCaching;
+import com.example.EventSphere.model.AuthenticatedUser;
 import com.example.EventSphere.model.Event;
 import com.example.EventSphere.model.User;
 import com.example.EventSphere.service.EventService;
+import com.example.EventSphere.service.PageVersionService;
 import com.example.EventSphere.service.UserService;
 
 @Controller
@@ -19,21 +23,29 @@ public class WebController {
     
     private final EventService eventService;
     private final UserService userService;
+    private final PageVersionService pageVersionService;
+    private final PageCaching pageCaching;
     
-    public WebController(EventService eventService, UserService userService) {
+    public WebController(EventService eventService, UserService userService, PageVersionService pageVersionService,
+                         PageCaching pageCaching) {
         this.eventService = eventService;
         this.userService = userService;
+        this.pageVersionService = pageVersionService;
+        this.pageCaching = pageCaching;
     }
     
     @GetMapping("/")
-    public String home(Model model, Authentication authentication) {
+    public String home(Model model, Authentication authentication, NativeWebRequest webRequest) {
+        if (pageCaching.notModified(webRequest, authentication, pageVersionService.catalogueVersion())) {
+            return null;
+        }
+        
         List<Event> upcomingEvents = eventService.getUpcomingEvents();
         model.addAttribute("events", upcomingEvents);
         
         if (authentication != null && authentication.isAuthenticated()) {
             Object principal = authentication.getPrincipal();
-            if (principal instanceof User) {
-                User user = (User) principal;
+            if (principal instanceof AuthenticatedUser user && !user.isAdminAccount()) {
                 model.addAttribute("currentUser", user);
             }
             // If admin is viewing, don't add currentUser to model
@@ -46,10 +58,15 @@ public class WebController {
     public String events(@RequestParam(required = false) String category,
                         @RequestParam(required = false) String search,
                         @RequestParam(required = false) String location,
-                        Model model, Authentication authentication) {
+                        Model model, Authentication authentication, NativeWebRequest webRequest) {
+        
+        // The listing covers every event, so one catalogue version validates any filter
+        if (pageCaching.notModified(webRequest, authentication, pageVersionService.catalogueVersion())) {
+            return null;
+        }
         
+        // Completed events are moved to the archive in the background; until then they are only filtered out here
         LocalDateTime currentTime = LocalDateTime.now();
-        eventService.deleteEventsCompletedBefore(currentTime);
         List<Event> events;
         
         if (search != null && !search.trim().isEmpty()) {
@@ -67,17 +84,17 @@ public class WebController {
             events = eventService.getAllActiveEvents();
         }
         
-        User currentUser = null;
+        AuthenticatedUser currentUser = null;
         if (authentication != null && authentication.isAuthenticated()) {
             Object principal = authentication.getPrincipal();
-            if (principal instanceof User) {
-                currentUser = (User) principal;
+            if (principal instanceof AuthenticatedUser user && !user.isAdminAccount()) {
+                currentUser = user;
                 model.addAttribute("currentUser", currentUser);
             }
         }
         
         // Filter and sort events - organizer's events first
-        final User finalCurrentUser = currentUser;
+        final AuthenticatedUser finalCurrentUser = currentUser;
         List<Event> filteredEvents = events.stream()
             .filter(event -> event.getEndDateTime() == null || !event.getEndDateTime().isBefore(currentTime))
             .sorted((e1, e2) -> {
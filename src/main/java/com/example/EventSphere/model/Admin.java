@@ -1,18 +1,16 @@
 package com.example.EventSphere.model;
 
-import java.util.Collection;
-import java.util.Collections;
-
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,14 +18,18 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "admins")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "admins")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class Admin implements UserDetails {
+public class Admin {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "admins_id")
+    @TableGenerator(name = "admins_id", table = "id_sequences", pkColumnName = "sequence_name",
+        valueColumnName = "next_val", pkColumnValue = "admins", allocationSize = 50)
     private Long adminId;
 
     @Column(nullable = false, unique = true)
@@ -45,33 +47,6 @@ public class Admin implements UserDetails {
     @Column(nullable = false)
     private boolean enabled = true;
 
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN"));
-    }
-
-    @Override
-    public String getUsername() {
-        return email;
-    }
-
-    @Override
-    public boolean isAccountNonExpired() {
-        return true;
-    }
-
-    @Override
-    public boolean isAccountNonLocked() {
-        return true;
-    }
-
-    @Override
-    public boolean isCredentialsNonExpired() {
-        return true;
-    }
-
-    @Override
-    public boolean isEnabled() {
-        return enabled;
-    }
-}
\ No newline at end of file
+    @Column(name = "credentials_version", nullable = false)
+    private long credentialsVersion = 0;
+}
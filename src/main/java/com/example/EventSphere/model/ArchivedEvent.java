@@ -0,0 +1,76 @@
+package com.example.EventSphere.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * A completed event moved out of the {@code events} table, with its participation totals. Rows are only written
+ * by the archive job through SQL, so the entity is read-only.
+ */
+@Entity
+@Table(name = "archived_events")
+@Immutable
+@Getter
+@NoArgsConstructor
+public class ArchivedEvent {
+
+    @Id
+    private Long eventId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Event.Category category;
+
+    @Column(nullable = false)
+    private String location;
+
+    @Column(nullable = false)
+    private LocalDateTime dateTime;
+
+    @Column
+    private LocalDateTime endDateTime;
+
+    @Column(nullable = false)
+    private Long organizerId;
+
+    @Column
+    private String organizerName;
+
+    @Column
+    private Integer maxParticipants;
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private ParticipationType participationType;
+
+    @Column(nullable = false)
+    private int goingCount;
+
+    @Column(nullable = false)
+    private int interestedCount;
+
+    @Column(nullable = false)
+    private int volunteerCount;
+
+    @Column
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
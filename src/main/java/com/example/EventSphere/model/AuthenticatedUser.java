@@ -0,0 +1,137 @@
+package com.example.EventSphere.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Security principal for both user and admin accounts. It only holds the fields needed for authorization,
+ * so sessions never carry a JPA entity; load the {@link User} or {@link Admin} by id when more is needed.
+ *
+ * <p>The password hash is erased once authentication completes. {@code credentialsVersion} changes whenever
+ * the password does, which lets long-lived sessions detect that their credentials are stale.
+ */
+public final class AuthenticatedUser implements UserDetails, CredentialsContainer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final User.Role role;
+    private final boolean adminAccount;
+    private final boolean enabled;
+    private final long credentialsVersion;
+    private String password;
+
+    private AuthenticatedUser(Long id, String email, String name, User.Role role, boolean adminAccount,
+                              boolean enabled, long credentialsVersion, String password) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.role = role;
+        this.adminAccount = adminAccount;
+        this.enabled = enabled;
+        this.credentialsVersion = credentialsVersion;
+        this.password = password;
+    }
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getUserId(), user.getEmail(), user.getName(), user.getRole(), false,
+            user.isEnabled(), user.getCredentialsVersion(), user.getPassword());
+    }
+
+    public static AuthenticatedUser of(Admin admin) {
+        return new AuthenticatedUser(admin.getAdminId(), admin.getEmail(), admin.getName(), User.Role.ADMIN, true,
+            admin.isEnabled(), admin.getCredentialsVersion(), admin.getPassword());
+    }
+
+    /**
+     * Copy that keeps the password hash; cached principals hand out copies because authentication erases it.
+     */
+    public AuthenticatedUser copy() {
+        return new AuthenticatedUser(id, email, name, role, adminAccount, enabled, credentialsVersion, password);
+    }
+
+    /**
+     * Id in the {@code users} table, or {@code null} for admin accounts.
+     */
+    public Long getUserId() {
+        return adminAccount ? null : id;
+    }
+
+    /**
+     * Id in the {@code admins} table, or {@code null} for user accounts.
+     */
+    public Long getAdminId() {
+        return adminAccount ? id : null;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public User.Role getRole() {
+        return role;
+    }
+
+    public boolean isAdminAccount() {
+        return adminAccount;
+    }
+
+    public long getCredentialsVersion() {
+        return credentialsVersion;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof AuthenticatedUser that && adminAccount == that.adminAccount && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, adminAccount);
+    }
+
+    @Override
+    public String toString() {
+        return (adminAccount ? "Admin" : "User") + "[id=" + id + ", email=" + email + ", role=" + role + "]";
+    }
+}
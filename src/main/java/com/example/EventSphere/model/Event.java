@@ -3,8 +3,12 @@ package com.example.EventSphere.model;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.format.annotation.DateTimeFormat;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -18,6 +22,8 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,6 +31,8 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "events")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,9 +40,16 @@ import lombok.Setter;
 public class Event {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "events_id")
+    @TableGenerator(name = "events_id", table = "id_sequences", pkColumnName = "sequence_name",
+        valueColumnName = "next_val", pkColumnValue = "events", allocationSize = 50)
     private Long eventId;
     
+    // Submitted with the edit form, so a save based on an outdated copy fails instead of overwriting
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @Column(nullable = false)
     private String title;
     
@@ -82,6 +97,10 @@ public class Event {
     @Column
     private LocalDateTime createdAt = LocalDateTime.now();
     
+    @UpdateTimestamp
+    @Column
+    private LocalDateTime updatedAt;
+    
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<RSVP> rsvps;
     
@@ -0,0 +1,107 @@
+package com.example.EventSphere.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a background multi-event export. Only the user or admin that started the job can see it.
+ * The row is written by the node running the export and read by whichever node serves the status page.
+ */
+@Entity
+@Table(name = "export_jobs", indexes = {
+    @Index(name = "idx_export_jobs_updated_at", columnList = "updated_at")
+})
+@Getter
+@NoArgsConstructor
+public class ExportJob implements Persistable<String> {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private String filename;
+
+    @Column(name = "event_count", nullable = false)
+    private int eventCount;
+
+    @Column(name = "total_entries", nullable = false)
+    private int totalEntries;
+
+    @Column(name = "completed_entries", nullable = false)
+    private int completedEntries;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.RUNNING;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // The id is assigned up front, so tell Spring Data to persist instead of merging (which selects first)
+    @Transient
+    private boolean isNew = true;
+
+    public ExportJob(String id, String owner, String filename, int eventCount, int totalEntries) {
+        this.id = id;
+        this.owner = owner;
+        this.filename = filename;
+        this.eventCount = eventCount;
+        this.totalEntries = totalEntries;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    public int getProgressPercent() {
+        return totalEntries == 0 ? 100 : (int) (100L * completedEntries / totalEntries);
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.EventSphere.model;
+
+public record MailRecipient(String email, String name) {
+}
@@ -1,5 +1,7 @@
 package com.example.EventSphere.model;
 
+import org.hibernate.annotations.UpdateTimestamp;
+
 import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
@@ -13,6 +15,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -27,7 +30,9 @@ import lombok.Setter;
 public class RSVP {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "rsvps_id")
+    @TableGenerator(name = "rsvps_id", table = "id_sequences", pkColumnName = "sequence_name",
+        valueColumnName = "next_val", pkColumnValue = "rsvps", allocationSize = 50)
     private Long rsvpId;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -45,6 +50,10 @@ public class RSVP {
     @Column
     private LocalDateTime rsvpDate = LocalDateTime.now();
     
+    @UpdateTimestamp
+    @Column
+    private LocalDateTime updatedAt;
+    
     @Column(columnDefinition = "TEXT")
     private String notes;
     
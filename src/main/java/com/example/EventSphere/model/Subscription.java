@@ -0,0 +1,90 @@
+package com.example.EventSphere.model;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A user's interest in a category or location. The unique (type, topic_key, user_id) key doubles as the
+ * inverted index used to find the subscribers of a new event.
+ */
+@Entity
+@Table(name = "subscriptions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_subscriptions_topic_user", columnNames = {"type", "topic_key", "user_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class Subscription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "subscriptions_id")
+    @TableGenerator(name = "subscriptions_id", table = "id_sequences", pkColumnName = "sequence_name",
+        valueColumnName = "next_val", pkColumnValue = "subscriptions", allocationSize = 50)
+    private Long subscriptionId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Type type;
+
+    @Column(name = "topic_key", nullable = false)
+    private String topicKey;
+
+    @Column
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public enum Type {
+        CATEGORY, LOCATION
+    }
+
+    public Subscription(User user, Type type, String topicKey) {
+        this.user = user;
+        this.type = type;
+        this.topicKey = topicKey;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static String normalizeLocation(String location) {
+        return location.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Index keys an event location matches: the whole location and each comma separated part,
+     * so "Hyderabad" subscribers see events at "HITEC City, Hyderabad".
+     */
+    public static Set<String> locationKeys(String location) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (location == null || location.isBlank()) {
+            return keys;
+        }
+        keys.add(normalizeLocation(location));
+        for (String part : location.split(",")) {
+            if (!part.isBlank()) {
+                keys.add(normalizeLocation(part));
+            }
+        }
+        return keys;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.EventSphere.model;
 
+import org.hibernate.annotations.UpdateTimestamp;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -17,9 +19,15 @@ import java.time.LocalDateTime;
 public class Volunteer {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "volunteers_id")
+    @TableGenerator(name = "volunteers_id", table = "id_sequences", pkColumnName = "sequence_name",
+        valueColumnName = "next_val", pkColumnValue = "volunteers", allocationSize = 50)
     private Long volunteerId;
     
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
@@ -38,6 +46,10 @@ public class Volunteer {
     @Column
     private LocalDateTime registrationDate = LocalDateTime.now();
     
+    @UpdateTimestamp
+    @Column
+    private LocalDateTime updatedAt;
+    
     @Column(columnDefinition = "TEXT")
     private String notes;
     
@@ -0,0 +1,81 @@
+package com.example.EventSphere.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.EventSphere.model.ArchivedEvent;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Read path for archived events, and the INSERT ... SELECT statements that copy completed events and their
+ * registrations into the archive tables. The native statements name the archive table they write, so Hibernate
+ * leaves the second-level cache regions of the hot tables alone.
+ */
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+
+    List<ArchivedEvent> findByOrganizerIdOrderByEndDateTimeDesc(Long organizerId);
+
+    @Query("SELECT COUNT(a) AS events, COALESCE(SUM(a.goingCount), 0) AS participants, "
+         + "COALESCE(SUM(a.volunteerCount), 0) AS volunteers FROM ArchivedEvent a")
+    ArchiveTotals totals();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "archived_events"))
+    @Query(value = "INSERT INTO archived_events (event_id, title, description, category, location, date_time, end_date_time, "
+                 + "organizer_id, organizer_name, max_participants, participation_type, going_count, interested_count, "
+                 + "volunteer_count, created_at, archived_at) "
+                 + "SELECT e.event_id, e.title, e.description, e.category, e.location, e.date_time, e.end_date_time, "
+                 + "e.organizer_id, u.name, e.max_participants, e.participation_type, "
+                 + "(SELECT COUNT(*) FROM rsvps r WHERE r.event_id = e.event_id AND r.status = 'GOING'), "
+                 + "(SELECT COUNT(*) FROM rsvps r WHERE r.event_id = e.event_id AND r.status = 'INTERESTED'), "
+                 + "(SELECT COUNT(*) FROM volunteers v WHERE v.event_id = e.event_id AND v.status = 'APPROVED'), "
+                 + "e.created_at, :archivedAt "
+                 + "FROM events e JOIN users u ON u.user_id = e.organizer_id WHERE e.event_id IN (:eventIds)",
+           nativeQuery = true)
+    int archiveEvents(@Param("eventIds") Collection<Long> eventIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "archived_rsvps"))
+    @Query(value = "INSERT INTO archived_rsvps (rsvp_id, event_id, user_id, status, rsvp_date, team_name, team_size) "
+                 + "SELECT rsvp_id, event_id, user_id, status, rsvp_date, team_name, team_size FROM rsvps "
+                 + "WHERE event_id IN (:eventIds)",
+           nativeQuery = true)
+    int archiveRsvps(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "archived_volunteers"))
+    @Query(value = "INSERT INTO archived_volunteers (volunteer_id, event_id, user_id, role_description, status, registration_date) "
+                 + "SELECT volunteer_id, event_id, user_id, role_description, status, registration_date FROM volunteers "
+                 + "WHERE event_id IN (:eventIds)",
+           nativeQuery = true)
+    int archiveVolunteers(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "archived_rsvps"))
+    @Query(value = "DELETE FROM archived_rsvps WHERE user_id = :userId", nativeQuery = true)
+    int deleteArchivedRsvpsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "archived_volunteers"))
+    @Query(value = "DELETE FROM archived_volunteers WHERE user_id = :userId", nativeQuery = true)
+    int deleteArchivedVolunteersByUserId(@Param("userId") Long userId);
+
+    interface ArchiveTotals {
+
+        long getEvents();
+
+        long getParticipants();
+
+        long getVolunteers();
+    }
+}
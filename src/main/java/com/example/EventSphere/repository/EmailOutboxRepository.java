@@ -0,0 +1,36 @@
+package com.example.EventSphere.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.EventSphere.model.EmailOutboxMessage;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    // SENDING rows whose lease has run out belong to a worker that died mid-send, so they are claimable again.
+    // A lock timeout of -2 is Hibernate's SKIP LOCKED, letting several nodes drain the outbox without blocking each other.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM EmailOutboxMessage m WHERE m.status IN ('PENDING', 'SENDING') AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt ASC")
+    List<EmailOutboxMessage> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = 'SENT', m.sentAt = :sentAt, m.lastError = null WHERE m.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    long countByStatus(EmailOutboxMessage.Status status);
+}
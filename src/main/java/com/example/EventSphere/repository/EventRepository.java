@@ -1,10 +1,13 @@
 package com.example.EventSphere.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +20,8 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     
     List<Event> findByOrganizer(User organizer);
     
+    List<Event> findByOrganizer_UserId(Long organizerId);
+    
     List<Event> findByCategory(Event.Category category);
     
     List<Event> findByActiveTrue();
@@ -65,6 +70,32 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("SELECT DISTINCT e FROM Event e LEFT JOIN FETCH e.organizer LEFT JOIN FETCH e.rsvps WHERE e.active = true AND LOWER(e.location) LIKE LOWER(CONCAT('%', :location, '%'))")
     List<Event> findByLocationContainingWithDetails(@Param("location") String location);
 
-    @Query("SELECT e FROM Event e WHERE e.endDateTime IS NOT NULL AND e.endDateTime < :cutoff")
-    List<Event> findCompletedEventsBefore(@Param("cutoff") LocalDateTime cutoff);
+    @Query("SELECT e FROM Event e WHERE e.active = true AND e.dateTime > :from AND e.dateTime <= :to")
+    List<Event> findActiveStartingBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Returns 1 for the first node to claim the reminder and 0 once any node holds it; a concurrent claim waits
+    // on the row lock until the holder commits or rolls back
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO reminders_sent (event_id, event_start, offset_seconds, sent_at) " +
+                   "VALUES (:eventId, :eventStart, :offsetSeconds, :sentAt)", nativeQuery = true)
+    int claimReminder(@Param("eventId") Long eventId, @Param("eventStart") LocalDateTime eventStart,
+                      @Param("offsetSeconds") long offsetSeconds, @Param("sentAt") LocalDateTime sentAt);
+
+    // Keyset page in (dateTime, eventId) order for the JSON API; walks idx_events_active_date_time
+    @Query("SELECT e FROM Event e JOIN FETCH e.organizer WHERE e.active = true AND e.dateTime > :now " +
+           "AND (:category IS NULL OR e.category = :category) " +
+           "AND (e.dateTime > :afterDateTime OR (e.dateTime = :afterDateTime AND e.eventId > :afterId)) " +
+           "ORDER BY e.dateTime ASC, e.eventId ASC")
+    List<Event> findUpcomingPage(@Param("now") LocalDateTime now, @Param("category") Event.Category category,
+                                 @Param("afterDateTime") LocalDateTime afterDateTime, @Param("afterId") Long afterId,
+                                 Limit limit);
+
+    // Oldest first, one archive batch at a time; walks idx_events_end_date_time
+    @Query("SELECT e.eventId FROM Event e WHERE e.endDateTime IS NOT NULL AND e.endDateTime < :cutoff ORDER BY e.endDateTime")
+    List<Long> findCompletedEventIds(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    // RSVPs and volunteers must be removed first; the bulk delete bypasses the entity cascade
+    @Modifying
+    @Query("DELETE FROM Event e WHERE e.eventId IN :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<Long> eventIds);
 }
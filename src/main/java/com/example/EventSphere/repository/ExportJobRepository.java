@@ -0,0 +1,48 @@
+package com.example.EventSphere.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.EventSphere.model.ExportJob;
+
+// The updates only touch RUNNING rows, so a job the sweep already removed reports 0 and its file can be dropped
+@Repository
+public interface ExportJobRepository extends JpaRepository<ExportJob, String> {
+
+    Optional<ExportJob> findByIdAndOwner(String id, String owner);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ExportJob j SET j.completedEntries = :completed, j.updatedAt = :now WHERE j.id = :id AND j.status = 'RUNNING'")
+    int updateProgress(@Param("id") String id, @Param("completed") int completed, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ExportJob j SET j.status = 'COMPLETED', j.completedEntries = j.totalEntries, j.updatedAt = :now, j.finishedAt = :now "
+        + "WHERE j.id = :id AND j.status = 'RUNNING'")
+    int markCompleted(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ExportJob j SET j.status = 'FAILED', j.error = :error, j.updatedAt = :now, j.finishedAt = :now "
+        + "WHERE j.id = :id AND j.status = 'RUNNING'")
+    int markFailed(@Param("id") String id, @Param("error") String error, @Param("now") LocalDateTime now);
+
+    @Query("SELECT j.id FROM ExportJob j WHERE j.updatedAt < :cutoff ORDER BY j.updatedAt")
+    List<String> findIdsIdleSince(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // Several nodes sweep at once; only the one whose delete removed the row deletes the file
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ExportJob j WHERE j.id = :id AND j.updatedAt < :cutoff")
+    int deleteIdleSince(@Param("id") String id, @Param("cutoff") LocalDateTime cutoff);
+}
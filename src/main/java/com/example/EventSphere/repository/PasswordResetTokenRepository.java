@@ -1,18 +1,39 @@
 package com.example.EventSphere.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.EventSphere.model.PasswordResetToken;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
 
-    Optional<PasswordResetToken> findByToken(String token);
+    Optional<PasswordResetToken> findByTokenHash(String tokenHash);
+
+    // Only one request can consume a token: the loser of a race deletes nothing
+    @Modifying
+    @Query("DELETE FROM PasswordResetToken t WHERE t.tokenHash = :tokenHash AND t.expiresAt > :now")
+    int deleteUnexpired(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
 
-    void deleteByToken(String token);
+    // Bounded so each sweep chunk is a short transaction that walks idx_password_reset_tokens_expires_at
+    // Declaring the affected table keeps Hibernate from clearing every second-level cache region after the delete
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "password_reset_tokens"))
+    @Query(value = "DELETE FROM password_reset_tokens WHERE expires_at <= :now ORDER BY expires_at LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 
-    void deleteByUser_UserId(Long userId);
-}
\ No newline at end of file
+    @Modifying
+    @Query("DELETE FROM PasswordResetToken t WHERE t.user.userId = :userId")
+    int deleteByUser_UserId(@Param("userId") Long userId);
+}
@@ -1,10 +1,16 @@
 package com.example.EventSphere.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +18,8 @@ import com.example.EventSphere.model.Event;
 import com.example.EventSphere.model.RSVP;
 import com.example.EventSphere.model.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface RSVPRepository extends JpaRepository<RSVP, Long> {
     
@@ -27,8 +35,15 @@ public interface RSVPRepository extends JpaRepository<RSVP, Long> {
     @Query("SELECT r FROM RSVP r JOIN FETCH r.user WHERE r.event = :event")
     List<RSVP> findByEventWithUser(@Param("event") Event event);
     
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT r FROM RSVP r JOIN FETCH r.user WHERE r.event.eventId = :eventId ORDER BY r.rsvpId ASC")
+    Stream<RSVP> streamByEventIdWithUser(@Param("eventId") Long eventId);
+    
     List<RSVP> findByEventAndStatus(Event event, RSVP.Status status);
     
+    @Query("SELECT r FROM RSVP r JOIN FETCH r.user WHERE r.event.eventId = :eventId AND r.status = 'GOING' AND r.rsvpId > :afterId ORDER BY r.rsvpId ASC")
+    List<RSVP> findGoingWithUserAfter(@Param("eventId") Long eventId, @Param("afterId") Long afterId, Pageable pageable);
+    
     @Query("SELECT r FROM RSVP r WHERE r.user = :user AND r.status = 'GOING'")
     List<RSVP> findUserGoingEvents(@Param("user") User user);
     
@@ -39,4 +54,26 @@ public interface RSVPRepository extends JpaRepository<RSVP, Long> {
     long countInterestedParticipants(@Param("event") Event event);
     
     boolean existsByEventAndUser(Event event, User user);
+    
+    @Query("SELECT r.event.eventId AS eventId, COUNT(r) AS going FROM RSVP r " +
+           "WHERE r.event.eventId IN :eventIds AND r.status = 'GOING' GROUP BY r.event.eventId")
+    List<GoingCount> countGoingByEventIds(@Param("eventIds") Collection<Long> eventIds);
+    
+    @Query("SELECT r FROM RSVP r JOIN FETCH r.event WHERE r.user.userId = :userId AND r.rsvpId > :afterId ORDER BY r.rsvpId ASC")
+    List<RSVP> findByUserIdWithEventAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Limit limit);
+    
+    @Modifying
+    @Query("DELETE FROM RSVP r WHERE r.event.eventId IN :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<Long> eventIds);
+    
+    @Modifying
+    @Query("DELETE FROM RSVP r WHERE r.user.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+    
+    interface GoingCount {
+        
+        Long getEventId();
+        
+        long getGoing();
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.EventSphere.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.EventSphere.model.MailRecipient;
+import com.example.EventSphere.model.Subscription;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
+
+    List<Subscription> findByUser_UserIdOrderByTypeAscTopicKeyAsc(Long userId);
+
+    boolean existsByUser_UserIdAndTypeAndTopicKey(Long userId, Subscription.Type type, String topicKey);
+
+    void deleteBySubscriptionIdAndUser_UserId(Long subscriptionId, Long userId);
+
+    @Modifying
+    @Query("DELETE FROM Subscription s WHERE s.user.userId = :userId")
+    int deleteByUser_UserId(@Param("userId") Long userId);
+
+    // Read through a server-side cursor; callers must consume the stream inside a transaction and close it
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT DISTINCT new com.example.EventSphere.model.MailRecipient(u.email, u.name) " +
+           "FROM Subscription s JOIN s.user u " +
+           "WHERE u.enabled = true AND u.userId <> :excludedUserId AND " +
+           "((s.type = 'CATEGORY' AND s.topicKey = :category) OR (s.type = 'LOCATION' AND s.topicKey IN :locationKeys))")
+    Stream<MailRecipient> streamSubscribers(@Param("category") String category,
+                                            @Param("locationKeys") Collection<String> locationKeys,
+                                            @Param("excludedUserId") Long excludedUserId);
+}
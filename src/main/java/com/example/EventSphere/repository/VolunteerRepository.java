@@ -1,10 +1,14 @@
 package com.example.EventSphere.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +16,8 @@ import com.example.EventSphere.model.Event;
 import com.example.EventSphere.model.User;
 import com.example.EventSphere.model.Volunteer;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
     
@@ -27,6 +33,10 @@ public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
     @Query("SELECT v FROM Volunteer v JOIN FETCH v.user WHERE v.event = :event")
     List<Volunteer> findByEventWithUser(@Param("event") Event event);
     
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT v FROM Volunteer v JOIN FETCH v.user WHERE v.event.eventId = :eventId ORDER BY v.volunteerId ASC")
+    Stream<Volunteer> streamByEventIdWithUser(@Param("eventId") Long eventId);
+    
     List<Volunteer> findByEventAndStatus(Event event, Volunteer.Status status);
     
     @Query("SELECT v FROM Volunteer v WHERE v.user = :user AND v.status = 'APPROVED'")
@@ -39,4 +49,12 @@ public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
     long countPendingVolunteers(@Param("event") Event event);
     
     boolean existsByEventAndUser(Event event, User user);
+    
+    @Modifying
+    @Query("DELETE FROM Volunteer v WHERE v.event.eventId IN :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<Long> eventIds);
+    
+    @Modifying
+    @Query("DELETE FROM Volunteer v WHERE v.user.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,149 @@
+package com.example.EventSphere.scheduler;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.EventSphere.model.EmailOutboxMessage;
+import com.example.EventSphere.service.BulkMailSender;
+import com.example.EventSphere.service.EmailOutboxService;
+import com.example.EventSphere.service.RelayRateLimiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class EmailOutboxWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxWorker.class);
+
+    private final EmailOutboxService outboxService;
+    private final BulkMailSender bulkMailSender;
+    private final RelayRateLimiter rateLimiter;
+    private final Semaphore connections;
+    private final int batchSize;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetterCounter;
+
+    public EmailOutboxWorker(EmailOutboxService outboxService, BulkMailSender bulkMailSender, RelayRateLimiter rateLimiter,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.mail.bulk.connections:4}") int connections,
+                             @Value("${app.mail.bulk.messages-per-connection:100}") int messagesPerConnection,
+                             @Value("${app.mail.outbox.lease-seconds:120}") long leaseSeconds) {
+        this.outboxService = outboxService;
+        this.bulkMailSender = bulkMailSender;
+        this.rateLimiter = rateLimiter;
+        this.connections = new Semaphore(connections);
+        this.batchSize = batchSize(rateLimiter, connections, messagesPerConnection, Duration.ofSeconds(leaseSeconds));
+
+        Gauge.builder("eventsphere.mail.outbox.depth", queueDepth, AtomicLong::get)
+            .description("Messages waiting in the email outbox")
+            .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("eventsphere.mail.sent");
+        this.failedCounter = meterRegistry.counter("eventsphere.mail.failed");
+        this.deadLetterCounter = meterRegistry.counter("eventsphere.mail.dead-lettered");
+    }
+
+    /**
+     * The largest batch a connection can send well within the lease. The connections share the relay quota, so
+     * under the rate limit the last message of a batch goes out at most {@code size * connections} slots after the
+     * claim; half the lease leaves room for slow SMTP round trips before another worker may reclaim the rows.
+     */
+    static int batchSize(RelayRateLimiter rateLimiter, int connections, int messagesPerConnection, Duration lease) {
+        long withinLease = rateLimiter.messagesWithin(lease.dividedBy(2)) / connections;
+        return (int) Math.max(1, Math.min(messagesPerConnection, withinLease));
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:1000}")
+    public void drainOutbox() {
+        long pending = outboxService.countPending();
+        queueDepth.set(pending);
+
+        // Each free connection drains on its own, claiming its next batch only when it is ready to send it. Expired
+        // leases are claimable without being pending, so one connection always looks; permits released by drains
+        // that already finished are left for the next poll.
+        long drains = Math.min(connections.availablePermits(), Math.max(1, (pending + batchSize - 1) / batchSize));
+        for (long i = 0; i < drains && connections.tryAcquire(); i++) {
+            executor.execute(() -> {
+                try {
+                    drainOnConnection();
+                } finally {
+                    connections.release();
+                }
+            });
+        }
+    }
+
+    private void drainOnConnection() {
+        while (true) {
+            List<EmailOutboxMessage> batch = outboxService.claimDue(batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            // Only a claimed batch books relay slots; waiting for the first one is part of what the lease allows for
+            rateLimiter.acquire();
+            deliver(batch);
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void deliver(List<EmailOutboxMessage> batch) {
+        Map<EmailOutboxMessage, Exception> failures;
+        try {
+            failures = bulkMailSender.sendBatch(batch);
+        } catch (Exception e) {
+            failures = new IdentityHashMap<>();
+            for (EmailOutboxMessage message : batch) {
+                failures.put(message, e);
+            }
+        }
+
+        final Map<EmailOutboxMessage, Exception> failed = failures;
+        List<Long> sentIds = batch.stream()
+            .filter(message -> !failed.containsKey(message))
+            .map(EmailOutboxMessage::getId)
+            .toList();
+        outboxService.markSent(sentIds);
+        sentCounter.increment(sentIds.size());
+
+        failed.forEach((message, cause) -> {
+            failedCounter.increment();
+            if (outboxService.markFailed(message.getId(), cause.getMessage())) {
+                deadLetterCounter.increment();
+                logger.error("Email {} to {} dead-lettered after {} attempts: {}",
+                    message.getId(), message.getRecipient(), message.getAttempts(), cause.getMessage());
+            } else {
+                logger.warn("Failed to send email {} to {} (attempt {}): {}",
+                    message.getId(), message.getRecipient(), message.getAttempts(), cause.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            // Unfinished messages keep their lease and are picked up again once it expires
+            executor.shutdownNow();
+        }
+    }
+}
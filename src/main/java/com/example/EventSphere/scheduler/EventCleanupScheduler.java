@@ -1,7 +1,6 @@
 package com.example.EventSphere.scheduler;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,46 +8,39 @@ import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.example.EventSphere.model.Event;
-import com.example.EventSphere.service.EventService;
+import com.example.EventSphere.service.EventArchiveService;
 
 @Component
 public class EventCleanupScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(EventCleanupScheduler.class);
 
-    private final EventService eventService;
+    private final EventArchiveService eventArchiveService;
 
-    public EventCleanupScheduler(EventService eventService) {
-        this.eventService = eventService;
+    public EventCleanupScheduler(EventArchiveService eventArchiveService) {
+        this.eventArchiveService = eventArchiveService;
     }
 
     @EventListener(ApplicationReadyEvent.class)
     public void runCleanupOnStartup() {
-        logger.info("Running initial event cleanup on application startup");
-        purgeCompletedEvents();
+        logger.info("Running initial event archiving on application startup");
+        archiveCompletedEvents();
     }
 
-    @Scheduled(cron = "0 0 3 * * *")
+    @Scheduled(cron = "${app.archive.cron:0 0 3 * * *}")
     public void scheduledCleanup() {
-        purgeCompletedEvents();
+        archiveCompletedEvents();
     }
 
-    @Transactional
-    void purgeCompletedEvents() {
+    void archiveCompletedEvents() {
         LocalDateTime currentTime = LocalDateTime.now();
-        List<Event> eventsToDelete = eventService.deleteEventsCompletedBefore(currentTime);
+        int archived = eventArchiveService.archiveCompletedBefore(currentTime);
 
-        if (eventsToDelete.isEmpty()) {
-            logger.debug("No completed events found before {} for deletion.", currentTime);
+        if (archived == 0) {
+            logger.debug("No completed events found before {} for archiving.", currentTime);
             return;
         }
-
-        logger.info("Deleted {} events completed before {}", eventsToDelete.size(), currentTime);
-        eventsToDelete.forEach(event ->
-            logger.debug("Deleted event with id {} titled '{}'", event.getEventId(), event.getTitle())
-        );
+        logger.info("Archived {} events completed before {}", archived, currentTime);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+package com.example.EventSphere.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.service.EventReminderService;
+import com.example.EventSphere.service.EventScheduleChange;
+
+/**
+ * Sends reminders a configured time before each event starts.
+ *
+ * <p>Events are read from the database in sliding windows ahead of the reminder horizon, so each event is loaded
+ * once; after that, firing a reminder is a timing wheel tick and needs no scan over events or RSVPs.
+ * Edits reach the wheel through {@link EventScheduleChange} after their transaction commits.
+ *
+ * <p>Every node keeps its own wheel over the same events, so each reminder fires once per node; the first node to
+ * claim it in {@code reminders_sent} queues the emails and the others skip it. Schedule changes only reach the
+ * wheel of the node that made them, so a node whose reminder finds the event moved schedules it again for the new
+ * start; the claim keeps both nodes from sending it twice.
+ *
+ * <p>Reminders are not sent late: one whose fire time passed while no node was running, or that falls before the
+ * moment an event was created or moved earlier, is skipped. A late "24 hours before" reminder would arrive next to
+ * the one an hour before, and the wheel cannot tell a missed reminder from one that was never due.
+ */
+@Component
+public class EventReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventReminderScheduler.class);
+
+    private final EventReminderService reminderService;
+    private final List<Duration> offsets;
+    private final Duration maxOffset;
+    private final Duration loadWindow;
+    private final HierarchicalTimingWheel<Reminder> wheel;
+    private final Map<Long, List<Reminder>> remindersByEvent = new HashMap<>();
+
+    // Every active event starting at or before this instant has its reminders in the wheel
+    private LocalDateTime loadedUntil;
+
+    public EventReminderScheduler(EventReminderService reminderService,
+                                  @Value("${app.reminders.offsets:24h,1h}") List<Duration> offsets,
+                                  @Value("${app.reminders.load-window:6h}") Duration loadWindow) {
+        this.reminderService = reminderService;
+        this.offsets = List.copyOf(offsets);
+        this.maxOffset = offsets.stream().max(Duration::compareTo).orElse(Duration.ZERO);
+        this.loadWindow = loadWindow;
+        this.wheel = new HierarchicalTimingWheel<>(Duration.ofMinutes(1).toMillis(), System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadInitialWindow() {
+        LocalDateTime now = LocalDateTime.now();
+        loadedUntil = now;
+        loadAhead(now);
+        logger.info("Reminder wheel initialised with {} pending reminders up to {}", wheel.size(), loadedUntil);
+    }
+
+    @Scheduled(fixedRateString = "${app.reminders.tick-ms:60000}")
+    public void tick() {
+        List<Reminder> due;
+        synchronized (this) {
+            if (loadedUntil == null) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            loadAhead(now);
+            due = wheel.advanceTo(toMillis(now));
+            due.forEach(reminder -> remindersByEvent.computeIfPresent(reminder.eventId(), (id, reminders) -> {
+                reminders.remove(reminder);
+                return reminders.isEmpty() ? null : reminders;
+            }));
+        }
+
+        for (Reminder reminder : due) {
+            try {
+                EventReminderService.Dispatch dispatch =
+                    reminderService.sendReminders(reminder.eventId(), reminder.eventStart(), reminder.offset());
+                if (dispatch.movedTo() != null) {
+                    // Moved on another node, whose schedule change never reached this wheel
+                    reschedule(reminder.eventId(), dispatch.movedTo());
+                } else if (dispatch.queued() > 0) {
+                    logger.info("Queued {} reminders for event {} ({} before start)",
+                        dispatch.queued(), reminder.eventId(), reminder.offset());
+                }
+            } catch (Exception e) {
+                logger.error("Failed to send reminders for event {}: {}", reminder.eventId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChange(EventScheduleChange change) {
+        reschedule(change.eventId(), change.active() ? change.dateTime() : null);
+    }
+
+    private synchronized void reschedule(Long eventId, LocalDateTime eventStart) {
+        cancel(eventId);
+        if (loadedUntil != null && eventStart != null && !eventStart.isAfter(loadedUntil)) {
+            schedule(eventId, eventStart, LocalDateTime.now());
+        }
+        // Events starting after loadedUntil are picked up by the next window load
+    }
+
+    private void loadAhead(LocalDateTime now) {
+        // Load in half-window steps so that each event is read once while the horizon stays ahead of the wheel
+        LocalDateTime horizon = now.plus(maxOffset).plus(loadWindow);
+        if (loadedUntil.isAfter(horizon.minus(loadWindow.dividedBy(2)))) {
+            return;
+        }
+
+        List<Event> events = reminderService.findEventsStartingBetween(loadedUntil, horizon);
+        for (Event event : events) {
+            schedule(event.getEventId(), event.getDateTime(), now);
+        }
+        logger.debug("Loaded {} events starting between {} and {} into the reminder wheel", events.size(), loadedUntil, horizon);
+        loadedUntil = horizon;
+    }
+
+    private void schedule(Long eventId, LocalDateTime eventStart, LocalDateTime now) {
+        cancel(eventId);
+        List<Reminder> reminders = new ArrayList<>();
+        for (Duration offset : offsets) {
+            LocalDateTime fireAt = eventStart.minus(offset);
+            if (fireAt.isAfter(now)) {
+                Reminder reminder = new Reminder(eventId, eventStart, offset);
+                wheel.schedule(reminder, toMillis(fireAt));
+                reminders.add(reminder);
+            }
+        }
+        if (!reminders.isEmpty()) {
+            remindersByEvent.put(eventId, reminders);
+        }
+    }
+
+    private void cancel(Long eventId) {
+        remindersByEvent.getOrDefault(eventId, Collections.emptyList()).forEach(wheel::cancel);
+        remindersByEvent.remove(eventId);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Reminder(Long eventId, LocalDateTime eventStart, Duration offset) {
+    }
+}
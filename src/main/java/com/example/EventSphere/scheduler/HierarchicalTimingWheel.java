@@ -0,0 +1,147 @@
+package com.example.EventSphere.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel with three levels of 64 slots each.
+ * With a one minute tick, level 0 covers about an hour, level 1 about three days and level 2 about half a year;
+ * deadlines further out are parked in the last reachable slot and re-placed when that slot cascades.
+ *
+ * <p>Scheduling and cancelling are O(1); advancing costs one slot visit per elapsed tick plus the entries that expire
+ * or cascade, independent of how many timers are pending.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+
+    private final long tickMillis;
+    private final List<List<Set<Entry<K>>>> levels = new ArrayList<>(LEVELS);
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private final List<K> overdue = new ArrayList<>();
+    private long currentTick;
+
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Entry<K>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    /**
+     * Schedules {@code key} to expire at {@code deadlineMillis}, replacing any earlier schedule for the same key.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long deadlineTick = (deadlineMillis + tickMillis - 1) / tickMillis;
+        if (deadlineTick <= currentTick) {
+            overdue.add(key);
+            return;
+        }
+        Entry<K> entry = new Entry<>(key, deadlineTick);
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    public synchronized boolean cancel(K key) {
+        overdue.remove(key);
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        levels.get(entry.level).get(entry.slot).remove(entry);
+        return true;
+    }
+
+    public synchronized boolean isScheduled(K key) {
+        return entries.containsKey(key) || overdue.contains(key);
+    }
+
+    public synchronized int size() {
+        return entries.size() + overdue.size();
+    }
+
+    /**
+     * Moves the wheel forward to {@code nowMillis} and returns the keys whose deadline has passed, in deadline order.
+     */
+    public synchronized List<K> advanceTo(long nowMillis) {
+        List<K> expired = new ArrayList<>(overdue);
+        overdue.clear();
+
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            if ((currentTick & SLOT_MASK) == 0) {
+                if (((currentTick >> SLOT_BITS) & SLOT_MASK) == 0) {
+                    cascade(2, (int) ((currentTick >> (2 * SLOT_BITS)) & SLOT_MASK), expired);
+                }
+                cascade(1, (int) ((currentTick >> SLOT_BITS) & SLOT_MASK), expired);
+            }
+
+            Set<Entry<K>> slot = levels.get(0).get((int) (currentTick & SLOT_MASK));
+            for (Entry<K> entry : slot) {
+                entries.remove(entry.key);
+                expired.add(entry.key);
+            }
+            slot.clear();
+        }
+        return expired;
+    }
+
+    private void cascade(int level, int slotIndex, List<K> expired) {
+        Set<Entry<K>> slot = levels.get(level).get(slotIndex);
+        List<Entry<K>> moving = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry<K> entry : moving) {
+            if (entry.deadlineTick <= currentTick) {
+                entries.remove(entry.key);
+                expired.add(entry.key);
+            } else {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<K> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        long tick = entry.deadlineTick;
+        if (delta < SLOTS) {
+            entry.level = 0;
+            entry.slot = (int) (tick & SLOT_MASK);
+        } else if (delta < (long) SLOTS << SLOT_BITS) {
+            entry.level = 1;
+            entry.slot = (int) ((tick >> SLOT_BITS) & SLOT_MASK);
+        } else {
+            // Beyond the horizon the entry waits in the furthest slot and is re-placed when it cascades
+            long horizon = Math.min(tick, currentTick + ((long) SLOTS << (2 * SLOT_BITS)) - 1);
+            entry.level = 2;
+            entry.slot = (int) ((horizon >> (2 * SLOT_BITS)) & SLOT_MASK);
+        }
+        levels.get(entry.level).get(entry.slot).add(entry);
+    }
+
+    private static final class Entry<K> {
+
+        private final K key;
+        private final long deadlineTick;
+        private int level;
+        private int slot;
+
+        private Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.EventSphere.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.EventSphere.service.PasswordResetTokenService;
+
+@Component
+public class PasswordResetTokenSweeper {
+
+    private final PasswordResetTokenService passwordResetTokenService;
+
+    public PasswordResetTokenSweeper(PasswordResetTokenService passwordResetTokenService) {
+        this.passwordResetTokenService = passwordResetTokenService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.password-reset.sweep-interval-ms:600000}", initialDelayString = "${app.password-reset.sweep-interval-ms:600000}")
+    public void sweepExpiredTokens() {
+        passwordResetTokenService.purgeExpired();
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.EventSphere.service;
+
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+
+import com.example.EventSphere.model.EmailOutboxMessage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Sends a batch of outbox messages over a single SMTP session. The transport is connected once per batch,
+ * so connection setup, TLS and authentication are paid once per batch instead of once per recipient, and
+ * each message waits for its own relay slot so the session never bursts past the relay's quota.
+ */
+@Service
+public class BulkMailSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkMailSender.class);
+
+    private static final String DEFAULT_PROTOCOL = "smtp";
+
+    private final RelayRateLimiter rateLimiter;
+    private final Timer batchTimer;
+    private final Timer sendLatency;
+    private final DistributionSummary batchSize;
+    private final Counter deliveredCounter;
+
+    private JavaMailSender mailSender;
+
+    @Value("${app.mail.from:noreply@eventsphere.com}")
+    private String fromAddress;
+
+    public BulkMailSender(RelayRateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.batchTimer = Timer.builder("eventsphere.mail.bulk.batch.duration").register(meterRegistry);
+        this.sendLatency = Timer.builder("eventsphere.mail.send.latency").register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("eventsphere.mail.bulk.batch.size").register(meterRegistry);
+        this.deliveredCounter = meterRegistry.counter("eventsphere.mail.bulk.delivered");
+    }
+
+    @Autowired(required = false)
+    public void setMailSender(JavaMailSender mailSender) {
+        this.mailSender = mailSender;
+    }
+
+    /**
+     * Delivers the given messages over one SMTP connection. The caller already holds the relay slot of the first
+     * message, taken once the messages were claimed; every further message acquires its own.
+     *
+     * @return the messages that could not be delivered, mapped to the cause
+     */
+    public Map<EmailOutboxMessage, Exception> sendBatch(List<EmailOutboxMessage> messages) {
+        Map<EmailOutboxMessage, Exception> failures = new IdentityHashMap<>();
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        long start = System.nanoTime();
+        if (mailSender == null) {
+            for (int i = 0; i < messages.size(); i++) {
+                awaitSlot(i);
+                EmailOutboxMessage message = messages.get(i);
+                logger.info("Email service not configured. Would send email to {} with subject: {}",
+                    message.getRecipient(), message.getSubject());
+            }
+            return failures;
+        }
+
+        if (mailSender instanceof JavaMailSenderImpl senderImpl) {
+            sendOverOneSession(senderImpl, messages, failures);
+        } else {
+            // Other senders open their own connection per call, so only the pacing applies
+            for (int i = 0; i < messages.size(); i++) {
+                awaitSlot(i);
+                EmailOutboxMessage message = messages.get(i);
+                Timer.Sample sample = Timer.start();
+                try {
+                    mailSender.send(toMimeMessage(message));
+                } catch (Exception e) {
+                    failures.put(message, e);
+                } finally {
+                    sample.stop(sendLatency);
+                }
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        int delivered = messages.size() - failures.size();
+        batchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        batchSize.record(messages.size());
+        deliveredCounter.increment(delivered);
+        logger.debug("Delivered {}/{} messages in one SMTP session in {} ms ({} msg/s)",
+            delivered, messages.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            elapsedNanos > 0 ? Math.round(delivered * 1_000_000_000d / elapsedNanos) : delivered);
+        return failures;
+    }
+
+    private void sendOverOneSession(JavaMailSenderImpl senderImpl, List<EmailOutboxMessage> messages,
+                                    Map<EmailOutboxMessage, Exception> failures) {
+        Transport transport;
+        try {
+            transport = connect(senderImpl);
+        } catch (MessagingException e) {
+            // Connection or authentication failure: nothing in this batch went out
+            messages.forEach(message -> failures.put(message, e));
+            return;
+        }
+
+        try {
+            for (int i = 0; i < messages.size(); i++) {
+                EmailOutboxMessage message = messages.get(i);
+                if (!transport.isConnected()) {
+                    failures.put(message, new MessagingException("SMTP connection closed by the relay"));
+                    continue;
+                }
+                awaitSlot(i);
+                Timer.Sample sample = Timer.start();
+                try {
+                    MimeMessage mimeMessage = toMimeMessage(message);
+                    mimeMessage.setSentDate(new Date());
+                    mimeMessage.saveChanges();
+                    transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+                } catch (MessagingException e) {
+                    // The relay rejected this message; the session stays open for the rest
+                    failures.put(message, e);
+                } finally {
+                    sample.stop(sendLatency);
+                }
+            }
+        } finally {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                logger.debug("Failed to close SMTP connection: {}", e.getMessage());
+            }
+        }
+    }
+
+    // Same connection settings JavaMailSenderImpl uses for its own sends
+    private static Transport connect(JavaMailSenderImpl senderImpl) throws MessagingException {
+        Session session = senderImpl.getSession();
+        String protocol = senderImpl.getProtocol();
+        if (protocol == null) {
+            protocol = session.getProperty("mail.transport.protocol");
+        }
+        String username = senderImpl.getUsername();
+        String password = senderImpl.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            password = "".equals(password) ? null : password;
+        }
+        Transport transport = session.getTransport(protocol != null ? protocol : DEFAULT_PROTOCOL);
+        transport.connect(senderImpl.getHost(), senderImpl.getPort(), username, password);
+        return transport;
+    }
+
+    // The caller took the slot of the first message before claiming the batch
+    private void awaitSlot(int index) {
+        if (index > 0) {
+            rateLimiter.acquire();
+        }
+    }
+
+    private MimeMessage toMimeMessage(EmailOutboxMessage message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        boolean multipart = message.getHtmlBody() != null;
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, multipart, "UTF-8");
+        helper.setFrom(fromAddress);
+        helper.setTo(message.getRecipient());
+        helper.setSubject(message.getSubject());
+        if (multipart) {
+            helper.setText(message.getBody(), message.getHtmlBody());
+        } else {
+            helper.setText(message.getBody());
+        }
+        return mimeMessage;
+    }
+}
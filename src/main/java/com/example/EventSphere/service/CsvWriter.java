@@ -0,0 +1,70 @@
+package com.example.EventSphere.service;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal CSV writer that writes fields straight into a buffered stream, without building row strings.
+ * Rows are separated by {@code \n} with no trailing newline, matching the original export format.
+ */
+public final class CsvWriter implements Flushable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Writer writer;
+    private boolean firstRow = true;
+    private boolean firstField = true;
+
+    public CsvWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public CsvWriter row(String... fields) throws IOException {
+        startRow();
+        for (String field : fields) {
+            field(field);
+        }
+        return this;
+    }
+
+    public CsvWriter startRow() throws IOException {
+        if (!firstRow) {
+            writer.write('\n');
+        }
+        firstRow = false;
+        firstField = true;
+        return this;
+    }
+
+    public CsvWriter field(String value) throws IOException {
+        if (!firstField) {
+            writer.write(',');
+        }
+        firstField = false;
+        if (value == null) {
+            return this;
+        }
+        if (value.indexOf('"') >= 0 || value.indexOf(',') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(value);
+        }
+        return this;
+    }
+
+    public CsvWriter field(Object value) throws IOException {
+        return field(value != null ? value.toString() : null);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
@@ -1,26 +1,48 @@
 package com.example.EventSphere.service;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import com.example.EventSphere.model.Admin;
+import com.example.EventSphere.model.AuthenticatedUser;
 import com.example.EventSphere.repository.AdminRepository;
 
 @Service
-public class CustomAdminDetailsService implements UserDetailsService {
+public class CustomAdminDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AdminRepository adminRepository;
+    private final PrincipalCache principalCache;
 
-    public CustomAdminDetailsService(AdminRepository adminRepository) {
+    public CustomAdminDetailsService(AdminRepository adminRepository,
+                                     @Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+                                     @Value("${app.security.principal-cache.ttl:5m}") Duration ttl) {
         this.adminRepository = adminRepository;
+        this.principalCache = new PrincipalCache(maxSize, ttl);
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Admin admin = adminRepository.findByEmail(email)
+        return principalCache.get(email, key -> adminRepository.findByEmail(key).map(AuthenticatedUser::of))
                 .orElseThrow(() -> new UsernameNotFoundException("Admin not found with email: " + email));
-        return admin;
     }
-}
\ No newline at end of file
+
+    @Override
+    public UserDetails updatePassword(UserDetails principal, String newEncodedPassword) {
+        Admin admin = adminRepository.findByEmail(principal.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Admin not found with email: " + principal.getUsername()));
+        admin.setPassword(newEncodedPassword);
+        Admin savedAdmin = adminRepository.save(admin);
+        principalCache.evict(savedAdmin.getEmail());
+        return AuthenticatedUser.of(savedAdmin);
+    }
+
+    public void evict(String email) {
+        principalCache.evict(email);
+    }
+}
@@ -1,26 +1,54 @@
 package com.example.EventSphere.service;
 
+import java.time.Duration;
+
+import com.example.EventSphere.model.AuthenticatedUser;
 import com.example.EventSphere.model.User;
 import com.example.EventSphere.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final OptimisticLockRetry optimisticLockRetry;
     
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, OptimisticLockRetry optimisticLockRetry,
+                                    @Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+                                    @Value("${app.security.principal-cache.ttl:5m}") Duration ttl) {
         this.userRepository = userRepository;
+        this.optimisticLockRetry = optimisticLockRetry;
+        this.principalCache = new PrincipalCache(maxSize, ttl);
     }
     
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        return principalCache.get(email, key -> userRepository.findByEmail(key).map(AuthenticatedUser::of))
             .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-        
-        return user;
+    }
+    
+    // Same password under a new hash, so the credentials version stays unchanged. Runs during login, where
+    // a concurrent profile or admin update must not fail the sign-in, so it retries on fresh state
+    @Override
+    public UserDetails updatePassword(UserDetails principal, String newEncodedPassword) {
+        User savedUser = optimisticLockRetry.execute(() -> {
+            User user = userRepository.findByEmail(principal.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + principal.getUsername()));
+            user.setPassword(newEncodedPassword);
+            return userRepository.save(user);
+        });
+        principalCache.evict(savedUser.getEmail());
+        return AuthenticatedUser.of(savedUser);
+    }
+    
+    // Called whenever role, enabled flag or password change so the next login sees the new state; takes effect on commit
+    public void evict(String email) {
+        principalCache.evict(email);
     }
 }
@@ -0,0 +1,307 @@
+package com.example.EventSphere.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSetMetaData;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Logical snapshots of the core tables as gzip-compressed JSON Lines, one file per table plus a manifest.
+ *
+ * <p>Export reads every table through a forward-only cursor inside one repeatable-read transaction, so the files
+ * are consistent with each other and memory does not depend on table size. Restore loads an empty database with
+ * batched inserts; tables on the same foreign-key level are loaded in parallel, levels one after another, and the
+ * {@code id_sequences} generators are moved past the restored ids.
+ */
+@Service
+public class DatabaseSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseSnapshotService.class);
+
+    static final String MANIFEST_FILE = "manifest.json";
+
+    // Foreign-key levels: every table only references tables from earlier levels
+    private static final List<List<SnapshotTable>> LEVELS = List.of(
+        List.of(new SnapshotTable("users", "user_id"), new SnapshotTable("admins", "admin_id")),
+        List.of(new SnapshotTable("events", "event_id"), new SnapshotTable("subscriptions", "subscription_id")),
+        List.of(new SnapshotTable("rsvps", "rsvp_id"), new SnapshotTable("volunteers", "volunteer_id")),
+        List.of(new SnapshotTable("archived_events", "event_id"), new SnapshotTable("archived_rsvps", "rsvp_id"),
+            new SnapshotTable("archived_volunteers", "volunteer_id"))
+    );
+
+    // Archived rows keep the ids of the hot table they came from, which share its id sequence
+    private static final Map<String, String> ARCHIVE_TABLES = Map.of(
+        "events", "archived_events", "rsvps", "archived_rsvps", "volunteers", "archived_volunteers");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ObjectMapper objectMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int batchSize;
+
+    public DatabaseSnapshotService(DataSource dataSource, PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                                   EntityManagerFactory entityManagerFactory,
+                                   @Value("${app.snapshot.fetch-size:1000}") int fetchSize,
+                                   @Value("${app.snapshot.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        // Dates go out as ISO strings the database accepts back, whatever the application's Jackson settings
+        this.objectMapper = objectMapper.copy().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.entityManagerFactory = entityManagerFactory;
+        this.batchSize = batchSize;
+    }
+
+    public List<TableStats> exportSnapshot(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<TableStats> stats = new ArrayList<>();
+        List<TableManifest> tables = new ArrayList<>();
+
+        readTransaction.executeWithoutResult(status -> {
+            for (List<SnapshotTable> level : LEVELS) {
+                for (SnapshotTable table : level) {
+                    long start = System.nanoTime();
+                    TableManifest manifest = exportTable(table, directory.resolve(table.fileName()));
+                    TableStats tableStats = new TableStats(table.name(), manifest.rows(), System.nanoTime() - start);
+                    logger.info("Exported {}", tableStats);
+                    tables.add(manifest);
+                    stats.add(tableStats);
+                }
+            }
+        });
+
+        objectMapper.writerWithDefaultPrettyPrinter()
+            .writeValue(directory.resolve(MANIFEST_FILE).toFile(), new SnapshotManifest(LocalDateTime.now(), tables));
+        return stats;
+    }
+
+    public List<TableStats> restoreSnapshot(Path directory) throws IOException {
+        SnapshotManifest manifest = objectMapper.readValue(directory.resolve(MANIFEST_FILE).toFile(), SnapshotManifest.class);
+        for (List<SnapshotTable> level : LEVELS) {
+            for (SnapshotTable table : level) {
+                Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table.name(), Long.class);
+                if (existing != null && existing > 0) {
+                    throw new IllegalStateException("Cannot restore snapshot: table " + table.name() + " is not empty");
+                }
+            }
+        }
+
+        List<TableStats> stats = Collections.synchronizedList(new ArrayList<>());
+        for (List<SnapshotTable> level : LEVELS) {
+            try (ExecutorService executor = Executors.newFixedThreadPool(level.size())) {
+                List<Future<?>> loads = new ArrayList<>();
+                for (SnapshotTable table : level) {
+                    // Snapshots taken before the archive existed leave the archive tables empty
+                    if (ARCHIVE_TABLES.containsValue(table.name()) && !manifest.contains(table.name())) {
+                        continue;
+                    }
+                    TableManifest tableManifest = manifest.table(table.name());
+                    loads.add(executor.submit(() -> {
+                        long start = System.nanoTime();
+                        long rows = restoreTable(tableManifest, directory.resolve(table.fileName()));
+                        TableStats tableStats = new TableStats(table.name(), rows, System.nanoTime() - start);
+                        logger.info("Restored {}", tableStats);
+                        stats.add(tableStats);
+                        return null;
+                    }));
+                }
+                for (Future<?> load : loads) {
+                    await(load);
+                }
+            }
+        }
+        reseedIdSequences();
+        // Rows were written through JDBC, so nothing cached before the restore may be served afterwards
+        entityManagerFactory.getCache().evictAll();
+        return stats;
+    }
+
+    // Restored rows keep their ids, so the pooled generators must continue after the highest one
+    private void reseedIdSequences() {
+        for (List<SnapshotTable> level : LEVELS) {
+            for (SnapshotTable table : level) {
+                if (ARCHIVE_TABLES.containsValue(table.name())) {
+                    continue;
+                }
+                String maxId = "(SELECT COALESCE(MAX(" + table.primaryKey() + "), 0) FROM " + table.name() + ")";
+                String archive = ARCHIVE_TABLES.get(table.name());
+                if (archive != null) {
+                    maxId = "GREATEST(" + maxId + ", (SELECT COALESCE(MAX(" + table.primaryKey() + "), 0) FROM " + archive + "))";
+                }
+                jdbcTemplate.update("INSERT INTO id_sequences (sequence_name, next_val) SELECT ?, " + maxId + " + 1"
+                    + " ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))", table.name());
+            }
+        }
+    }
+
+    private TableManifest exportTable(SnapshotTable table, Path file) {
+        List<String> columns = new ArrayList<>();
+        long[] rows = {0};
+
+        try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file)), 64 * 1024);
+             JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.setRootValueSeparator(null);
+            jdbcTemplate.query("SELECT * FROM " + table.name() + " ORDER BY " + table.primaryKey(), rs -> {
+                if (columns.isEmpty()) {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        columns.add(metaData.getColumnLabel(i));
+                    }
+                }
+                try {
+                    json.writeStartObject();
+                    for (int i = 0; i < columns.size(); i++) {
+                        json.writeFieldName(columns.get(i));
+                        json.writeObject(normalize(rs.getObject(i + 1)));
+                    }
+                    json.writeEndObject();
+                    json.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write snapshot of " + table.name(), e);
+        }
+        return new TableManifest(table.name(), columns, rows[0]);
+    }
+
+    private long restoreTable(TableManifest table, Path file) throws IOException {
+        if (table.rows() == 0) {
+            return 0;
+        }
+        List<String> columns = table.columns();
+        String sql = "INSERT INTO " + table.name() + " (" + String.join(", ", columns) + ") VALUES ("
+            + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
+        long rows = 0;
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file)), 64 * 1024);
+             MappingIterator<Map<String, Object>> lines = objectMapper.readerForMapOf(Object.class).readValues(in)) {
+            while (lines.hasNext()) {
+                Map<String, Object> line = lines.next();
+                Object[] values = new Object[columns.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = line.get(columns.get(i));
+                }
+                batch.add(values);
+                if (batch.size() == batchSize) {
+                    rows += insertBatch(sql, batch);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            rows += insertBatch(sql, batch);
+        }
+        return rows;
+    }
+
+    private int insertBatch(String sql, List<Object[]> batch) {
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, batch));
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return value;
+    }
+
+    private static void await(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Snapshot restore interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("Snapshot restore failed", e.getCause());
+        }
+    }
+
+    private record SnapshotTable(String name, String primaryKey) {
+
+        String fileName() {
+            return name + ".jsonl.gz";
+        }
+    }
+
+    public record SnapshotManifest(LocalDateTime createdAt, List<TableManifest> tables) {
+
+        boolean contains(String name) {
+            return tables.stream().anyMatch(table -> table.name().equals(name));
+        }
+
+        TableManifest table(String name) {
+            return tables.stream()
+                .filter(table -> table.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Snapshot has no table " + name));
+        }
+    }
+
+    public record TableManifest(String name, List<String> columns, long rows) {
+    }
+
+    public record TableStats(String table, long rows, long nanos) {
+
+        public double rowsPerSecond() {
+            return nanos == 0 ? 0 : rows * 1_000_000_000.0 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %,d rows in %.2f s (%,.0f rows/s)", table, rows, nanos / 1e9, rowsPerSecond());
+        }
+    }
+}
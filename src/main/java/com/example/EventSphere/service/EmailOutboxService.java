@@ -0,0 +1,125 @@
+package com.example.EventSphere.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.EventSphere.model.EmailOutboxMessage;
+import com.example.EventSphere.repository.EmailOutboxRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Service
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository outboxRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.mail.outbox.write-chunk-size:500}")
+    private int writeChunkSize;
+
+    @Value("${app.mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds;
+
+    @Value("${app.mail.outbox.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Value("${app.mail.outbox.lease-seconds:120}")
+    private long leaseSeconds;
+
+    public EmailOutboxService(EmailOutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    // Joins the caller's transaction, so the message is only visible to the worker once the business change commits
+    @Transactional
+    public EmailOutboxMessage enqueue(String to, String subject, String body, String htmlBody) {
+        return outboxRepository.save(new EmailOutboxMessage(to, subject, body, htmlBody));
+    }
+
+    @Transactional
+    public void enqueueAll(List<EmailOutboxMessage> messages) {
+        outboxRepository.saveAll(messages);
+    }
+
+    /**
+     * Writes a fan-out of any size in chunks, detaching each chunk once flushed so memory stays constant.
+     * Note that this clears the caller's persistence context.
+     */
+    @Transactional
+    public long enqueueAll(Stream<EmailOutboxMessage> messages) {
+        long count = 0;
+        Iterator<EmailOutboxMessage> iterator = messages.iterator();
+        while (iterator.hasNext()) {
+            outboxRepository.save(iterator.next());
+            if (++count % writeChunkSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return count;
+    }
+
+    @Transactional
+    public List<EmailOutboxMessage> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxMessage> due = outboxRepository.findDueForUpdate(now, PageRequest.of(0, limit));
+
+        // Attempts are counted at claim time so a worker crashing mid-send still moves the message towards the dead letter state
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        for (EmailOutboxMessage message : due) {
+            message.setStatus(EmailOutboxMessage.Status.SENDING);
+            message.setAttempts(message.getAttempts() + 1);
+            message.setNextAttemptAt(leaseUntil);
+        }
+        return due;
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> messageIds) {
+        if (!messageIds.isEmpty()) {
+            outboxRepository.markSent(messageIds, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Records a failed delivery and schedules the next attempt with exponential backoff.
+     *
+     * @return {@code true} if the message ran out of attempts and was dead-lettered
+     */
+    @Transactional
+    public boolean markFailed(Long messageId, String error) {
+        EmailOutboxMessage message = outboxRepository.findById(messageId).orElse(null);
+        if (message == null) {
+            return false;
+        }
+
+        message.setLastError(error);
+        if (message.getAttempts() >= maxAttempts) {
+            message.setStatus(EmailOutboxMessage.Status.DEAD);
+            return true;
+        }
+
+        long backoff = initialBackoffSeconds << Math.min(message.getAttempts() - 1, 20);
+        message.setStatus(EmailOutboxMessage.Status.PENDING);
+        message.setNextAttemptAt(LocalDateTime.now().plusSeconds(Math.min(backoff, maxBackoffSeconds)));
+        return false;
+    }
+
+    public long countPending() {
+        return outboxRepository.countByStatus(EmailOutboxMessage.Status.PENDING);
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.EventSphere.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import com.example.EventSphere.model.Event;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Email templates from {@code classpath:mail/}, parsed once at startup.
+ * A {@code name.txt} file holds a {@code Subject:} line, a blank line and the plain-text body;
+ * an optional {@code name.html} next to it holds the HTML body. Placeholders use {@code {{key}}}.
+ *
+ * <p>Rendering is two-staged: {@link #prepare(String, Event)} substitutes the event fields once,
+ * and the returned {@link PreparedEmail} only fills the per-recipient fields for each message.
+ */
+@Service
+public class EmailTemplateEngine {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*([A-Za-z][A-Za-z0-9]*)\\s*}}");
+    private static final String SUBJECT_PREFIX = "Subject:";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MMM dd, yyyy");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final Map<String, PreparedEmail> templates = new HashMap<>();
+
+    @PostConstruct
+    void loadTemplates() throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        for (Resource textResource : resolver.getResources("classpath*:mail/*.txt")) {
+            String filename = textResource.getFilename();
+            String name = filename.substring(0, filename.length() - ".txt".length());
+
+            String source = read(textResource);
+            int headerEnd = source.indexOf('\n');
+            if (!source.startsWith(SUBJECT_PREFIX) || headerEnd < 0) {
+                throw new IllegalStateException("Email template " + filename + " must start with a Subject: line");
+            }
+            String subject = source.substring(SUBJECT_PREFIX.length(), headerEnd).trim();
+            String body = source.substring(headerEnd + 1).stripLeading();
+
+            Resource htmlResource = textResource.createRelative(name + ".html");
+            CompiledTemplate html = htmlResource.exists() ? CompiledTemplate.parse(read(htmlResource), true) : null;
+
+            templates.put(name, new PreparedEmail(
+                CompiledTemplate.parse(subject, false),
+                CompiledTemplate.parse(body, false),
+                html));
+        }
+    }
+
+    /**
+     * Binds the event fields of a template. The result is immutable and can be rendered for any number of recipients.
+     */
+    public PreparedEmail prepare(String templateName, Event event) {
+        return template(templateName).bind(key -> eventValue(event, key));
+    }
+
+    public PreparedEmail prepare(String templateName) {
+        return template(templateName);
+    }
+
+    private PreparedEmail template(String templateName) {
+        PreparedEmail template = templates.get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown email template: " + templateName);
+        }
+        return template;
+    }
+
+    private static String eventValue(Event event, String key) {
+        return switch (key) {
+            case "eventTitle" -> event.getTitle();
+            case "eventCategory" -> event.getCategory() != null ? event.getCategory().toString().replace("_", " ") : "";
+            case "eventDate" -> event.getDateTime().format(DATE_FORMAT);
+            case "eventTime" -> event.getDateTime().format(TIME_FORMAT);
+            case "eventLocation" -> event.getLocation();
+            case "eventDescription" -> event.getDescription() != null ? event.getDescription() : "";
+            default -> null;
+        };
+    }
+
+    private static String read(Resource resource) throws IOException {
+        try (var in = resource.getInputStream()) {
+            return StreamUtils.copyToString(in, StandardCharsets.UTF_8).replace("\r\n", "\n").stripTrailing();
+        }
+    }
+
+    public record RenderedEmail(String subject, String text, String html) {
+    }
+
+    /**
+     * A template whose subject, text and HTML parts may still contain unbound placeholders.
+     */
+    public static final class PreparedEmail {
+
+        private final CompiledTemplate subject;
+        private final CompiledTemplate text;
+        private final CompiledTemplate html;
+
+        PreparedEmail(CompiledTemplate subject, CompiledTemplate text, CompiledTemplate html) {
+            this.subject = subject;
+            this.text = text;
+            this.html = html;
+        }
+
+        PreparedEmail bind(UnaryOperator<String> values) {
+            return new PreparedEmail(subject.bind(values), text.bind(values), html != null ? html.bind(values) : null);
+        }
+
+        /**
+         * Fills the remaining placeholders. Fully bound parts are returned as the same shared strings for every call.
+         */
+        public RenderedEmail render(UnaryOperator<String> values) {
+            return new RenderedEmail(subject.render(values), text.render(values), html != null ? html.render(values) : null);
+        }
+
+        public RenderedEmail render() {
+            return render(key -> null);
+        }
+    }
+
+    /**
+     * Alternating literal and placeholder segments: {@code literals[i]} precedes {@code names[i]},
+     * and the last literal closes the template.
+     */
+    static final class CompiledTemplate {
+
+        private final String[] literals;
+        private final String[] names;
+        private final boolean html;
+        private final int literalLength;
+
+        private CompiledTemplate(List<String> literals, List<String> names, boolean html) {
+            this.literals = literals.toArray(new String[0]);
+            this.names = names.toArray(new String[0]);
+            this.html = html;
+            this.literalLength = literals.stream().mapToInt(String::length).sum();
+        }
+
+        static CompiledTemplate parse(String source, boolean html) {
+            List<String> literals = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            Matcher matcher = PLACEHOLDER.matcher(source);
+            int position = 0;
+            while (matcher.find()) {
+                literals.add(source.substring(position, matcher.start()));
+                names.add(matcher.group(1));
+                position = matcher.end();
+            }
+            literals.add(source.substring(position));
+            return new CompiledTemplate(literals, names, html);
+        }
+
+        CompiledTemplate bind(UnaryOperator<String> values) {
+            List<String> boundLiterals = new ArrayList<>();
+            List<String> remainingNames = new ArrayList<>();
+            StringBuilder current = new StringBuilder(literals[0]);
+            for (int i = 0; i < names.length; i++) {
+                String value = values.apply(names[i]);
+                if (value != null) {
+                    current.append(escape(value)).append(literals[i + 1]);
+                } else {
+                    boundLiterals.add(current.toString());
+                    remainingNames.add(names[i]);
+                    current = new StringBuilder(literals[i + 1]);
+                }
+            }
+            boundLiterals.add(current.toString());
+            return new CompiledTemplate(boundLiterals, remainingNames, html);
+        }
+
+        String render(UnaryOperator<String> values) {
+            if (names.length == 0) {
+                return literals[0];
+            }
+            StringBuilder out = new StringBuilder(literalLength + 32 * names.length);
+            out.append(literals[0]);
+            for (int i = 0; i < names.length; i++) {
+                String value = values.apply(names[i]);
+                if (value != null) {
+                    out.append(escape(value));
+                }
+                out.append(literals[i + 1]);
+            }
+            return out.toString();
+        }
+
+        private String escape(String value) {
+            return html ? HtmlUtils.htmlEscape(value) : value;
+        }
+    }
+}
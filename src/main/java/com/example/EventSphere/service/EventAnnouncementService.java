@@ -0,0 +1,57 @@
+package com.example.EventSphere.service;
+
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.MailRecipient;
+import com.example.EventSphere.model.Subscription;
+import com.example.EventSphere.repository.EventRepository;
+import com.example.EventSphere.repository.SubscriptionRepository;
+
+/**
+ * Announces new events to users subscribed to their category or location.
+ * Subscribers are streamed from the subscription index straight into the outbox, so the
+ * user table is never loaded into memory regardless of how many people match.
+ */
+@Service
+public class EventAnnouncementService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventAnnouncementService.class);
+
+    private final EventRepository eventRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final EmailService emailService;
+
+    public EventAnnouncementService(EventRepository eventRepository, SubscriptionRepository subscriptionRepository,
+                                    EmailService emailService) {
+        this.eventRepository = eventRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.emailService = emailService;
+    }
+
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onEventCreated(EventCreated created) {
+        Event event = eventRepository.findByIdWithOrganizer(created.eventId()).orElse(null);
+        if (event == null || !Boolean.TRUE.equals(event.getActive())) {
+            return;
+        }
+
+        try (Stream<MailRecipient> subscribers = subscriptionRepository.streamSubscribers(
+                event.getCategory().name(),
+                Subscription.locationKeys(event.getLocation()),
+                event.getOrganizer().getUserId())) {
+            long queued = emailService.sendNewEventNotification(event, subscribers);
+            logger.info("Queued {} announcements for new event {}", queued, event.getEventId());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.EventSphere.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.EventSphere.model.ArchivedEvent;
+import com.example.EventSphere.repository.ArchivedEventRepository;
+import com.example.EventSphere.repository.ArchivedEventRepository.ArchiveTotals;
+import com.example.EventSphere.repository.EventRepository;
+import com.example.EventSphere.repository.RSVPRepository;
+import com.example.EventSphere.repository.VolunteerRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Moves completed events with their RSVPs and volunteers from the hot tables into the archive tables, and serves
+ * the archive to organizers and admin reports.
+ *
+ * <p>Each batch copies the rows with INSERT ... SELECT and deletes the originals in one short transaction, so a
+ * failure leaves an event either fully live or fully archived. The deletes go through JPQL, which keeps the
+ * second-level cache of events and RSVPs consistent.
+ */
+@Service
+public class EventArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventArchiveService.class);
+
+    private final ArchivedEventRepository archivedEventRepository;
+    private final EventRepository eventRepository;
+    private final RSVPRepository rsvpRepository;
+    private final VolunteerRepository volunteerRepository;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final Counter archivedCounter;
+
+    public EventArchiveService(ArchivedEventRepository archivedEventRepository, EventRepository eventRepository,
+                               RSVPRepository rsvpRepository, VolunteerRepository volunteerRepository,
+                               PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                               @Value("${app.archive.batch-size:200}") int batchSize) {
+        this.archivedEventRepository = archivedEventRepository;
+        this.eventRepository = eventRepository;
+        this.rsvpRepository = rsvpRepository;
+        this.volunteerRepository = volunteerRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.archivedCounter = meterRegistry.counter("eventsphere.archive.events");
+    }
+
+    /**
+     * Archives every event that ended before {@code cutoff}, oldest first, and returns how many were moved.
+     */
+    public int archiveCompletedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        while (true) {
+            Integer archived = batchTransaction.execute(status -> archiveBatch(cutoff));
+            if (archived == null || archived == 0) {
+                return total;
+            }
+            total += archived;
+            archivedCounter.increment(archived);
+            if (archived < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> eventIds = eventRepository.findCompletedEventIds(cutoff, Limit.of(batchSize));
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime archivedAt = LocalDateTime.now();
+        archivedEventRepository.archiveEvents(eventIds, archivedAt);
+        int rsvps = archivedEventRepository.archiveRsvps(eventIds);
+        int volunteers = archivedEventRepository.archiveVolunteers(eventIds);
+
+        rsvpRepository.deleteByEventIds(eventIds);
+        volunteerRepository.deleteByEventIds(eventIds);
+        eventRepository.deleteByEventIds(eventIds);
+        logger.debug("Archived events {} with {} RSVPs and {} volunteers", eventIds, rsvps, volunteers);
+        return eventIds.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArchivedEvent> getOrganizerHistory(Long organizerId) {
+        return archivedEventRepository.findByOrganizerIdOrderByEndDateTimeDesc(organizerId);
+    }
+
+    @Transactional(readOnly = true)
+    public ArchiveTotals getTotals() {
+        return archivedEventRepository.totals();
+    }
+
+    /**
+     * Removes a deleted user's archived registrations. Archived events they organized keep their name for reports.
+     */
+    @Transactional
+    public void forgetUser(Long userId) {
+        archivedEventRepository.deleteArchivedRsvpsByUserId(userId);
+        archivedEventRepository.deleteArchivedVolunteersByUserId(userId);
+    }
+}
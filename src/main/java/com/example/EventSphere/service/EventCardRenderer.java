@@ -0,0 +1,90 @@
+package com.example.EventSphere.service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import com.example.EventSphere.model.Event;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Renders the event card fragments of {@code fragments/event-cards.html} once and reuses the HTML for every page
+ * that lists the event. The key holds everything a card shows that can change: the event version (bumped on
+ * every edit), the seat count, the locale used for dates and the context path links are built with. Pages call
+ * this for cards that look the same to every viewer and add the per-viewer markup around the cached body.
+ *
+ * <p>Cards are rendered against the current request so {@code @{...}} links resolve as on the page itself, except
+ * that URLs are not passed through {@code encodeURL}: a session id in a shared card would leak to other visitors.
+ */
+@Service
+public class EventCardRenderer {
+
+    private static final String TEMPLATE = "fragments/event-cards";
+
+    private final ITemplateEngine templateEngine;
+    private final Cache<CardKey, String> cards;
+
+    public EventCardRenderer(ITemplateEngine templateEngine, MeterRegistry meterRegistry,
+                             @Value("${app.event-cards.cache-size:5000}") long cacheSize) {
+        this.templateEngine = templateEngine;
+        this.cards = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cards, "eventsphere.event-cards");
+    }
+
+    public String render(String fragment, Event event, Locale locale) {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = attributes.getRequest();
+        CardKey key = new CardKey(fragment, event.getEventId(), event.getVersion(), event.getCurrentParticipants(),
+            locale, request.getContextPath());
+        return cards.get(key, ignored -> renderCard(fragment, event, locale, request, attributes.getResponse()));
+    }
+
+    private String renderCard(String fragment, Event event, Locale locale, HttpServletRequest request,
+                              HttpServletResponse response) {
+        IWebExchange exchange = JakartaServletWebApplication.buildApplication(request.getServletContext())
+            .buildExchange(request, new SharedMarkupResponse(response));
+        WebContext context = new WebContext(exchange, locale, Map.of("event", event, "own", false));
+        return templateEngine.process(TEMPLATE, Set.of(fragment), context);
+    }
+
+    // Older versions of a card are never asked for again and age out by size
+    private record CardKey(String fragment, Long eventId, Long version, int participants, Locale locale,
+                           String contextPath) {
+    }
+
+    private static final class SharedMarkupResponse extends HttpServletResponseWrapper {
+
+        private SharedMarkupResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public String encodeURL(String url) {
+            return url;
+        }
+
+        @Override
+        public String encodeRedirectURL(String url) {
+            return url;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.EventSphere.service;
+
+/**
+ * Published by {@link EventService#createEvent} so announcements go out once the new event is committed.
+ */
+public record EventCreated(Long eventId) {
+}
@@ -0,0 +1,286 @@
+package com.example.EventSphere.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.ExportJob;
+import com.example.EventSphere.repository.ExportJobRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Packs participant and volunteer CSVs for several events into one ZIP.
+ *
+ * <p>Entries are generated in parallel on a bounded pool, each into its own temp file, while the caller's thread
+ * appends finished entries to the archive in order. At most {@code 2 * parallelism} entries are in flight, so disk
+ * and connection use stay bounded however many events are selected. The ZIP is either streamed straight into
+ * the response or, for long runs, written by a background job whose progress can be polled.
+ *
+ * <p>Background jobs are rows in {@code export_jobs} and their ZIPs live in {@code app.export.dir}, named after the
+ * job id, so the status page and download work from any node as long as that directory is shared between them.
+ * Every finished entry touches the row; {@link #purgeExpiredJobs()} removes jobs and files left untouched for
+ * {@code app.export.retention-minutes}, which also clears jobs whose node died mid-export.
+ */
+@Service
+public class EventExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventExportService.class);
+
+    private static final int PURGE_CHUNK_SIZE = 100;
+
+    private final ParticipantExportService participantExportService;
+    private final ExportJobRepository jobRepository;
+    private final ThreadPoolExecutor entryExecutor;
+    private final ExecutorService jobExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int window;
+    private final Path exportDir;
+    private final long retentionMinutes;
+
+    public EventExportService(ParticipantExportService participantExportService, ExportJobRepository jobRepository,
+                              @Value("${app.export.parallelism:4}") int parallelism,
+                              @Value("${app.export.dir:${java.io.tmpdir}/eventsphere-exports}") String exportDir,
+                              @Value("${app.export.retention-minutes:60}") long retentionMinutes) throws IOException {
+        this.participantExportService = participantExportService;
+        this.jobRepository = jobRepository;
+        this.window = parallelism * 2;
+        this.exportDir = Files.createDirectories(Paths.get(exportDir));
+        this.retentionMinutes = retentionMinutes;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.entryExecutor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "event-export-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.entryExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Writes the ZIP for {@code events} to {@code out}. The stream is finished but not closed.
+     */
+    public void writeZip(List<Event> events, OutputStream out) throws IOException {
+        writeZip(entriesFor(events), out, null);
+    }
+
+    /**
+     * Starts a background export and returns immediately; poll {@link #findJob} for progress.
+     */
+    public ExportJob startExport(List<Event> events, String owner, String filename) {
+        List<ExportEntry> entries = entriesFor(events);
+        // Saved in its own transaction, so the row is committed before the job can update it
+        ExportJob job = jobRepository.save(
+            new ExportJob(UUID.randomUUID().toString(), owner, filename, events.size(), entries.size()));
+        jobExecutor.submit(() -> runJob(job.getId(), entries));
+        return job;
+    }
+
+    public Optional<ExportJob> findJob(String jobId, String owner) {
+        return jobRepository.findByIdAndOwner(jobId, owner);
+    }
+
+    /**
+     * @return the finished ZIP of {@code job}, or empty if it is not there (yet)
+     */
+    public Optional<Path> findFile(ExportJob job) {
+        Path file = fileOf(job.getId());
+        return job.isCompleted() && Files.isReadable(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    /**
+     * Removes jobs and their files once they have been idle for the retention period. Runs on every node; each job
+     * is deleted by a single statement, and only the node whose delete removed the row deletes the file.
+     */
+    @Scheduled(fixedDelayString = "${app.export.purge-interval-ms:300000}")
+    public int purgeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        int total = 0;
+        List<String> idle;
+        do {
+            idle = jobRepository.findIdsIdleSince(cutoff, PageRequest.of(0, PURGE_CHUNK_SIZE));
+            for (String jobId : idle) {
+                if (jobRepository.deleteIdleSince(jobId, cutoff) > 0) {
+                    deleteQuietly(fileOf(jobId));
+                    total++;
+                }
+            }
+        } while (idle.size() == PURGE_CHUNK_SIZE);
+
+        if (total > 0) {
+            logger.info("Removed {} expired exports", total);
+        }
+        return total;
+    }
+
+    // Interrupted jobs fail and delete their partial file; finished files stay for other nodes to serve
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+        entryExecutor.shutdownNow();
+    }
+
+    public static String fileSlug(String title) {
+        return title.replaceAll("[^a-zA-Z0-9]+", "-").toLowerCase();
+    }
+
+    private void runJob(String jobId, List<ExportEntry> entries) {
+        Path zipFile = fileOf(jobId);
+        try {
+            AtomicInteger completed = new AtomicInteger();
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(zipFile))) {
+                writeZip(entries, out, () -> jobRepository.updateProgress(jobId, completed.incrementAndGet(), LocalDateTime.now()));
+            }
+            if (jobRepository.markCompleted(jobId, LocalDateTime.now()) == 0) {
+                // Swept while it ran, so nobody can download it
+                deleteQuietly(zipFile);
+                return;
+            }
+            logger.info("Export {} finished: {} entries", jobId, entries.size());
+        } catch (Exception e) {
+            logger.warn("Export {} failed", jobId, e);
+            deleteQuietly(zipFile);
+            jobRepository.markFailed(jobId, "Export failed: " + e.getMessage(), LocalDateTime.now());
+        }
+    }
+
+    private Path fileOf(String jobId) {
+        return exportDir.resolve(jobId + ".zip");
+    }
+
+    private void writeZip(List<ExportEntry> entries, OutputStream out, Runnable entryCompleted) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Deque<PendingEntry> inFlight = new ArrayDeque<>(window);
+        try {
+            for (ExportEntry entry : entries) {
+                if (inFlight.size() >= window) {
+                    appendNext(zip, inFlight, entryCompleted);
+                }
+                inFlight.add(new PendingEntry(entry.name(), entryExecutor.submit(() -> generate(entry))));
+            }
+            while (!inFlight.isEmpty()) {
+                appendNext(zip, inFlight, entryCompleted);
+            }
+            zip.finish();
+        } finally {
+            for (PendingEntry pending : inFlight) {
+                discard(pending.file());
+            }
+        }
+    }
+
+    private void appendNext(ZipOutputStream zip, Deque<PendingEntry> inFlight, Runnable entryCompleted) throws IOException {
+        PendingEntry pending = inFlight.peekFirst();
+        Path file = await(pending.file());
+        inFlight.removeFirst();
+        try {
+            zip.putNextEntry(new ZipEntry(pending.name()));
+            Files.copy(file, zip);
+            zip.closeEntry();
+        } finally {
+            deleteQuietly(file);
+        }
+        if (entryCompleted != null) {
+            entryCompleted.run();
+        }
+    }
+
+    private Path generate(ExportEntry entry) throws IOException {
+        Path file = Files.createTempFile("eventsphere-export-", ".csv");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            if (entry.volunteers()) {
+                participantExportService.writeVolunteersCsv(entry.eventId(), out);
+            } else {
+                participantExportService.writeParticipantsCsv(entry.eventId(), out);
+            }
+            return file;
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private static Path await(Future<Path> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Export interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Failed to generate export entry", e.getCause());
+        }
+    }
+
+    // Entries that already started still produce a temp file, so wait for them and remove it
+    private static void discard(Future<Path> future) {
+        if (future.cancel(false)) {
+            return;
+        }
+        try {
+            deleteQuietly(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {
+            // generate() already removed its file
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete export file {}", file, e);
+        }
+    }
+
+    private static List<ExportEntry> entriesFor(List<Event> events) {
+        List<ExportEntry> entries = new ArrayList<>(events.size() * 2);
+        for (Event event : events) {
+            String folder = fileSlug(event.getTitle()) + "-" + event.getEventId();
+            entries.add(new ExportEntry(folder + "/participants.csv", event.getEventId(), false));
+            entries.add(new ExportEntry(folder + "/volunteers.csv", event.getEventId(), true));
+        }
+        return entries;
+    }
+
+    private record ExportEntry(String name, Long eventId, boolean volunteers) {
+    }
+
+    private record PendingEntry(String name, Future<Path> file) {
+    }
+}
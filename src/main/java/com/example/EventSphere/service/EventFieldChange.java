@@ -0,0 +1,45 @@
+package com.example.EventSphere.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.example.EventSphere.model.Event;
+
+/**
+ * One editable event field whose submitted value differs from the value saved by someone else in the meantime.
+ * Shown on the edit form after an optimistic locking conflict.
+ */
+public record EventFieldChange(String label, Object submitted, Object current) {
+
+    public static List<EventFieldChange> diff(Event submitted, Event current) {
+        List<EventFieldChange> changes = new ArrayList<>();
+        compare(changes, "Title", submitted, current, Event::getTitle);
+        compare(changes, "Description", submitted, current, Event::getDescription);
+        compare(changes, "Category", submitted, current, Event::getCategory);
+        compare(changes, "Location", submitted, current, Event::getLocation);
+        compare(changes, "Start", submitted, current, Event::getDateTime);
+        compare(changes, "End", submitted, current, Event::getEndDateTime);
+        compare(changes, "Registration deadline", submitted, current, Event::getRegistrationDeadline);
+        compare(changes, "Max participants", submitted, current, Event::getMaxParticipants);
+        compare(changes, "Requires approval", submitted, current, Event::getRequiresApproval);
+        return changes;
+    }
+
+    private static void compare(List<EventFieldChange> changes, String label, Event submitted, Event current,
+                                Function<Event, Object> field) {
+        Object submittedValue = normalize(field.apply(submitted));
+        Object currentValue = normalize(field.apply(current));
+        if (!Objects.equals(submittedValue, currentValue)) {
+            changes.add(new EventFieldChange(label, submittedValue, currentValue));
+        }
+    }
+
+    // The form edits date-times to the minute
+    private static Object normalize(Object value) {
+        return value instanceof LocalDateTime dateTime ? dateTime.truncatedTo(ChronoUnit.MINUTES) : value;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.EventSphere.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.RSVP;
+import com.example.EventSphere.repository.EventRepository;
+import com.example.EventSphere.repository.RSVPRepository;
+
+@Service
+public class EventReminderService {
+
+    private final EventRepository eventRepository;
+    private final RSVPRepository rsvpRepository;
+    private final EmailService emailService;
+
+    @Value("${app.reminders.batch-size:500}")
+    private int batchSize;
+
+    public EventReminderService(EventRepository eventRepository, RSVPRepository rsvpRepository, EmailService emailService) {
+        this.eventRepository = eventRepository;
+        this.rsvpRepository = rsvpRepository;
+        this.emailService = emailService;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Event> findEventsStartingBetween(LocalDateTime from, LocalDateTime to) {
+        return eventRepository.findActiveStartingBetween(from, to);
+    }
+
+    /**
+     * Queues reminders for everyone currently GOING, reading attendees in keyset batches.
+     * Attendees are resolved at send time, so withdrawn RSVPs are never reminded. The reminder is claimed in
+     * {@code reminders_sent} within the same transaction, so when several nodes fire it only one queues the emails.
+     *
+     * @return the number of reminders queued, and the event's current start if it moved since it was scheduled
+     */
+    @Transactional
+    public Dispatch sendReminders(Long eventId, LocalDateTime expectedStart, Duration offset) {
+        Event event = eventRepository.findById(eventId).orElse(null);
+        if (event == null || !Boolean.TRUE.equals(event.getActive())) {
+            return new Dispatch(0, null);
+        }
+        if (!event.getDateTime().equals(expectedStart)) {
+            return new Dispatch(0, event.getDateTime());
+        }
+        if (eventRepository.claimReminder(eventId, expectedStart, offset.toSeconds(), LocalDateTime.now()) == 0) {
+            return new Dispatch(0, null);
+        }
+
+        int queued = 0;
+        long afterId = 0;
+        while (true) {
+            List<RSVP> batch = rsvpRepository.findGoingWithUserAfter(eventId, afterId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            emailService.sendEventReminders(event, batch.stream().map(RSVP::getUser).toList());
+            queued += batch.size();
+            afterId = batch.get(batch.size() - 1).getRsvpId();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return new Dispatch(queued, null);
+    }
+
+    /**
+     * What firing a reminder did: the emails queued, and where the event starts now when it was moved after the
+     * reminder was scheduled (possibly on another node), so the caller can schedule it again.
+     */
+    public record Dispatch(int queued, LocalDateTime movedTo) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.EventSphere.service;
+
+import java.time.LocalDateTime;
+
+import com.example.EventSphere.model.Event;
+
+/**
+ * Published by {@link EventService} whenever an event is created, rescheduled, (de)activated or deleted.
+ * A {@code null} start time means the event no longer exists.
+ */
+public record EventScheduleChange(Long eventId, LocalDateTime dateTime, boolean active) {
+
+    public static EventScheduleChange of(Event event) {
+        return new EventScheduleChange(event.getEventId(), event.getDateTime(), Boolean.TRUE.equals(event.getActive()));
+    }
+
+    public static EventScheduleChange deleted(Long eventId) {
+        return new EventScheduleChange(eventId, null, false);
+    }
+}
@@ -5,21 +5,38 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.EventSphere.model.AuthenticatedUser;
 import com.example.EventSphere.model.Event;
 import com.example.EventSphere.model.User;
 import com.example.EventSphere.repository.EventRepository;
+import com.example.EventSphere.repository.RSVPRepository;
+import com.example.EventSphere.repository.VolunteerRepository;
 
 @Service
 @Transactional
 public class EventService {
     
     private final EventRepository eventRepository;
-    
-    public EventService(EventRepository eventRepository) {
+    private final RSVPRepository rsvpRepository;
+    private final VolunteerRepository volunteerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticLockRetry optimisticLockRetry;
+    
+    public EventService(EventRepository eventRepository, RSVPRepository rsvpRepository,
+                        VolunteerRepository volunteerRepository, ApplicationEventPublisher eventPublisher,
+                        OptimisticLockRetry optimisticLockRetry) {
         this.eventRepository = eventRepository;
+        this.rsvpRepository = rsvpRepository;
+        this.volunteerRepository = volunteerRepository;
+        this.eventPublisher = eventPublisher;
+        this.optimisticLockRetry = optimisticLockRetry;
     }
     
     public Event createEvent(Event event, User organizer) {
@@ -27,11 +44,16 @@ public class EventService {
         event.setCreatedAt(LocalDateTime.now());
         event.setActive(true);
         
-        return eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(EventScheduleChange.of(savedEvent));
+        eventPublisher.publishEvent(new EventCreated(savedEvent.getEventId()));
+        return savedEvent;
     }
     
     public Event updateEvent(Event event) {
-        return eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(EventScheduleChange.of(savedEvent));
+        return savedEvent;
     }
 
     public boolean isRegistrationClosed(Event event, LocalDateTime referenceTime) {
@@ -63,34 +85,49 @@ public class EventService {
 
     @Transactional
     public void deleteEvent(Long eventId) {
-        Event event = eventRepository.findById(eventId)
-            .orElseThrow(() -> new RuntimeException("Event not found"));
+        if (!eventRepository.existsById(eventId)) {
+            throw new RuntimeException("Event not found");
+        }
         
-        // The cascade will handle deletion of RSVPs and Volunteers
-        eventRepository.delete(event);
+        // One statement per table instead of loading and deleting every RSVP and volunteer through the cascade
+        deleteEventsWithRegistrations(List.of(eventId));
+        eventPublisher.publishEvent(EventScheduleChange.deleted(eventId));
     }
     
+    // Setting the flag is safe to repeat, so a concurrent edit is retried rather than reported
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deactivateEvent(Long eventId) {
-        Event event = eventRepository.findById(eventId)
-            .orElseThrow(() -> new RuntimeException("Event not found"));
-        event.setActive(false);
-        eventRepository.save(event);
+        optimisticLockRetry.run(() -> {
+            Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+            event.setActive(false);
+            eventRepository.save(event);
+            eventPublisher.publishEvent(EventScheduleChange.of(event));
+        });
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void activateEvent(Long eventId) {
-        Event event = eventRepository.findById(eventId)
-            .orElseThrow(() -> new RuntimeException("Event not found"));
-        // Admin can activate any event, including those that were previously deactivated
-        // The requiresApproval field is for future event approval workflow
-        event.setActive(true);
-        eventRepository.save(event);
+        optimisticLockRetry.run(() -> {
+            Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+            // Admin can activate any event, including those that were previously deactivated
+            // The requiresApproval field is for future event approval workflow
+            event.setActive(true);
+            eventRepository.save(event);
+            eventPublisher.publishEvent(EventScheduleChange.of(event));
+        });
     }
     
     public Optional<Event> findById(Long eventId) {
-        // Use findByIdWithOrganizer to eagerly fetch the organizer and avoid lazy loading issues
-        return eventRepository.findByIdWithOrganizer(eventId);
+        // Both the event and its organizer resolve from the second-level cache; initializing the organizer here
+        // avoids lazy loading issues once the transaction is closed
+        Optional<Event> event = eventRepository.findById(eventId);
+        event.ifPresent(found -> Hibernate.initialize(found.getOrganizer()));
+        return event;
     }
     
+    @Transactional(readOnly = true)
     public Optional<Event> findByIdWithDetails(Long eventId) {
         Optional<Event> eventOpt = eventRepository.findByIdWithDetails(eventId);
         // Initialize lazy collections within transaction
@@ -108,6 +145,7 @@ public class EventService {
         return eventOpt;
     }
     
+    @Transactional(readOnly = true)
     public List<Event> getAllActiveEvents() {
         return eventRepository.findAllActiveWithDetails();
     }
@@ -124,10 +162,23 @@ public class EventService {
     }
 
 
+    @Transactional(readOnly = true)
     public List<Event> getUpcomingEvents() {
         return eventRepository.findUpcomingEventsWithDetails(LocalDateTime.now());
     }
     
+    /**
+     * Up to {@code limit} upcoming active events with their organizer, in start order after the given
+     * (start, id) position. RSVPs are not loaded.
+     */
+    @Transactional(readOnly = true)
+    public List<Event> getUpcomingEventsPage(Event.Category category, LocalDateTime afterDateTime, Long afterId, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime after = afterDateTime != null && afterDateTime.isAfter(now) ? afterDateTime : now;
+        return eventRepository.findUpcomingPage(now, category, after, afterId != null ? afterId : 0L, Limit.of(limit));
+    }
+    
+    @Transactional(readOnly = true)
     public List<Event> getEventsByCategory(Event.Category category) {
         return eventRepository.findByCategoryWithDetails(category);
     }
@@ -136,29 +187,33 @@ public class EventService {
         return eventRepository.findByOrganizer(organizer);
     }
     
+    public List<Event> getEventsByOrganizerId(Long organizerId) {
+        return eventRepository.findByOrganizer_UserId(organizerId);
+    }
+    
+    public List<Event> getEventsByIds(List<Long> eventIds) {
+        return eventRepository.findAllById(eventIds);
+    }
+    
+    @Transactional(readOnly = true)
     public List<Event> searchEvents(String keyword) {
         return eventRepository.searchEventsWithDetails(keyword);
     }
     
+    @Transactional(readOnly = true)
     public List<Event> getEventsByLocation(String location) {
         return eventRepository.findByLocationContainingWithDetails(location);
     }
     
+    @Transactional(readOnly = true)
     public List<Event> getEventsByDateRange(LocalDateTime start, LocalDateTime end) {
         return eventRepository.findEventsByDateRange(start, end);
     }
     
-
-    public List<Event> getEventsCompletedBefore(LocalDateTime cutoff) {
-        return eventRepository.findCompletedEventsBefore(cutoff);
-    }
-    
-    public List<Event> deleteEventsCompletedBefore(LocalDateTime cutoff) {
-        List<Event> eventsToDelete = getEventsCompletedBefore(cutoff);
-        if (!eventsToDelete.isEmpty()) {
-            eventRepository.deleteAll(eventsToDelete);
-        }
-        return List.copyOf(eventsToDelete);
+    private void deleteEventsWithRegistrations(List<Long> eventIds) {
+        rsvpRepository.deleteByEventIds(eventIds);
+        volunteerRepository.deleteByEventIds(eventIds);
+        eventRepository.deleteByEventIds(eventIds);
     }
     
     public List<Event> getEventsByDateRangeAndCategory(LocalDateTime start, LocalDateTime end, Event.Category category) {
@@ -176,7 +231,7 @@ public class EventService {
         return event.isUpcoming();
     }
     
-    public boolean canUserManageEvent(Event event, User user) {
+    public boolean canUserManageEvent(Event event, AuthenticatedUser user) {
         return event.getOrganizer().getUserId().equals(user.getUserId()) || 
                user.getRole() == User.Role.ADMIN;
     }
@@ -0,0 +1,81 @@
+package com.example.EventSphere.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs an update that loads, changes and saves versioned entities, and repeats it when a concurrent writer changed
+ * the rows in between. Each attempt gets a new transaction and persistence context, so it reloads the current
+ * state. Only for updates that are safe to repeat, such as setting a flag or a status; edits a user made against an
+ * older version must surface the conflict instead.
+ */
+@Component
+public class OptimisticLockRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticLockRetry.class);
+
+    private final TransactionTemplate attemptTransaction;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Counter retryCounter;
+    private final Counter exhaustedCounter;
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                               @Value("${app.optimistic-lock.max-attempts:3}") int maxAttempts,
+                               @Value("${app.optimistic-lock.backoff-ms:20}") long backoffMillis) {
+        this.attemptTransaction = new TransactionTemplate(transactionManager);
+        this.attemptTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.retryCounter = meterRegistry.counter("eventsphere.optimistic-lock.retries");
+        this.exhaustedCounter = meterRegistry.counter("eventsphere.optimistic-lock.exhausted");
+    }
+
+    public <T> T execute(Supplier<T> update) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return attemptTransaction.execute(status -> update.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    throw e;
+                }
+                retryCounter.increment();
+                logger.debug("Concurrent update, retrying (attempt {} of {}): {}", attempt + 1, maxAttempts, e.getMessage());
+                pause(attempt);
+            }
+        }
+    }
+
+    public void run(Runnable update) {
+        execute(() -> {
+            update.run();
+            return null;
+        });
+    }
+
+    // Jittered linear backoff so two retrying writers do not collide again
+    private void pause(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying a concurrent update", e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.EventSphere.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Fingerprints the data behind the public event pages, so a conditional GET can be answered without loading
+ * entities or rendering the template.
+ *
+ * <p>The listings are validated against a counter row that every event and RSVP write bumps as it commits, plus
+ * the latest start and end time already passed (which changes what the listings show without any write); each
+ * part is a single index lookup, so the cost does not grow with the catalogue. A details page tag combines its
+ * event's version, row counts and modification times of its registrations, and which of its dates have passed.
+ */
+@Service
+public class PageVersionService {
+
+    // Both boundaries are served by an index: (is_active, date_time) and (end_date_time)
+    private static final String CATALOGUE_SQL =
+        "SELECT p.version, p.updated_at, "
+      + "(SELECT MAX(date_time) FROM events WHERE is_active = TRUE AND date_time <= ?) AS started, "
+      + "(SELECT MAX(end_date_time) FROM events WHERE end_date_time <= ?) AS ended "
+      + "FROM page_versions p WHERE p.name = 'catalogue'";
+
+    private static final String BUMP_CATALOGUE_SQL =
+        "UPDATE page_versions SET version = version + 1, updated_at = ? WHERE name = 'catalogue'";
+
+    private static final String EVENT_SQL =
+        "SELECT e.organizer_id, e.version, e.updated_at, u.version AS organizer_version, "
+      + "e.date_time, e.end_date_time, e.registration_deadline, "
+      + "(SELECT COUNT(*) FROM rsvps r WHERE r.event_id = e.event_id) AS rsvps, "
+      + "(SELECT MAX(r.updated_at) FROM rsvps r WHERE r.event_id = e.event_id) AS rsvps_updated, "
+      + "(SELECT COUNT(*) FROM volunteers v WHERE v.event_id = e.event_id) AS volunteers, "
+      + "(SELECT MAX(v.updated_at) FROM volunteers v WHERE v.event_id = e.event_id) AS volunteers_updated "
+      + "FROM events e JOIN users u ON u.user_id = e.organizer_id WHERE e.event_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PageVersionService(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Version of the event listings on the home and events pages, including their participant counts.
+     */
+    @Transactional(readOnly = true)
+    public PageVersion catalogueVersion() {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.queryForObject(CATALOGUE_SQL, (rs, rowNum) -> {
+            Fingerprint fingerprint = new Fingerprint(now);
+            fingerprint.add(rs.getLong("version"));
+            fingerprint.addModified(rs.getTimestamp("updated_at"));
+            fingerprint.addPassed(rs.getTimestamp("started"));
+            fingerprint.addPassed(rs.getTimestamp("ended"));
+            return fingerprint.toPageVersion();
+        }, now, now);
+    }
+
+    /**
+     * Bumps the catalogue version in the writing transaction. It runs just before the commit, so the counter
+     * row stays locked only while the transaction commits and not for the whole write.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onSeatCountChange(SeatCountChange change) {
+        catalogueChanged();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onScheduleChange(EventScheduleChange change) {
+        catalogueChanged();
+    }
+
+    /**
+     * For writes that change the listings without publishing either event, such as bulk RSVP deletes.
+     */
+    public void catalogueChanged() {
+        jdbcTemplate.update(BUMP_CATALOGUE_SQL, LocalDateTime.now());
+    }
+
+    /**
+     * Version of one event's details page, or empty when the event does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<EventPageVersion> eventVersion(Long eventId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EventPageVersion> versions = jdbcTemplate.query(EVENT_SQL,
+            (rs, rowNum) -> toEventPageVersion(rs, now), eventId);
+        return versions.stream().findFirst();
+    }
+
+    private static EventPageVersion toEventPageVersion(ResultSet rs, LocalDateTime now) throws SQLException {
+        Fingerprint fingerprint = new Fingerprint(now);
+        fingerprint.add(rs.getLong("version"));
+        fingerprint.addModified(rs.getTimestamp("updated_at"));
+        fingerprint.add(rs.getLong("organizer_version"));
+        fingerprint.addBoundary(rs.getTimestamp("date_time"));
+        fingerprint.addBoundary(rs.getTimestamp("end_date_time"));
+        fingerprint.addBoundary(rs.getTimestamp("registration_deadline"));
+        fingerprint.add(rs.getLong("rsvps"));
+        fingerprint.addModified(rs.getTimestamp("rsvps_updated"));
+        fingerprint.add(rs.getLong("volunteers"));
+        fingerprint.addModified(rs.getTimestamp("volunteers_updated"));
+        return new EventPageVersion(rs.getLong("organizer_id"), fingerprint.toPageVersion());
+    }
+
+    /**
+     * Opaque tag for a page's data and the time it last changed, never later than the request.
+     */
+    public record PageVersion(String tag, Instant lastModified) {
+    }
+
+    public record EventPageVersion(Long organizerId, PageVersion page) {
+    }
+
+    private static final class Fingerprint {
+
+        private final LocalDateTime now;
+        private final StringJoiner tag = new StringJoiner(":");
+        private LocalDateTime lastModified = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+        Fingerprint(LocalDateTime now) {
+            this.now = now;
+        }
+
+        void add(long value) {
+            tag.add(Long.toString(value));
+        }
+
+        void addModified(Timestamp timestamp) {
+            tag.add(timestamp == null ? "-" : timestamp.toString());
+            if (timestamp != null) {
+                advance(timestamp.toLocalDateTime());
+            }
+        }
+
+        // Already filtered to dates that have passed
+        void addPassed(Timestamp timestamp) {
+            addModified(timestamp);
+        }
+
+        // A date of the event itself counts once it has passed
+        void addBoundary(Timestamp timestamp) {
+            boolean passed = timestamp != null && !timestamp.toLocalDateTime().isAfter(now);
+            tag.add(passed ? "1" : "0");
+            if (passed) {
+                advance(timestamp.toLocalDateTime());
+            }
+        }
+
+        private void advance(LocalDateTime candidate) {
+            if (candidate.isAfter(lastModified)) {
+                lastModified = candidate.isAfter(now) ? now : candidate;
+            }
+        }
+
+        PageVersion toPageVersion() {
+            return new PageVersion(tag.toString(), lastModified.atZone(ZoneId.systemDefault()).toInstant());
+        }
+    }
+}
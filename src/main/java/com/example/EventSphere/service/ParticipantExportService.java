@@ -0,0 +1,80 @@
+package com.example.EventSphere.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.EventSphere.model.RSVP;
+import com.example.EventSphere.model.Volunteer;
+import com.example.EventSphere.repository.RSVPRepository;
+import com.example.EventSphere.repository.VolunteerRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Writes participant and volunteer CSVs row by row from a database cursor.
+ * Each row is detached once written, so memory use does not grow with the number of attendees.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ParticipantExportService {
+
+    private final RSVPRepository rsvpRepository;
+    private final VolunteerRepository volunteerRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ParticipantExportService(RSVPRepository rsvpRepository, VolunteerRepository volunteerRepository) {
+        this.rsvpRepository = rsvpRepository;
+        this.volunteerRepository = volunteerRepository;
+    }
+
+    public void writeParticipantsCsv(Long eventId, OutputStream out) throws IOException {
+        CsvWriter csv = new CsvWriter(out);
+        csv.row("Participant Name", "Email", "Status", "RSVP Date", "Team Name", "Team Size");
+
+        try (Stream<RSVP> rows = rsvpRepository.streamByEventIdWithUser(eventId)) {
+            Iterator<RSVP> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                RSVP rsvp = iterator.next();
+                csv.startRow()
+                    .field(rsvp.getUser().getName())
+                    .field(rsvp.getUser().getEmail())
+                    .field(rsvp.getStatus().name())
+                    .field(rsvp.getRsvpDate())
+                    .field(rsvp.getTeamName())
+                    .field(rsvp.getTeamSize());
+                entityManager.detach(rsvp.getUser());
+                entityManager.detach(rsvp);
+            }
+        }
+        csv.flush();
+    }
+
+    public void writeVolunteersCsv(Long eventId, OutputStream out) throws IOException {
+        CsvWriter csv = new CsvWriter(out);
+        csv.row("Volunteer Name", "Email", "Status", "Role Description", "Registration Date");
+
+        try (Stream<Volunteer> rows = volunteerRepository.streamByEventIdWithUser(eventId)) {
+            Iterator<Volunteer> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Volunteer volunteer = iterator.next();
+                csv.startRow()
+                    .field(volunteer.getUser().getName())
+                    .field(volunteer.getUser().getEmail())
+                    .field(volunteer.getStatus().name())
+                    .field(volunteer.getRoleDescription())
+                    .field(volunteer.getRegistrationDate());
+                entityManager.detach(volunteer.getUser());
+                entityManager.detach(volunteer);
+            }
+        }
+        csv.flush();
+    }
+}
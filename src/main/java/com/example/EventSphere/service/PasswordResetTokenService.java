@@ -0,0 +1,201 @@
+package com.example.EventSphere.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.EventSphere.model.PasswordResetToken;
+import com.example.EventSphere.model.User;
+import com.example.EventSphere.repository.PasswordResetTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Issues and redeems password reset tokens.
+ *
+ * <p>Only the SHA-256 of a token is stored, so a leaked table or backup cannot be used to reset passwords.
+ * Live tokens are kept in a cache that expires with them; the database is only read when another node issued
+ * the token. Redeeming deletes the row, and abandoned tokens are removed in chunks by {@link #purgeExpired()}.
+ */
+@Service
+public class PasswordResetTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordResetTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final PasswordResetTokenRepository tokenRepository;
+    private final SecureRandom random = new SecureRandom();
+    private final Cache<String, LiveToken> liveTokens;
+    private final Duration timeToLive;
+    private final int sweepChunkSize;
+    private final Counter issuedCounter;
+    private final Counter consumedCounter;
+    private final Counter expiredCounter;
+    private final Counter rejectedCounter;
+
+    public PasswordResetTokenService(PasswordResetTokenRepository tokenRepository, MeterRegistry meterRegistry,
+                                     @Value("${app.password-reset.token-ttl:10m}") Duration timeToLive,
+                                     @Value("${app.password-reset.cache-max-size:10000}") long cacheMaxSize,
+                                     @Value("${app.password-reset.sweep-chunk-size:500}") int sweepChunkSize) {
+        this.tokenRepository = tokenRepository;
+        this.timeToLive = timeToLive;
+        this.sweepChunkSize = sweepChunkSize;
+        this.liveTokens = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfterWrite(timeToLive)
+            .build();
+
+        Gauge.builder("eventsphere.password-reset.cached", liveTokens, Cache::estimatedSize)
+            .description("Live password reset tokens held in memory")
+            .register(meterRegistry);
+        this.issuedCounter = meterRegistry.counter("eventsphere.password-reset.issued");
+        this.consumedCounter = meterRegistry.counter("eventsphere.password-reset.consumed");
+        this.expiredCounter = meterRegistry.counter("eventsphere.password-reset.expired");
+        this.rejectedCounter = meterRegistry.counter("eventsphere.password-reset.rejected");
+    }
+
+    /**
+     * Replaces any outstanding token of {@code user} with a new one and returns the raw token for the reset link.
+     */
+    @Transactional
+    public String issue(User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        String tokenHash = hash(token);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(timeToLive);
+
+        revokeAll(user.getUserId());
+        tokenRepository.save(new PasswordResetToken(tokenHash, user, expiresAt));
+        issuedCounter.increment();
+
+        LiveToken live = new LiveToken(user.getUserId(), expiresAt);
+        afterCommit(() -> liveTokens.put(tokenHash, live));
+        return token;
+    }
+
+    /**
+     * Whether {@code token} can still be redeemed; used to decide whether to show the reset form.
+     */
+    public boolean isValid(String token) {
+        return find(hash(token)).isPresent();
+    }
+
+    /**
+     * Redeems {@code token} and returns the id of the user it was issued to. Joins the caller's transaction,
+     * so the token is only spent if the password change commits.
+     */
+    @Transactional
+    public Optional<Long> consume(String token) {
+        String tokenHash = hash(token);
+        Optional<LiveToken> live = find(tokenHash);
+        if (live.isEmpty()) {
+            return Optional.empty();
+        }
+
+        liveTokens.invalidate(tokenHash);
+        if (tokenRepository.deleteUnexpired(tokenHash, LocalDateTime.now()) == 0) {
+            // Spent by a concurrent request or expired in between
+            rejectedCounter.increment();
+            return Optional.empty();
+        }
+        consumedCounter.increment();
+        return Optional.of(live.get().userId());
+    }
+
+    @Transactional
+    public void revokeAll(Long userId) {
+        tokenRepository.deleteByUser_UserId(userId);
+        liveTokens.asMap().values().removeIf(live -> live.userId().equals(userId));
+    }
+
+    /**
+     * Deletes expired tokens in chunks of {@code app.password-reset.sweep-chunk-size}, each in its own transaction,
+     * so a large backlog never holds locks on the table for long.
+     */
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = tokenRepository.deleteExpired(now, sweepChunkSize);
+            total += deleted;
+        } while (deleted == sweepChunkSize);
+
+        if (total > 0) {
+            expiredCounter.increment(total);
+            logger.info("Removed {} expired password reset tokens", total);
+        }
+        return total;
+    }
+
+    private Optional<LiveToken> find(String tokenHash) {
+        LiveToken live = liveTokens.getIfPresent(tokenHash);
+        if (live == null) {
+            live = tokenRepository.findByTokenHash(tokenHash)
+                .map(stored -> new LiveToken(stored.getUser().getUserId(), stored.getExpiresAt()))
+                .orElse(null);
+            if (live == null) {
+                rejectedCounter.increment();
+                return Optional.empty();
+            }
+            liveTokens.put(tokenHash, live);
+        }
+
+        if (live.isExpired()) {
+            // Left for the sweeper; counted there when the row is removed
+            liveTokens.invalidate(tokenHash);
+            rejectedCounter.increment();
+            return Optional.empty();
+        }
+        return Optional.of(live);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record LiveToken(Long userId, LocalDateTime expiresAt) {
+
+        boolean isExpired() {
+            return !LocalDateTime.now().isBefore(expiresAt);
+        }
+    }
+}
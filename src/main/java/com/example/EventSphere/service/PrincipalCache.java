@@ -0,0 +1,67 @@
+package com.example.EventSphere.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.EventSphere.model.AuthenticatedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Bounded, expiring cache of principals by email. Entries are handed out as copies because a successful
+ * authentication erases the password hash of the principal it returns.
+ */
+class PrincipalCache {
+
+    private final Cache<String, AuthenticatedUser> cache;
+
+    PrincipalCache(long maximumSize, Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .build();
+    }
+
+    Optional<AuthenticatedUser> get(String email, Function<String, Optional<AuthenticatedUser>> loader) {
+        String key = key(email);
+        AuthenticatedUser cached = cache.getIfPresent(key);
+        if (cached == null) {
+            Optional<AuthenticatedUser> loaded = loader.apply(email);
+            if (loaded.isEmpty()) {
+                return Optional.empty();
+            }
+            cached = loaded.get();
+            cache.put(key, cached);
+        }
+        return Optional.of(cached.copy());
+    }
+
+    /**
+     * Drops the principal once the surrounding transaction commits. Evicting before the commit would let a login
+     * in between load the old password hash and credentials version and cache them again for the whole TTL.
+     */
+    void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = key(email);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(key);
+            }
+        });
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase();
+    }
+}
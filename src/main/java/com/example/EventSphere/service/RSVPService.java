@@ -1,29 +1,48 @@
 package com.example.EventSphere.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.EventSphere.config.ReadYourWrites;
 import com.example.EventSphere.model.Event;
 import com.example.EventSphere.model.RSVP;
 import com.example.EventSphere.model.User;
 import com.example.EventSphere.repository.RSVPRepository;
+import com.example.EventSphere.repository.RSVPRepository.GoingCount;
 
+// Reads may be served by a replica; the user's own writes pin their reads to the primary for a while
 @Service
+@Transactional(readOnly = true)
 public class RSVPService {
     
     private final RSVPRepository rsvpRepository;
+    private final ReadYourWrites readYourWrites;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public RSVPService(RSVPRepository rsvpRepository) {
+    public RSVPService(RSVPRepository rsvpRepository, ReadYourWrites readYourWrites,
+                       ApplicationEventPublisher eventPublisher) {
         this.rsvpRepository = rsvpRepository;
+        this.readYourWrites = readYourWrites;
+        this.eventPublisher = eventPublisher;
     }
     
+    @Transactional
     public RSVP createRSVP(Event event, User user, RSVP.Status status) {
         return createRSVP(event, user, status, null, null);
     }
     
+    @Transactional
     public RSVP createRSVP(Event event, User user, RSVP.Status status, String teamName, Integer teamSize) {
+        readYourWrites.recordWrite(user.getEmail());
+        eventPublisher.publishEvent(new SeatCountChange(event.getEventId()));
         // Check if user already has an RSVP for this event
         Optional<RSVP> existingRSVP = rsvpRepository.findByEventAndUser(event, user);
         
@@ -55,7 +74,10 @@ public class RSVPService {
         }
     }
     
+    @Transactional
     public RSVP updateRSVPStatus(Event event, User user, RSVP.Status newStatus) {
+        readYourWrites.recordWrite(user.getEmail());
+        eventPublisher.publishEvent(new SeatCountChange(event.getEventId()));
         RSVP rsvp = rsvpRepository.findByEventAndUser(event, user)
             .orElseThrow(() -> new RuntimeException("RSVP not found"));
         
@@ -63,7 +85,10 @@ public class RSVPService {
         return rsvpRepository.save(rsvp);
     }
     
+    @Transactional
     public void deleteRSVP(Event event, User user) {
+        readYourWrites.recordWrite(user.getEmail());
+        eventPublisher.publishEvent(new SeatCountChange(event.getEventId()));
         RSVP rsvp = rsvpRepository.findByEventAndUser(event, user)
             .orElseThrow(() -> new RuntimeException("RSVP not found"));
         
@@ -98,6 +123,24 @@ public class RSVPService {
         return rsvpRepository.findUserGoingEvents(user);
     }
     
+    /**
+     * GOING counts for several events in one query; events without RSVPs are absent from the map.
+     */
+    public Map<Long, Long> getGoingCounts(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+        return rsvpRepository.countGoingByEventIds(eventIds).stream()
+            .collect(Collectors.toMap(GoingCount::getEventId, GoingCount::getGoing));
+    }
+    
+    /**
+     * Up to {@code limit} of the user's RSVPs with their events, in RSVP id order after {@code afterId}.
+     */
+    public List<RSVP> getUserRSVPsPage(Long userId, Long afterId, int limit) {
+        return rsvpRepository.findByUserIdWithEventAfter(userId, afterId != null ? afterId : 0L, Limit.of(limit));
+    }
+    
     public long getGoingParticipantsCount(Event event) {
         return rsvpRepository.countGoingParticipants(event);
     }
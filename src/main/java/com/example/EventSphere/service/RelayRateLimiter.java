@@ -0,0 +1,68 @@
+package com.example.EventSphere.service;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Paces sends so that all SMTP connections together stay under the relay's messages-per-second quota.
+ * Every message takes its own slot, so no caller holds a reservation beyond the message it is about to send
+ * and the backlog ahead of any caller is at most one slot per connection.
+ */
+@Component
+public class RelayRateLimiter {
+
+    private final long nanosPerMessage;
+    private final LongSupplier nanoClock;
+    private long nextFreeNanos;
+
+    @Autowired
+    public RelayRateLimiter(@Value("${app.mail.bulk.max-messages-per-second:0}") double maxMessagesPerSecond) {
+        this(maxMessagesPerSecond, System::nanoTime);
+    }
+
+    RelayRateLimiter(double maxMessagesPerSecond, LongSupplier nanoClock) {
+        this.nanosPerMessage = maxMessagesPerSecond > 0 ? (long) (1_000_000_000d / maxMessagesPerSecond) : 0;
+        this.nanoClock = nanoClock;
+        this.nextFreeNanos = nanoClock.getAsLong();
+    }
+
+    public boolean isLimited() {
+        return nanosPerMessage > 0;
+    }
+
+    /**
+     * @return how many messages the relay accepts within {@code window}, or {@link Long#MAX_VALUE} when unlimited
+     */
+    public long messagesWithin(Duration window) {
+        return isLimited() ? window.toNanos() / nanosPerMessage : Long.MAX_VALUE;
+    }
+
+    /**
+     * Reserves the next free slot for one message and parks until it starts.
+     */
+    public void acquire() {
+        long slotStart = reserve();
+        long remaining;
+        while ((remaining = slotStart - nanoClock.getAsLong()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the reserved slot starts
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        if (!isLimited()) {
+            return now;
+        }
+        long slotStart = Math.max(nextFreeNanos, now);
+        nextFreeNanos = slotStart + nanosPerMessage;
+        return slotStart;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.EventSphere.service;
+
+import java.time.LocalDateTime;
+
+import com.example.EventSphere.model.Event;
+
+/**
+ * Seat count and registration state of an event, as pushed to the live event details page.
+ */
+public record SeatAvailability(Long eventId, long participants, Integer maxParticipants, boolean full,
+                               boolean registrationClosed) {
+
+    // Same rules as Event.isFull and EventService.isRegistrationClosed, from a GOING count
+    static SeatAvailability of(Event event, long going, LocalDateTime now) {
+        Integer max = event.getMaxParticipants();
+        LocalDateTime deadline = event.getRegistrationDeadline();
+        return new SeatAvailability(event.getEventId(), going, max, max != null && going >= max,
+            deadline != null && !now.isBefore(deadline));
+    }
+}
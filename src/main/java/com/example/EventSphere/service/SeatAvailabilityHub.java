@@ -0,0 +1,269 @@
+package com.example.EventSphere.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.repository.EventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Pushes seat counts and registration state to event details pages over Server-Sent Events.
+ *
+ * <p>Committed RSVP and event changes only mark the event as changed; a scheduled flush reloads all changed
+ * events with two queries and pushes to their subscribers, so a burst of RSVPs costs at most one push per event
+ * per flush interval. Unchanged availability is not pushed again. Open streams are async requests that hold no
+ * request thread. Each stream has a single writer on a virtual thread that sends the latest availability it was
+ * offered, so pushes arrive in order, a slow client cannot hold up the others, and one that falls behind skips
+ * the counts it missed instead of queueing them.
+ */
+@Service
+public class SeatAvailabilityHub implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatAvailabilityHub.class);
+
+    private static final String EVENT_NAME = "seats";
+
+    private final EventRepository eventRepository;
+    private final RSVPService rsvpService;
+    private final TransactionTemplate primaryRead;
+    private final Duration timeout;
+    private final int maxSubscribers;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<Long, Set<SeatStream>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, SeatAvailability> lastSent = new ConcurrentHashMap<>();
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter pushCounter;
+
+    public SeatAvailabilityHub(EventRepository eventRepository, RSVPService rsvpService,
+                               PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                               @Value("${app.live-seats.timeout:30m}") Duration timeout,
+                               @Value("${app.live-seats.max-subscribers:5000}") int maxSubscribers) {
+        this.eventRepository = eventRepository;
+        this.rsvpService = rsvpService;
+        // Not read-only, so the reload goes to the primary and sees the write that triggered it, not a lagging replica
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.timeout = timeout;
+        this.maxSubscribers = maxSubscribers;
+        this.pushCounter = meterRegistry.counter("eventsphere.live-seats.pushes");
+        meterRegistry.gauge("eventsphere.live-seats.subscribers", subscriberCount);
+    }
+
+    public boolean acceptsSubscribers() {
+        return subscriberCount.get() < maxSubscribers;
+    }
+
+    /**
+     * Opens a stream for the event that starts with its current availability, or returns empty when the event
+     * does not exist. Browsers reconnect on their own when the stream times out.
+     */
+    public Optional<SseEmitter> subscribe(Long eventId) {
+        SeatAvailability current = load(List.of(eventId)).get(eventId);
+        if (current == null) {
+            return Optional.empty();
+        }
+        SeatStream stream = new SeatStream(eventId, new SseEmitter(timeout.toMillis()));
+        subscribers.compute(eventId, (id, streams) -> {
+            Set<SeatStream> set = streams != null ? streams : ConcurrentHashMap.newKeySet();
+            set.add(stream);
+            return set;
+        });
+        subscriberCount.incrementAndGet();
+        stream.emitter.onCompletion(() -> unsubscribe(stream));
+        stream.emitter.onTimeout(stream.emitter::complete);
+        stream.emitter.onError(error -> unsubscribe(stream));
+        lastSent.putIfAbsent(eventId, current);
+        stream.offer(current);
+        return Optional.of(stream.emitter);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatCountChange(SeatCountChange change) {
+        markChanged(change.eventId());
+    }
+
+    // Edits can change the capacity or the deadline; deleted events close their streams
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChange(EventScheduleChange change) {
+        markChanged(change.eventId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.live-seats.flush-interval-ms:1000}")
+    public void flush() {
+        if (changed.isEmpty()) {
+            return;
+        }
+        List<Long> eventIds = new ArrayList<>(changed);
+        changed.removeAll(eventIds);
+        publish(eventIds);
+    }
+
+    /**
+     * Deadlines pass without any write, so every watched event is re-checked now and then. The comment line also
+     * keeps proxies from closing idle streams and detects clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${app.live-seats.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        publish(new ArrayList<>(subscribers.keySet()));
+        subscribers.values().forEach(streams -> streams.forEach(SeatStream::keepAlive));
+    }
+
+    private void markChanged(Long eventId) {
+        if (eventId != null && subscribers.containsKey(eventId)) {
+            changed.add(eventId);
+        }
+    }
+
+    private void publish(Collection<Long> eventIds) {
+        Map<Long, SeatAvailability> current = load(eventIds);
+        for (Long eventId : eventIds) {
+            SeatAvailability seats = current.get(eventId);
+            if (seats == null) {
+                closeAll(eventId);
+            } else if (!seats.equals(lastSent.put(eventId, seats))) {
+                subscribers.getOrDefault(eventId, Set.of()).forEach(stream -> stream.offer(seats));
+            }
+        }
+    }
+
+    private Map<Long, SeatAvailability> load(Collection<Long> eventIds) {
+        LocalDateTime now = LocalDateTime.now();
+        return primaryRead.execute(status -> {
+            List<Event> events = eventRepository.findAllById(eventIds);
+            Map<Long, Long> going = rsvpService.getGoingCounts(eventIds);
+            return events.stream()
+                .map(event -> SeatAvailability.of(event, going.getOrDefault(event.getEventId(), 0L), now))
+                .collect(Collectors.toMap(SeatAvailability::eventId, Function.identity()));
+        });
+    }
+
+    private void closeAll(Long eventId) {
+        Set<SeatStream> streams = subscribers.remove(eventId);
+        lastSent.remove(eventId);
+        if (streams != null) {
+            subscriberCount.addAndGet(-streams.size());
+            streams.forEach(stream -> stream.emitter.complete());
+        }
+    }
+
+    private void unsubscribe(SeatStream stream) {
+        Long eventId = stream.eventId;
+        Set<SeatStream> streams = subscribers.get(eventId);
+        if (streams != null && streams.remove(stream)) {
+            subscriberCount.decrementAndGet();
+            if (subscribers.computeIfPresent(eventId, (id, set) -> set.isEmpty() ? null : set) == null) {
+                lastSent.remove(eventId);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        new ArrayList<>(subscribers.keySet()).forEach(this::closeAll);
+        senders.shutdown();
+    }
+
+    /**
+     * One open stream. Offers only replace the pending availability; at most one writer per stream runs at a time
+     * and drains whatever is pending when it gets there, so the client always ends on the newest counts.
+     */
+    private final class SeatStream {
+
+        private final Long eventId;
+        private final SseEmitter emitter;
+        private final AtomicReference<SeatAvailability> pending = new AtomicReference<>();
+        private final AtomicBoolean pendingKeepAlive = new AtomicBoolean();
+        private final AtomicBoolean writing = new AtomicBoolean();
+
+        private SeatStream(Long eventId, SseEmitter emitter) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+        }
+
+        void offer(SeatAvailability seats) {
+            pending.set(seats);
+            startWriter();
+        }
+
+        void keepAlive() {
+            pendingKeepAlive.set(true);
+            startWriter();
+        }
+
+        private void startWriter() {
+            if (writing.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SeatAvailability seats = pending.getAndSet(null);
+                boolean keepAlive = pendingKeepAlive.getAndSet(false);
+                if (seats == null && !keepAlive) {
+                    writing.set(false);
+                    // An offer may have landed after the checks above but before the flag was cleared
+                    if ((pending.get() == null && !pendingKeepAlive.get()) || !writing.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                if (seats != null) {
+                    pushCounter.increment();
+                    if (!write(SseEmitter.event().name(EVENT_NAME).data(seats, MediaType.APPLICATION_JSON))) {
+                        return;
+                    }
+                }
+                if (keepAlive && !write(SseEmitter.event().comment("keep-alive"))) {
+                    return;
+                }
+            }
+        }
+
+        private boolean write(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Dropping seat stream of event {}: {}", eventId, e.getMessage());
+                unsubscribe(this);
+                // The writing flag stays set, so nothing is written to the dead stream again
+                return false;
+            }
+        }
+    }
+}
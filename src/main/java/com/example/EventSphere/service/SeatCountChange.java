@@ -0,0 +1,7 @@
+package com.example.EventSphere.service;
+
+/**
+ * Published by {@link RSVPService} when an RSVP to the event is created, changed or removed.
+ */
+public record SeatCountChange(Long eventId) {
+}
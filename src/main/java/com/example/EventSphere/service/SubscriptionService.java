@@ -0,0 +1,53 @@
+package com.example.EventSphere.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.Subscription;
+import com.example.EventSphere.model.User;
+import com.example.EventSphere.repository.SubscriptionRepository;
+
+@Service
+public class SubscriptionService {
+
+    private final SubscriptionRepository subscriptionRepository;
+
+    public SubscriptionService(SubscriptionRepository subscriptionRepository) {
+        this.subscriptionRepository = subscriptionRepository;
+    }
+
+    public List<Subscription> getUserSubscriptions(Long userId) {
+        return subscriptionRepository.findByUser_UserIdOrderByTypeAscTopicKeyAsc(userId);
+    }
+
+    @Transactional
+    public Subscription subscribe(User user, Subscription.Type type, String value) {
+        if (value == null || value.isBlank()) {
+            throw new RuntimeException("Please choose a category or enter a location");
+        }
+
+        String topicKey;
+        if (type == Subscription.Type.CATEGORY) {
+            try {
+                topicKey = Event.Category.valueOf(value.trim().toUpperCase()).name();
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unknown category: " + value);
+            }
+        } else {
+            topicKey = Subscription.normalizeLocation(value);
+        }
+
+        if (subscriptionRepository.existsByUser_UserIdAndTypeAndTopicKey(user.getUserId(), type, topicKey)) {
+            throw new RuntimeException("You are already subscribed to " + value.trim());
+        }
+        return subscriptionRepository.save(new Subscription(user, type, topicKey));
+    }
+
+    @Transactional
+    public void unsubscribe(Long userId, Long subscriptionId) {
+        subscriptionRepository.deleteBySubscriptionIdAndUser_UserId(subscriptionId, userId);
+    }
+}
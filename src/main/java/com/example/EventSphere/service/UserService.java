@@ -1,20 +1,17 @@
 package com.example.EventSphere.service;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.UriComponentsBuilder;
 
-import com.example.EventSphere.model.PasswordResetToken;
-import com.example.EventSphere.model.RSVP;
 import com.example.EventSphere.model.User;
-import com.example.EventSphere.model.Volunteer;
-import com.example.EventSphere.repository.PasswordResetTokenRepository;
 import com.example.EventSphere.repository.RSVPRepository;
+import com.example.EventSphere.repository.SubscriptionRepository;
 import com.example.EventSphere.repository.UserRepository;
 import com.example.EventSphere.repository.VolunteerRepository;
 
@@ -23,18 +20,33 @@ public class UserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final PasswordResetTokenService passwordResetTokenService;
     private final RSVPRepository rsvpRepository;
     private final VolunteerRepository volunteerRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final EmailService emailService;
+    private final CustomUserDetailsService userDetailsService;
+    private final EventArchiveService eventArchiveService;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final PageVersionService pageVersionService;
     
     public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-                       PasswordResetTokenRepository passwordResetTokenRepository,
-                       RSVPRepository rsvpRepository, VolunteerRepository volunteerRepository) {
+                       PasswordResetTokenService passwordResetTokenService,
+                       RSVPRepository rsvpRepository, VolunteerRepository volunteerRepository,
+                       SubscriptionRepository subscriptionRepository, EmailService emailService,
+                       CustomUserDetailsService userDetailsService, EventArchiveService eventArchiveService,
+                       OptimisticLockRetry optimisticLockRetry, PageVersionService pageVersionService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.passwordResetTokenRepository = passwordResetTokenRepository;
+        this.passwordResetTokenService = passwordResetTokenService;
         this.rsvpRepository = rsvpRepository;
         this.volunteerRepository = volunteerRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.emailService = emailService;
+        this.userDetailsService = userDetailsService;
+        this.eventArchiveService = eventArchiveService;
+        this.optimisticLockRetry = optimisticLockRetry;
+        this.pageVersionService = pageVersionService;
     }
     
     @Transactional
@@ -75,6 +87,11 @@ public class UserService {
         return userRepository.findById(id);
     }
     
+    public User getUser(Long id) {
+        return userRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+    
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
@@ -88,7 +105,9 @@ public class UserService {
     }
     
     public User updateUser(User user) {
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userDetailsService.evict(savedUser.getEmail());
+        return savedUser;
     }
     
     @Transactional
@@ -101,74 +120,86 @@ public class UserService {
             throw new RuntimeException("Cannot delete user who has organized events. Please deactivate or reassign events first.");
         }
         
-        // Delete user's RSVPs first
-        List<RSVP> userRsvps = rsvpRepository.findByUser(user);
-        if (!userRsvps.isEmpty()) {
-            rsvpRepository.deleteAll(userRsvps);
-        }
+        // Delete user's live and archived RSVPs and volunteer registrations first, one statement each
+        rsvpRepository.deleteByUserId(userId);
+        volunteerRepository.deleteByUserId(userId);
+        eventArchiveService.forgetUser(userId);
+        // Their RSVPs counted towards the participant numbers on the listings
+        pageVersionService.catalogueChanged();
         
-        // Delete user's volunteer registrations
-        List<Volunteer> userVolunteers = volunteerRepository.findByUser(user);
-        if (!userVolunteers.isEmpty()) {
-            volunteerRepository.deleteAll(userVolunteers);
-        }
-        
-        // Delete password reset tokens
-        passwordResetTokenRepository.deleteByUser_UserId(userId);
+        // Delete password reset tokens and notification subscriptions
+        passwordResetTokenService.revokeAll(userId);
+        subscriptionRepository.deleteByUser_UserId(userId);
         
         // Now delete the user
         userRepository.deleteById(userId);
+        userDetailsService.evict(user.getEmail());
     }
     
+    // Admin flag and role changes are safe to repeat, so they retry when the user row changed concurrently
     public void enableUser(Long userId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-        user.setEnabled(true);
-        userRepository.save(user);
+        updateUserRow(userId, user -> user.setEnabled(true));
     }
     
     public void disableUser(Long userId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-        user.setEnabled(false);
-        userRepository.save(user);
+        updateUserRow(userId, user -> user.setEnabled(false));
     }
     
     public void changeUserRole(Long userId, User.Role newRole) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-        user.setRole(newRole);
-        userRepository.save(user);
+        updateUserRow(userId, user -> user.setRole(newRole));
+    }
+    
+    private void updateUserRow(Long userId, Consumer<User> change) {
+        User user = optimisticLockRetry.execute(() -> {
+            User current = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+            change.accept(current);
+            return userRepository.save(current);
+        });
+        userDetailsService.evict(user.getEmail());
     }
     
     public boolean emailExists(String email) {
         return userRepository.existsByEmail(email);
     }
     
+    // Token and reset email are committed together, so a rollback never leaves a mailed link without its token
     @Transactional
-    public PasswordResetToken createPasswordResetToken(User user) {
-        String token = UUID.randomUUID().toString();
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+    public void requestPasswordReset(User user, String applicationUrl) {
+        String token = passwordResetTokenService.issue(user);
 
-        passwordResetTokenRepository.deleteByUser_UserId(user.getUserId());
+        String resetLink = UriComponentsBuilder.fromHttpUrl(applicationUrl)
+            .path("/reset-password")
+            .queryParam("token", token)
+            .toUriString();
 
-        PasswordResetToken passwordResetToken =
-            new PasswordResetToken(token, user, expiresAt);
-        return passwordResetTokenRepository.save(passwordResetToken);
+        emailService.sendPasswordResetEmail(user, resetLink);
     }
 
-    public Optional<PasswordResetToken> findToken(String token) {
-        return passwordResetTokenRepository.findByToken(token);
+    public boolean isPasswordResetTokenValid(String token) {
+        return passwordResetTokenService.isValid(token);
     }
 
+    /**
+     * Sets a new password for the owner of {@code token}; the token is spent only if the change commits.
+     *
+     * @return {@code false} if the token is unknown, expired or already used
+     */
     @Transactional
-    public void deleteToken(String token) {
-        passwordResetTokenRepository.deleteByToken(token);
+    public boolean resetPassword(String token, String rawPassword) {
+        Optional<User> user = passwordResetTokenService.consume(token).flatMap(userRepository::findById);
+        if (user.isEmpty()) {
+            return false;
+        }
+        updatePassword(user.get(), rawPassword);
+        return true;
     }
 
     @Transactional
     public void updatePassword(User user, String rawPassword) {
         user.setPassword(passwordEncoder.encode(rawPassword));
+        user.setCredentialsVersion(user.getCredentialsVersion() + 1);
         userRepository.save(user);
+        userDetailsService.evict(user.getEmail());
     }
 }
@@ -14,9 +14,11 @@ import com.example.EventSphere.repository.VolunteerRepository;
 public class VolunteerService {
     
     private final VolunteerRepository volunteerRepository;
+    private final OptimisticLockRetry optimisticLockRetry;
     
-    public VolunteerService(VolunteerRepository volunteerRepository) {
+    public VolunteerService(VolunteerRepository volunteerRepository, OptimisticLockRetry optimisticLockRetry) {
         this.volunteerRepository = volunteerRepository;
+        this.optimisticLockRetry = optimisticLockRetry;
     }
     
     public Volunteer registerVolunteer(Event event, User user, String roleDescription) {
@@ -31,20 +33,25 @@ public class VolunteerService {
         return volunteerRepository.save(volunteer);
     }
     
+    // Both updates set a value, so a concurrent change to the registration is retried on fresh state
     public Volunteer updateVolunteerStatus(Event event, User user, Volunteer.Status status) {
-        Volunteer volunteer = volunteerRepository.findByEventAndUser(event, user)
-            .orElseThrow(() -> new RuntimeException("Volunteer registration not found"));
-        
-        volunteer.setStatus(status);
-        return volunteerRepository.save(volunteer);
+        return optimisticLockRetry.execute(() -> {
+            Volunteer volunteer = volunteerRepository.findByEventAndUser(event, user)
+                .orElseThrow(() -> new RuntimeException("Volunteer registration not found"));
+            
+            volunteer.setStatus(status);
+            return volunteerRepository.save(volunteer);
+        });
     }
     
     public Volunteer updateVolunteerRole(Event event, User user, String roleDescription) {
-        Volunteer volunteer = volunteerRepository.findByEventAndUser(event, user)
-            .orElseThrow(() -> new RuntimeException("Volunteer registration not found"));
-        
-        volunteer.setRoleDescription(roleDescription);
-        return volunteerRepository.save(volunteer);
+        return optimisticLockRetry.execute(() -> {
+            Volunteer volunteer = volunteerRepository.findByEventAndUser(event, user)
+                .orElseThrow(() -> new RuntimeException("Volunteer registration not found"));
+            
+            volunteer.setRoleDescription(roleDescription);
+            return volunteerRepository.save(volunteer);
+        });
     }
     
     public void deleteVolunteerRegistration(Event event, User user) {
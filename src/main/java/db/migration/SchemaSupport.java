@@ -0,0 +1,67 @@
+package db.migration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Idempotent DDL helpers for the Java migrations. MySQL has no {@code ADD COLUMN IF NOT EXISTS} or
+ * {@code CREATE INDEX IF NOT EXISTS}, so the current shape is read from {@code information_schema} first.
+ * Indexes are matched by their columns rather than their name, because databases created by Hibernate
+ * carry generated names.
+ */
+final class SchemaSupport {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    SchemaSupport(Context context) {
+        this.jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+    }
+
+    JdbcTemplate jdbc() {
+        return jdbcTemplate;
+    }
+
+    boolean columnExists(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+            Integer.class, table, column);
+        return count != null && count > 0;
+    }
+
+    void addColumnIfMissing(String table, String column, String definition) {
+        if (!columnExists(table, column)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        }
+    }
+
+    boolean hasIndexOn(String table, String... columns) {
+        return indexColumns(table).containsValue(String.join(",", columns));
+    }
+
+    void createIndexIfMissing(String table, String name, String... columns) {
+        if (!hasIndexOn(table, columns)) {
+            jdbcTemplate.execute("CREATE INDEX " + name + " ON " + table + " (" + String.join(", ", columns) + ")");
+        }
+    }
+
+    void createUniqueIndexIfMissing(String table, String name, String... columns) {
+        if (!hasIndexOn(table, columns)) {
+            jdbcTemplate.execute("CREATE UNIQUE INDEX " + name + " ON " + table + " (" + String.join(", ", columns) + ")");
+        }
+    }
+
+    // Index name -> comma-separated columns in index order
+    private Map<String, String> indexColumns(String table) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "SELECT INDEX_NAME, COLUMN_NAME FROM information_schema.STATISTICS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? ORDER BY INDEX_NAME, SEQ_IN_INDEX", table);
+        return rows.stream().collect(Collectors.groupingBy(
+            row -> (String) row.get("INDEX_NAME"),
+            Collectors.mapping(row -> ((String) row.get("COLUMN_NAME")).toLowerCase(), Collectors.joining(","))));
+    }
+}
@@ -0,0 +1,64 @@
+package db.migration;
+
+import java.util.List;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Brings databases that were managed by {@code ddl-auto=update} and the hand-run scripts up to the V1 shape.
+ * Replaces {@code db_migration_group_events.sql}, {@code db_migration_password_reset_tokens.sql} and
+ * {@code db_migration_id_sequences.sql}; every step checks the current schema, so it is a no-op on a fresh database.
+ */
+public class V2__Upgrade_legacy_schema extends BaseJavaMigration {
+
+    // Tables whose ids come from id_sequences, with their primary key column
+    private static final List<String[]> SEQUENCES = List.of(
+        new String[] {"users", "user_id"},
+        new String[] {"admins", "admin_id"},
+        new String[] {"events", "event_id"},
+        new String[] {"rsvps", "rsvp_id"},
+        new String[] {"volunteers", "volunteer_id"},
+        new String[] {"subscriptions", "subscription_id"},
+        new String[] {"password_reset_tokens", "id"},
+        new String[] {"email_outbox", "id"}
+    );
+
+    @Override
+    public void migrate(Context context) {
+        SchemaSupport schema = new SchemaSupport(context);
+
+        // Group and team events
+        schema.addColumnIfMissing("events", "participation_type", "ENUM ('INDIVIDUAL', 'GROUP') DEFAULT 'INDIVIDUAL'");
+        schema.addColumnIfMissing("events", "group_size", "INTEGER");
+        schema.addColumnIfMissing("rsvps", "team_name", "VARCHAR(255)");
+        schema.addColumnIfMissing("rsvps", "team_size", "INTEGER");
+        schema.jdbc().update("UPDATE events SET participation_type = 'INDIVIDUAL' WHERE participation_type IS NULL");
+
+        // Credentials version used to invalidate sessions after a password change
+        schema.addColumnIfMissing("users", "credentials_version", "BIGINT NOT NULL DEFAULT 0");
+        schema.addColumnIfMissing("admins", "credentials_version", "BIGINT NOT NULL DEFAULT 0");
+
+        upgradePasswordResetTokens(schema);
+        schema.createIndexIfMissing("email_outbox", "idx_email_outbox_status_next_attempt", "status", "next_attempt_at");
+
+        // With the pooled-lo optimizer next_val is the first id of the next block, so start after the highest id
+        for (String[] sequence : SEQUENCES) {
+            schema.jdbc().update("INSERT INTO id_sequences (sequence_name, next_val) "
+                + "SELECT ?, COALESCE(MAX(" + sequence[1] + "), 0) + 1 FROM " + sequence[0]
+                + " ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))", sequence[0]);
+        }
+    }
+
+    // Tokens used to be stored in plain text; hashing them in SQL keeps links that were already mailed working
+    private static void upgradePasswordResetTokens(SchemaSupport schema) {
+        if (schema.columnExists("password_reset_tokens", "token")) {
+            schema.addColumnIfMissing("password_reset_tokens", "token_hash", "VARCHAR(64)");
+            schema.jdbc().update("UPDATE password_reset_tokens SET token_hash = SHA2(token, 256) "
+                + "WHERE token_hash IS NULL OR token_hash = ''");
+            schema.jdbc().execute("ALTER TABLE password_reset_tokens MODIFY COLUMN token_hash VARCHAR(64) NOT NULL, DROP COLUMN token");
+        }
+        schema.createUniqueIndexIfMissing("password_reset_tokens", "uk_password_reset_tokens_token_hash", "token_hash");
+        schema.createIndexIfMissing("password_reset_tokens", "idx_password_reset_tokens_expires_at", "expires_at");
+    }
+}
@@ -0,0 +1,33 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Indexes for the repository queries on the request path. Foreign key columns that lead one of these indexes
+ * need no index of their own; MySQL reuses the composite one for the constraint.
+ */
+public class V3__Performance_indexes extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) {
+        SchemaSupport schema = new SchemaSupport(context);
+
+        // Upcoming, date-range and category listings all filter on is_active first
+        schema.createIndexIfMissing("events", "idx_events_active_date_time", "is_active", "date_time");
+        schema.createIndexIfMissing("events", "idx_events_active_category", "is_active", "category");
+        // Cleanup of completed events
+        schema.createIndexIfMissing("events", "idx_events_end_date_time", "end_date_time");
+        schema.createIndexIfMissing("events", "idx_events_organizer", "organizer_id");
+
+        // Participant counts and lists per event, and a user's own registrations
+        schema.createIndexIfMissing("rsvps", "idx_rsvps_event_status", "event_id", "status");
+        schema.createIndexIfMissing("rsvps", "idx_rsvps_user_status", "user_id", "status");
+        schema.createIndexIfMissing("volunteers", "idx_volunteers_event_status", "event_id", "status");
+        schema.createIndexIfMissing("volunteers", "idx_volunteers_user_status", "user_id", "status");
+
+        schema.createIndexIfMissing("users", "idx_users_role", "role");
+        schema.createIndexIfMissing("subscriptions", "idx_subscriptions_user", "user_id");
+        schema.createIndexIfMissing("password_reset_tokens", "idx_password_reset_tokens_user", "user_id");
+    }
+}
@@ -0,0 +1,117 @@
+-- Schema as mapped by the JPA entities. Column types follow what Hibernate generates for MySQL, so databases
+-- that were created by ddl-auto=update before migrations existed pass validation unchanged.
+-- IF NOT EXISTS lets this run as a no-op on those databases; V2 brings their older shapes up to date.
+
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS users (
+    user_id BIGINT NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    phone VARCHAR(255),
+    role ENUM ('USER', 'ORGANIZER', 'ADMIN') NOT NULL,
+    enabled BIT NOT NULL,
+    credentials_version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS admins (
+    admin_id BIGINT NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    phone VARCHAR(255),
+    enabled BIT NOT NULL,
+    credentials_version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (admin_id),
+    CONSTRAINT uk_admins_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS events (
+    event_id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    category ENUM ('WORKSHOP', 'HACKATHON', 'DONATION_DRIVE', 'MEETUP', 'CONFERENCE', 'SEMINAR', 'OTHER') NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    date_time DATETIME(6) NOT NULL,
+    end_date_time DATETIME(6),
+    registration_deadline DATETIME(6),
+    organizer_id BIGINT NOT NULL,
+    max_participants INTEGER,
+    participation_type ENUM ('INDIVIDUAL', 'GROUP'),
+    group_size INTEGER,
+    requires_approval BIT,
+    is_active BIT,
+    created_at DATETIME(6),
+    PRIMARY KEY (event_id),
+    CONSTRAINT fk_events_organizer FOREIGN KEY (organizer_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS rsvps (
+    rsvp_id BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    status ENUM ('GOING', 'INTERESTED', 'NOT_GOING') NOT NULL,
+    rsvp_date DATETIME(6),
+    notes TEXT,
+    team_name VARCHAR(255),
+    team_size INTEGER,
+    PRIMARY KEY (rsvp_id),
+    CONSTRAINT fk_rsvps_event FOREIGN KEY (event_id) REFERENCES events (event_id),
+    CONSTRAINT fk_rsvps_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS volunteers (
+    volunteer_id BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    role_description TEXT,
+    status ENUM ('PENDING', 'APPROVED', 'REJECTED') NOT NULL,
+    registration_date DATETIME(6),
+    notes TEXT,
+    PRIMARY KEY (volunteer_id),
+    CONSTRAINT fk_volunteers_event FOREIGN KEY (event_id) REFERENCES events (event_id),
+    CONSTRAINT fk_volunteers_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS subscriptions (
+    subscription_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    type ENUM ('CATEGORY', 'LOCATION') NOT NULL,
+    topic_key VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (subscription_id),
+    CONSTRAINT uk_subscriptions_topic_user UNIQUE (type, topic_key, user_id),
+    CONSTRAINT fk_subscriptions_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS password_reset_tokens (
+    id BIGINT NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    user_id BIGINT NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_password_reset_tokens_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_password_reset_tokens_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGINT NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    html_body TEXT,
+    status ENUM ('PENDING', 'SENDING', 'SENT', 'DEAD') NOT NULL,
+    attempts INTEGER NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error TEXT,
+    created_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,49 @@
+-- Cold storage for completed events, written by EventArchiveService in batches.
+-- Rows keep their original ids and carry no foreign keys, so users can still be deleted and the hot
+-- tables can be pruned freely. Compressed pages keep the rarely read history small on disk.
+
+CREATE TABLE IF NOT EXISTS archived_events (
+    event_id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    category ENUM ('WORKSHOP', 'HACKATHON', 'DONATION_DRIVE', 'MEETUP', 'CONFERENCE', 'SEMINAR', 'OTHER') NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    date_time DATETIME(6) NOT NULL,
+    end_date_time DATETIME(6),
+    organizer_id BIGINT NOT NULL,
+    organizer_name VARCHAR(255),
+    max_participants INTEGER,
+    participation_type ENUM ('INDIVIDUAL', 'GROUP'),
+    going_count INTEGER NOT NULL,
+    interested_count INTEGER NOT NULL,
+    volunteer_count INTEGER NOT NULL,
+    created_at DATETIME(6),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (event_id),
+    INDEX idx_archived_events_organizer_end (organizer_id, end_date_time)
+) ENGINE = InnoDB ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
+
+CREATE TABLE IF NOT EXISTS archived_rsvps (
+    rsvp_id BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    status ENUM ('GOING', 'INTERESTED', 'NOT_GOING') NOT NULL,
+    rsvp_date DATETIME(6),
+    team_name VARCHAR(255),
+    team_size INTEGER,
+    PRIMARY KEY (rsvp_id),
+    INDEX idx_archived_rsvps_event (event_id),
+    INDEX idx_archived_rsvps_user (user_id)
+) ENGINE = InnoDB ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
+
+CREATE TABLE IF NOT EXISTS archived_volunteers (
+    volunteer_id BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    role_description TEXT,
+    status ENUM ('PENDING', 'APPROVED', 'REJECTED') NOT NULL,
+    registration_date DATETIME(6),
+    PRIMARY KEY (volunteer_id),
+    INDEX idx_archived_volunteers_event (event_id),
+    INDEX idx_archived_volunteers_user (user_id)
+) ENGINE = InnoDB ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
@@ -0,0 +1,5 @@
+-- Optimistic locking: Hibernate compares and increments these on every update of the row.
+
+ALTER TABLE events ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE volunteers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
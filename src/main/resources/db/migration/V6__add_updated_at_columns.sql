@@ -0,0 +1,10 @@
+-- Modification times behind the ETag and Last-Modified headers of the public event pages.
+-- Existing rows start from their creation time; Hibernate refreshes the column on every update.
+
+ALTER TABLE events ADD COLUMN updated_at DATETIME(6);
+ALTER TABLE rsvps ADD COLUMN updated_at DATETIME(6);
+ALTER TABLE volunteers ADD COLUMN updated_at DATETIME(6);
+
+UPDATE events SET updated_at = COALESCE(created_at, NOW(6));
+UPDATE rsvps SET updated_at = COALESCE(rsvp_date, NOW(6));
+UPDATE volunteers SET updated_at = COALESCE(registration_date, NOW(6));
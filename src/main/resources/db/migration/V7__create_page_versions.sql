@@ -0,0 +1,11 @@
+-- Write counters behind the ETag of pages that list many rows, so validating them is a primary key lookup.
+-- The catalogue row is bumped in the same transaction as every event and RSVP write.
+
+CREATE TABLE IF NOT EXISTS page_versions (
+    name VARCHAR(64) NOT NULL,
+    version BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+INSERT INTO page_versions (name, version, updated_at) VALUES ('catalogue', 0, NOW(6));
@@ -0,0 +1,18 @@
+-- Background multi-event exports, so any node can report progress and serve the download.
+-- updated_at moves with every finished entry; EventExportService removes jobs idle for longer than the retention.
+
+CREATE TABLE IF NOT EXISTS export_jobs (
+    id VARCHAR(36) NOT NULL,
+    owner VARCHAR(255) NOT NULL,
+    filename VARCHAR(255) NOT NULL,
+    event_count INTEGER NOT NULL,
+    total_entries INTEGER NOT NULL,
+    completed_entries INTEGER NOT NULL,
+    status ENUM ('RUNNING', 'COMPLETED', 'FAILED') NOT NULL,
+    error TEXT,
+    started_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    finished_at DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_export_jobs_updated_at (updated_at)
+) ENGINE = InnoDB;
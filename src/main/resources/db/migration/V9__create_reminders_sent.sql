@@ -0,0 +1,12 @@
+-- One row per reminder sent, so that with several nodes each (event, start time, offset) is sent once.
+-- EventReminderService inserts the row in the transaction that queues the emails; a second node finds the key
+-- taken and skips it. Rows go with their event when it is deleted or archived.
+
+CREATE TABLE IF NOT EXISTS reminders_sent (
+    event_id BIGINT NOT NULL,
+    event_start DATETIME(6) NOT NULL,
+    offset_seconds BIGINT NOT NULL,
+    sent_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (event_id, event_start, offset_seconds),
+    CONSTRAINT fk_reminders_sent_event FOREIGN KEY (event_id) REFERENCES events (event_id) ON DELETE CASCADE
+) ENGINE = InnoDB;
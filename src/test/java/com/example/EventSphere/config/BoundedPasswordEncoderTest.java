@@ -0,0 +1,100 @@
+package com.example.EventSphere.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void encodesAndVerifiesOnThePool() {
+        encoder = new BoundedPasswordEncoder(4, 2, 4, Duration.ofSeconds(5), meterRegistry);
+
+        String hash = encoder.encode("Secret123!");
+
+        assertThat(BoundedPasswordEncoder.costOf(hash)).isEqualTo(4);
+        assertThat(encoder.matches("Secret123!", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("eventsphere.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventsphere.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void hashesOfAnotherCostAreUpgraded() {
+        encoder = new BoundedPasswordEncoder(5, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("pw"))).isFalse();
+        assertThat(encoder.upgradeEncoding("{noop}pw")).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+
+    @Test
+    void callersBeyondTheQueueAreTurnedAway() {
+        encoder = new BoundedPasswordEncoder(4, 1, 1, Duration.ofSeconds(5), meterRegistry);
+        occupy(2);
+
+        assertThatThrownBy(() -> encoder.matches("pw", "$2a$04$abcdefghijklmnopqrstuu"))
+            .isInstanceOf(AuthenticationServiceException.class)
+            .hasMessageContaining("Too many");
+        assertThat(meterRegistry.get("eventsphere.password.hash.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventsphere.password.hash.queue").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void waitingLongerThanTheTimeoutFailsTheCheck() {
+        encoder = new BoundedPasswordEncoder(4, 1, 1, Duration.ofMillis(50), meterRegistry);
+        occupy(1);
+
+        assertThatThrownBy(() -> encoder.encode("pw"))
+            .isInstanceOf(AuthenticationServiceException.class)
+            .hasMessageContaining("timed out");
+        assertThat(meterRegistry.get("eventsphere.password.hash.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void calibrationStaysWithinTheCostRange() {
+        assertThat(PasswordHashingConfig.calibrate(Duration.ZERO, 4, 6)).isEqualTo(4);
+        assertThat(PasswordHashingConfig.calibrate(Duration.ofMinutes(1), 4, 6)).isEqualTo(6);
+    }
+
+    /**
+     * Fills the hashing pool with tasks that block until the test ends.
+     */
+    private void occupy(int tasks) {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(encoder, "executor");
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+    }
+}
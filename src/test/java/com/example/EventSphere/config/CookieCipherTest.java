@@ -0,0 +1,82 @@
+package com.example.EventSphere.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class CookieCipherTest {
+
+    private static final String OLD_KEY = "k1:" + key(1);
+    private static final String NEW_KEY = "k2:" + key(2);
+
+    private final CookieCipher cipher = CookieCipher.fromKeys(OLD_KEY);
+
+    @Test
+    void sealedValueOpensForTheSamePurpose() {
+        String sealed = cipher.seal(bytes("jane@example.com"), "ES_AUTH");
+
+        assertThat(sealed).startsWith("k1.").doesNotContain("jane");
+        assertThat(cipher.open(sealed, "ES_AUTH")).hasValueSatisfying(value -> assertThat(value).isEqualTo(bytes("jane@example.com")));
+    }
+
+    @Test
+    void eachSealUsesAFreshNonce() {
+        assertThat(cipher.seal(bytes("same"), "ES_AUTH")).isNotEqualTo(cipher.seal(bytes("same"), "ES_AUTH"));
+    }
+
+    @Test
+    void valueSealedForAnotherPurposeDoesNotOpen() {
+        String flash = cipher.seal(bytes("message"), "ES_FLASH");
+
+        assertThat(cipher.open(flash, "ES_AUTH")).isEmpty();
+    }
+
+    @Test
+    void alteredValuesDoNotOpen() {
+        String sealed = cipher.seal(bytes("jane@example.com"), "ES_AUTH");
+        // The last character may only carry padding bits, so alter one in the middle
+        int middle = sealed.length() / 2;
+        String flipped = sealed.substring(0, middle) + (sealed.charAt(middle) == 'A' ? 'B' : 'A') + sealed.substring(middle + 1);
+
+        assertThat(cipher.open(flipped, "ES_AUTH")).isEmpty();
+        assertThat(cipher.open("k1.not base64!", "ES_AUTH")).isEmpty();
+        assertThat(cipher.open("k1.AAAA", "ES_AUTH")).isEmpty();
+        assertThat(cipher.open("no-key-id", "ES_AUTH")).isEmpty();
+        assertThat(cipher.open("k9" + sealed.substring(2), "ES_AUTH")).isEmpty();
+    }
+
+    @Test
+    void rotatedKeysStillOpenOldValuesButSealWithTheNewKey() {
+        String sealedWithOld = cipher.seal(bytes("jane@example.com"), "ES_AUTH");
+        CookieCipher rotated = CookieCipher.fromKeys(NEW_KEY + ", " + OLD_KEY);
+
+        assertThat(rotated.open(sealedWithOld, "ES_AUTH")).isPresent();
+        assertThat(rotated.seal(bytes("x"), "ES_AUTH")).startsWith("k2.");
+        assertThat(CookieCipher.fromKeys(NEW_KEY).open(sealedWithOld, "ES_AUTH")).isEmpty();
+    }
+
+    @Test
+    void invalidKeyConfigurationFailsFast() {
+        assertThatThrownBy(() -> CookieCipher.fromKeys("")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> CookieCipher.fromKeys(key(1))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> CookieCipher.fromKeys("a.b:" + key(1))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> CookieCipher.fromKeys("k1:" + Base64.getEncoder().encodeToString(new byte[10])))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    static String key(int seed) {
+        byte[] key = new byte[32];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = (byte) (seed * 31 + i);
+        }
+        return Base64.getEncoder().encodeToString(key);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
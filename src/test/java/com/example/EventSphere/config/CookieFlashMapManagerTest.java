@@ -0,0 +1,70 @@
+package com.example.EventSphere.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.FlashMap;
+
+import jakarta.servlet.http.Cookie;
+
+class CookieFlashMapManagerTest {
+
+    private final CookieCipher cipher = CookieCipher.fromKeys("k1:" + CookieCipherTest.key(1));
+    private final CookieFlashMapManager manager = new CookieFlashMapManager(cipher, Jackson2ObjectMapperBuilder.json().build());
+
+    @Test
+    void flashMessageSurvivesTheRedirectAndIsConsumedOnce() {
+        FlashMap output = new FlashMap();
+        output.put("success", "RSVP saved");
+        output.setTargetRequestPath("/events/5");
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/events/5/rsvp");
+        MockHttpServletResponse postResponse = new MockHttpServletResponse();
+        manager.saveOutputFlashMap(output, post, postResponse);
+
+        String header = postResponse.getHeader(HttpHeaders.SET_COOKIE);
+        assertThat(header).startsWith(CookieFlashMapManager.COOKIE_NAME + "=k1.").contains("HttpOnly")
+            .doesNotContain("RSVP");
+
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/events/5");
+        get.setCookies(new Cookie(CookieFlashMapManager.COOKIE_NAME, header.substring(header.indexOf('=') + 1, header.indexOf(';'))));
+        MockHttpServletResponse getResponse = new MockHttpServletResponse();
+        Map<String, Object> input = manager.retrieveAndUpdate(get, getResponse);
+
+        assertThat(input).containsEntry("success", "RSVP saved");
+        assertThat(getResponse.getHeader(HttpHeaders.SET_COOKIE)).startsWith(CookieFlashMapManager.COOKIE_NAME + "=;")
+            .contains("Max-Age=0");
+    }
+
+    @Test
+    void flashForAnotherPageIsNotDeliveredHere() {
+        FlashMap output = new FlashMap();
+        output.put("success", "Saved");
+        output.setTargetRequestPath("/dashboard");
+        MockHttpServletResponse postResponse = new MockHttpServletResponse();
+        manager.saveOutputFlashMap(output, new MockHttpServletRequest("POST", "/events"), postResponse);
+        String header = postResponse.getHeader(HttpHeaders.SET_COOKIE);
+
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/events/5");
+        get.setCookies(new Cookie(CookieFlashMapManager.COOKIE_NAME, header.substring(header.indexOf('=') + 1, header.indexOf(';'))));
+
+        Map<String, Object> input = manager.retrieveAndUpdate(get, new MockHttpServletResponse());
+
+        assertThat(input).isNull();
+    }
+
+    @Test
+    void forgedCookieIsIgnored() {
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/events");
+        get.setCookies(new Cookie(CookieFlashMapManager.COOKIE_NAME, cipher.seal("[]".getBytes(), "ES_AUTH")));
+
+        Map<String, Object> input = manager.retrieveAndUpdate(get, new MockHttpServletResponse());
+
+        assertThat(input).isNull();
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.EventSphere.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+
+import com.example.EventSphere.model.Admin;
+import com.example.EventSphere.model.AuthenticatedUser;
+import com.example.EventSphere.model.User;
+
+import jakarta.servlet.http.Cookie;
+
+class CookieSecurityContextRepositoryTest {
+
+    private static final String COOKIE = StatelessSessions.AUTH_COOKIE_NAME;
+
+    private final CookieCipher cipher = CookieCipher.fromKeys("k1:" + CookieCipherTest.key(1));
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final UserDetailsService adminDetailsService = mock(UserDetailsService.class);
+
+    private CookieSecurityContextRepository repository;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CookieSecurityContextRepository(cipher, COOKIE, Duration.ofHours(8),
+            userDetailsService, adminDetailsService);
+        user = new User();
+        user.setUserId(7L);
+        user.setEmail("jane@example.com");
+        user.setName("Jane");
+        user.setRole(User.Role.USER);
+        user.setPassword("{bcrypt}hash");
+        when(userDetailsService.loadUserByUsername("jane@example.com")).thenAnswer(invocation -> AuthenticatedUser.of(user));
+    }
+
+    @Test
+    void savedPrincipalIsRestoredOnTheNextRequest() {
+        String cookie = save(AuthenticatedUser.of(user));
+
+        SecurityContext context = load(cookie);
+
+        assertThat(context.getAuthentication()).isNotNull();
+        AuthenticatedUser principal = (AuthenticatedUser) context.getAuthentication().getPrincipal();
+        assertThat(principal.getEmail()).isEqualTo("jane@example.com");
+        assertThat(principal.getPassword()).isNull();
+    }
+
+    @Test
+    void cookieIsHttpOnlyAndEncrypted() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveContext(authenticated(AuthenticatedUser.of(user)), new MockHttpServletRequest(), response);
+
+        String header = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertThat(header).startsWith(COOKIE + "=k1.").contains("HttpOnly").contains("SameSite=Lax")
+            .contains("Max-Age=28800").doesNotContain("jane");
+    }
+
+    @Test
+    void roleChangesApplyWithoutSigningInAgain() {
+        String cookie = save(AuthenticatedUser.of(user));
+        user.setRole(User.Role.ORGANIZER);
+
+        AuthenticatedUser principal = (AuthenticatedUser) load(cookie).getAuthentication().getPrincipal();
+
+        assertThat(principal.getRole()).isEqualTo(User.Role.ORGANIZER);
+    }
+
+    @Test
+    void passwordChangeDisablingOrRemovalInvalidatesTheCookie() {
+        String cookie = save(AuthenticatedUser.of(user));
+
+        user.setCredentialsVersion(1);
+        assertThat(load(cookie).getAuthentication()).isNull();
+
+        user.setCredentialsVersion(0);
+        user.setEnabled(false);
+        assertThat(load(cookie).getAuthentication()).isNull();
+
+        when(userDetailsService.loadUserByUsername("jane@example.com")).thenThrow(new UsernameNotFoundException("gone"));
+        assertThat(load(cookie).getAuthentication()).isNull();
+    }
+
+    @Test
+    void expiredCookieIsIgnored() {
+        CookieSecurityContextRepository expiring = new CookieSecurityContextRepository(cipher, COOKIE, Duration.ZERO,
+            userDetailsService, adminDetailsService);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        expiring.saveContext(authenticated(AuthenticatedUser.of(user)), new MockHttpServletRequest(), response);
+
+        assertThat(load(cookieValue(response)).getAuthentication()).isNull();
+    }
+
+    @Test
+    void adminCookiesAreResolvedThroughTheAdminDetailsService() {
+        Admin admin = new Admin();
+        admin.setAdminId(1L);
+        admin.setEmail("admin@example.com");
+        admin.setName("Admin");
+        admin.setPassword("{bcrypt}hash");
+        when(adminDetailsService.loadUserByUsername("admin@example.com")).thenAnswer(invocation -> AuthenticatedUser.of(admin));
+        String cookie = save(AuthenticatedUser.of(admin));
+
+        AuthenticatedUser principal = (AuthenticatedUser) load(cookie).getAuthentication().getPrincipal();
+
+        assertThat(principal.isAdminAccount()).isTrue();
+    }
+
+    @Test
+    void signingOutClearsAnExistingCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(COOKIE, save(AuthenticatedUser.of(user))));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        repository.saveContext(new SecurityContextImpl(), request, response);
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).startsWith(COOKIE + "=;").contains("Max-Age=0");
+    }
+
+    @Test
+    void anonymousRequestsWithoutACookieGetNoCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        repository.saveContext(new SecurityContextImpl(), new MockHttpServletRequest(), response);
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+    }
+
+    private String save(AuthenticatedUser principal) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveContext(authenticated(principal), new MockHttpServletRequest(), response);
+        return cookieValue(response);
+    }
+
+    @SuppressWarnings("deprecation")
+    private SecurityContext load(String cookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(COOKIE, cookie));
+        return repository.loadContext(new HttpRequestResponseHolder(request, new MockHttpServletResponse()));
+    }
+
+    private static SecurityContext authenticated(AuthenticatedUser principal) {
+        return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(principal, null,
+            principal.getAuthorities()));
+    }
+
+    private static String cookieValue(MockHttpServletResponse response) {
+        String header = response.getHeader(HttpHeaders.SET_COOKIE);
+        return header.substring(header.indexOf('=') + 1, header.indexOf(';'));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.EventSphere.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.FlashMap;
+
+import com.example.EventSphere.service.PageVersionService.PageVersion;
+
+class PageCachingTest {
+
+    private static final PageVersion VERSION = new PageVersion("3:2024-05-01", Instant.parse("2024-05-01T10:00:00Z"));
+    private static final Authentication ANONYMOUS = new AnonymousAuthenticationToken("key", "anonymousUser",
+        AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+    private final PageCaching pageCaching = new PageCaching(true, Duration.ZERO);
+
+    @Test
+    void firstRequestGetsValidatorsAndFullPage() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = pageCaching.notModified(webRequest(new MockHttpServletRequest("GET", "/"), response),
+            ANONYMOUS, VERSION);
+
+        assertThat(notModified).isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("W/\"");
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(VERSION.lastModified().toEpochMilli());
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache").contains("public");
+        assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.COOKIE);
+    }
+
+    @Test
+    void unchangedPageAnswersNotModified() {
+        String etag = etagFor(ANONYMOUS, VERSION);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(pageCaching.notModified(webRequest(request, response), ANONYMOUS, VERSION)).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void changedDataGetsANewTag() {
+        PageVersion bumped = new PageVersion("4:2024-05-01", VERSION.lastModified());
+
+        assertThat(etagFor(ANONYMOUS, bumped)).isNotEqualTo(etagFor(ANONYMOUS, VERSION));
+    }
+
+    @Test
+    void loggedInViewersGetPrivateTagsOfTheirOwn() {
+        Authentication jane = new UsernamePasswordAuthenticationToken("jane@example.com", null, List.of());
+        Authentication john = new UsernamePasswordAuthenticationToken("john@example.com", null, List.of());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        pageCaching.notModified(webRequest(new MockHttpServletRequest("GET", "/"), response), jane, VERSION);
+
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("private");
+        assertThat(etagFor(jane, VERSION)).isNotEqualTo(etagFor(john, VERSION)).isNotEqualTo(etagFor(ANONYMOUS, VERSION));
+    }
+
+    @Test
+    void pageWithFlashMessageIsNeverRevalidated() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etagFor(ANONYMOUS, VERSION));
+        request.setAttribute(DispatcherServlet.INPUT_FLASH_MAP_ATTRIBUTE, new FlashMap());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(pageCaching.notModified(webRequest(request, response), ANONYMOUS, VERSION)).isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    void disabledCachingAlwaysRenders() {
+        PageCaching disabled = new PageCaching(false, Duration.ZERO);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etagFor(ANONYMOUS, VERSION));
+
+        assertThat(disabled.notModified(webRequest(request, new MockHttpServletResponse()), ANONYMOUS, VERSION)).isFalse();
+    }
+
+    private String etagFor(Authentication authentication, PageVersion version) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        pageCaching.notModified(webRequest(new MockHttpServletRequest("GET", "/"), response), authentication, version);
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+
+    private static ServletWebRequest webRequest(MockHttpServletRequest request, MockHttpServletResponse response) {
+        return new ServletWebRequest(request, response);
+    }
+}
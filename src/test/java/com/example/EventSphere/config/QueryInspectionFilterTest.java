@@ -0,0 +1,207 @@
+package com.example.EventSphere.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.EventSphere.controller.EventController;
+import com.example.EventSphere.controller.WebController;
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.service.EventService;
+import com.example.EventSphere.service.PageVersionService;
+import com.example.EventSphere.service.PageVersionService.PageVersion;
+import com.example.EventSphere.service.ParticipantExportService;
+import com.example.EventSphere.service.RSVPService;
+import com.example.EventSphere.service.SeatAvailabilityHub;
+import com.example.EventSphere.service.UserService;
+import com.example.EventSphere.service.VolunteerService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Drives the budgeted pages through the real controllers, with services that issue their statements through
+ * {@link InstrumentedDataSource}, and checks them against the budgets of the test profile.
+ */
+class QueryInspectionFilterTest {
+
+    private static final String EVENTS_SQL = "select e.* from events e where e.is_active = ? and e.date_time > ?";
+    private static final String ORGANIZER_SQL = "select u.* from users u where u.user_id = ?";
+    private static final String RSVPS_SQL = "select r.* from rsvps r where r.event_id = ? and r.user_id = ?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventService eventService = mock(EventService.class);
+    private final PageVersionService pageVersionService = mock(PageVersionService.class);
+    private DataSource dataSource;
+    private QueryBudgets budgets;
+
+    @BeforeEach
+    void setUp() throws IOException, SQLException {
+        Properties testProfile = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application-test.properties"));
+        budgets = new QueryBudgets(QueryBudgets.parse(testProfile.getProperty("app.sql-inspection.budgets")),
+            Boolean.parseBoolean(testProfile.getProperty("app.sql-inspection.enforce-budgets")), meterRegistry);
+
+        DataSource database = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(database.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(mock(ResultSet.class));
+        dataSource = new InstrumentedDataSource(database);
+
+        when(pageVersionService.catalogueVersion()).thenReturn(new PageVersion("1", Instant.EPOCH));
+    }
+
+    @Test
+    void homePageWithinBudgetPasses() throws Exception {
+        when(eventService.getUpcomingEvents()).thenAnswer(invocation -> loadEventsWithOrganizers(3));
+
+        MockHttpServletResponse response = perform(webController(), "/");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Server-Timing")).contains("4 queries");
+        assertThat(meterRegistry.find("eventsphere.sql.n-plus-one").counter()).isNull();
+        assertThat(meterRegistry.find("eventsphere.sql.budget.exceeded").counter()).isNull();
+        assertThat(meterRegistry.get("eventsphere.sql.queries").tag("endpoint", "GET /").summary().totalAmount()).isEqualTo(4);
+    }
+
+    @Test
+    void homePageLoadingOrganizersOneByOneIsFlaggedAndFailed() throws Exception {
+        when(eventService.getUpcomingEvents()).thenAnswer(invocation -> loadEventsWithOrganizers(20));
+
+        MockHttpServletResponse response = perform(webController(), "/");
+
+        assertThat(meterRegistry.get("eventsphere.sql.n-plus-one").tag("endpoint", "GET /").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventsphere.sql.budget.exceeded").tag("endpoint", "GET /").counter().count()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(500);
+        assertThat(response.getErrorMessage()).isEqualTo("GET / executed 21 statements, budget is 12");
+    }
+
+    @Test
+    void eventPageIsCheckedUnderItsPattern() throws Exception {
+        when(eventService.findByIdWithDetails(42L)).thenAnswer(invocation -> {
+            for (int attendee = 0; attendee < 16; attendee++) {
+                query(RSVPS_SQL);
+            }
+            return Optional.of(event(42L));
+        });
+
+        MockHttpServletResponse response = perform(eventController(), "/events/42");
+
+        assertThat(meterRegistry.get("eventsphere.sql.n-plus-one").tag("endpoint", "GET /events/{eventId}").counter().count())
+            .isEqualTo(1);
+        assertThat(response.getErrorMessage()).isEqualTo("GET /events/{eventId} executed 16 statements, budget is 15");
+    }
+
+    @Test
+    void committedResponseIsReportedButLeftAlone() throws Exception {
+        when(eventService.getUpcomingEvents()).thenAnswer(invocation -> loadEventsWithOrganizers(20));
+        // Stands in for a page that flushed its first bytes before the statements ran
+        OncePerRequestFilter flushFirst = new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                response.getWriter().write("<!DOCTYPE html>");
+                response.flushBuffer();
+                chain.doFilter(request, response);
+            }
+        };
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(webController())
+            .addFilters(new QueryInspectionFilter(meterRegistry, budgets, 5, true), flushFirst)
+            .build();
+        MockHttpServletResponse response = mockMvc.perform(get("/")).andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getErrorMessage()).isNull();
+        assertThat(response.getContentAsString()).startsWith("<!DOCTYPE html>");
+        assertThat(meterRegistry.get("eventsphere.sql.budget.exceeded").tag("endpoint", "GET /").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void reportOnlyBudgetsNeverTouchTheResponse() throws Exception {
+        budgets = new QueryBudgets(QueryBudgets.parse("GET /=12"), false, meterRegistry);
+        when(eventService.getUpcomingEvents()).thenAnswer(invocation -> loadEventsWithOrganizers(20));
+
+        MockHttpServletResponse response = perform(webController(), "/");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("eventsphere.sql.budget.exceeded").tag("endpoint", "GET /").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void parsesBudgets() {
+        assertThat(QueryBudgets.parse("GET /=12, GET /events/{eventId}=15"))
+            .containsEntry("GET /", 12)
+            .containsEntry("GET /events/{eventId}", 15);
+        assertThat(QueryBudgets.parse("")).isEmpty();
+    }
+
+    private MockHttpServletResponse perform(Object controller, String path) throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .addFilters(new QueryInspectionFilter(meterRegistry, budgets, 5, true))
+            .build();
+        return mockMvc.perform(get(path)).andReturn().getResponse();
+    }
+
+    private WebController webController() {
+        return new WebController(eventService, mock(UserService.class), pageVersionService,
+            new PageCaching(false, Duration.ZERO));
+    }
+
+    private EventController eventController() {
+        return new EventController(eventService, mock(RSVPService.class), mock(VolunteerService.class),
+            mock(ParticipantExportService.class), mock(UserService.class), pageVersionService,
+            new PageCaching(false, Duration.ZERO), mock(SeatAvailabilityHub.class));
+    }
+
+    // One query for the list, then one per event for its organizer
+    private List<Event> loadEventsWithOrganizers(int count) throws SQLException {
+        query(EVENTS_SQL);
+        for (int i = 0; i < count; i++) {
+            query(ORGANIZER_SQL);
+        }
+        return List.of(event(1L));
+    }
+
+    private void query(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.executeQuery();
+        }
+    }
+
+    private static Event event(Long id) {
+        Event event = new Event();
+        event.setEventId(id);
+        event.setTitle("Spring Meetup");
+        return event;
+    }
+}
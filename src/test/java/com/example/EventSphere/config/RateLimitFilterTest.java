@@ -0,0 +1,104 @@
+package com.example.EventSphere.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.EventSphere.config.RateLimitFilter.Rule;
+import com.example.EventSphere.config.TokenBuckets.Limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+
+/**
+ * Runs the filter behind Tomcat's remote-IP handling, configured from application.properties the way the
+ * embedded server's valve is, so the keys are the client addresses production would see.
+ */
+class RateLimitFilterTest {
+
+    private static final String PROXY = "10.0.0.5";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(List.of(
+        new Rule("login", Set.of("/login", "/admin/login"), "username", Limit.parse("2/1m"), Limit.parse("3/1m"))
+    ), 1000, meterRegistry);
+    private final RemoteIpFilter remoteIp = new RemoteIpFilter();
+
+    @BeforeEach
+    void configureRemoteIp() throws IOException, ServletException {
+        Properties properties = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"));
+        assertThat(properties.getProperty("server.forward-headers-strategy")).isEqualTo("native");
+
+        MockFilterConfig config = new MockFilterConfig();
+        config.addInitParameter("internalProxies", properties.getProperty("server.tomcat.remoteip.internal-proxies"));
+        config.addInitParameter("remoteIpHeader", properties.getProperty("server.tomcat.remoteip.remote-ip-header"));
+        config.addInitParameter("protocolHeader", properties.getProperty("server.tomcat.remoteip.protocol-header"));
+        remoteIp.init(config);
+    }
+
+    @Test
+    void clientsBehindTheProxyAreLimitedSeparately() throws Exception {
+        assertThat(login(PROXY, "203.0.113.7", "a@example.com").getStatus()).isEqualTo(200);
+        assertThat(login(PROXY, "203.0.113.7", "b@example.com").getStatus()).isEqualTo(200);
+        assertThat(login(PROXY, "203.0.113.7", "c@example.com").getStatus()).isEqualTo(429);
+
+        assertThat(login(PROXY, "198.51.100.9", "d@example.com").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void forwardedForFromAnUntrustedPeerIsIgnored() throws Exception {
+        assertThat(login("203.0.113.50", "192.0.2.1", "a@example.com").getStatus()).isEqualTo(200);
+        assertThat(login("203.0.113.50", "192.0.2.2", "b@example.com").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse response = login("203.0.113.50", "192.0.2.3", "c@example.com");
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isNotNull();
+        assertThat(meterRegistry.counter("eventsphere.ratelimit.rejected", "endpoint", "login", "key", "ip").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void accountLimitIgnoresCaseAndSurroundingSpace() throws Exception {
+        assertThat(login(PROXY, "203.0.113.1", "Jane@Example.com").getStatus()).isEqualTo(200);
+        assertThat(login(PROXY, "203.0.113.2", "jane@example.com ").getStatus()).isEqualTo(200);
+        assertThat(login(PROXY, "203.0.113.3", "JANE@example.com").getStatus()).isEqualTo(200);
+
+        assertThat(login(PROXY, "203.0.113.4", "jane@example.com").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void otherRequestsPassThrough() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest get = new MockHttpServletRequest("GET", "/login");
+            get.setRemoteAddr("203.0.113.7");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(get, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse login(String peer, String forwardedFor, String username)
+            throws IOException, ServletException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setRemoteAddr(peer);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        request.addParameter("username", username);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        remoteIp.doFilter(request, response, (resolved, out) -> filter.doFilter(resolved, out, new MockFilterChain()));
+        return response;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.EventSphere.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+class ReplicaPoolTest {
+
+    private final HikariDataSource primary = mock(HikariDataSource.class);
+    private final HikariDataSource replica = mock(HikariDataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final Session session = mock(Session.class);
+
+    private ReplicaPool replicaPool;
+    private DataSource readOnly;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replica.getUsername()).thenReturn("eventsphere");
+        when(replica.getPassword()).thenReturn("secret");
+        when(replica.getPoolName()).thenReturn("replica-1");
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getCacheMode()).thenReturn(CacheMode.NORMAL);
+
+        replicaPool = new ReplicaPool(primary, List.of(replica), new ReadYourWrites(Duration.ofSeconds(5), 100),
+            Duration.ZERO, new SimpleMeterRegistry());
+        readOnly = replicaPool.readOnlyDataSource();
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_UNKNOWN));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+    }
+
+    @Test
+    void readsGoToTheReplica() throws SQLException {
+        assertThat(readOnly.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void configuredCredentialsAreServedFromTheReplicaPool() throws SQLException {
+        assertThat(readOnly.getConnection("eventsphere", "secret")).isSameAs(replicaConnection);
+        verify(replica, never()).getConnection("eventsphere", "secret");
+    }
+
+    @Test
+    void otherCredentialsAreDelegatedToTheReplica() throws SQLException {
+        Connection reporting = mock(Connection.class);
+        when(replica.getConnection("reporting", "other")).thenReturn(reporting);
+
+        assertThat(readOnly.getConnection("reporting", "other")).isSameAs(reporting);
+    }
+
+    @Test
+    void replicaBoundTransactionReadsButNeverPopulatesTheCache() {
+        beginReadOnlyTransaction();
+
+        assertThat(ReplicaCacheMode.pinnedRoute()).isTrue();
+        verify(session).setCacheMode(CacheMode.GET);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(session).setCacheMode(CacheMode.NORMAL);
+        assertThat(ReplicaCacheMode.pinnedRoute()).isNull();
+    }
+
+    @Test
+    void transactionPinnedToThePrimaryStaysThereWhenAReplicaRecovers() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused")).thenReturn(replicaConnection);
+        assertThat(readOnly.getConnection()).isSameAs(primaryConnection);
+
+        beginReadOnlyTransaction();
+        assertThat(ReplicaCacheMode.pinnedRoute()).isFalse();
+        verify(session, never()).setCacheMode(CacheMode.GET);
+
+        // Back in rotation, but this transaction may already have put primary rows into the cache
+        when(replicaConnection.isValid(2)).thenReturn(true);
+        replicaPool.checkHealth();
+        assertThat(readOnly.getConnection()).isSameAs(primaryConnection);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(readOnly.getConnection()).isSameAs(replicaConnection);
+    }
+
+    private void beginReadOnlyTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isNewTransaction()).thenReturn(true);
+        when(transaction.isReadOnly()).thenReturn(true);
+
+        new ReplicaCacheMode(replicaPool, entityManagerFactory).afterBegin(transaction, null);
+    }
+}
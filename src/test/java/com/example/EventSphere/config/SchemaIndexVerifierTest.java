@@ -0,0 +1,121 @@
+package com.example.EventSphere.config;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.EventSphere.config.SchemaIndexVerifier.ExpectedIndex;
+
+class SchemaIndexVerifierTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<Object[]> statistics = new ArrayList<>();
+
+    private SchemaIndexVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new SchemaIndexVerifier(mock(DataSource.class));
+        ReflectionTestUtils.setField(verifier, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(verifier, "enabled", true);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object[] row : statistics) {
+                handler.processRow(row(row));
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void completeSchemaPassesWhateverTheIndexNames() {
+        liveSchemaWithout(null);
+        index("EVENTS", "PRIMARY", true, "event_id");
+
+        assertThatCode(verifier::afterPropertiesSet).doesNotThrowAnyException();
+    }
+
+    @Test
+    void missingIndexFailsStartup() {
+        liveSchemaWithout(ExpectedIndex.of("email_outbox", "status", "next_attempt_at"));
+
+        assertThatThrownBy(verifier::afterPropertiesSet)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("email_outbox(status, next_attempt_at)");
+    }
+
+    @Test
+    void columnOrderAndUniquenessMustMatch() {
+        liveSchemaWithout(ExpectedIndex.of("rsvps", "event_id", "status"));
+        index("rsvps", "idx_wrong_order", false, "status", "event_id");
+
+        assertThatThrownBy(verifier::afterPropertiesSet).hasMessageContaining("rsvps(event_id, status)");
+
+        statistics.clear();
+        liveSchemaWithout(ExpectedIndex.unique("users", "email"));
+        index("users", "idx_users_email", false, "email");
+
+        assertThatThrownBy(verifier::afterPropertiesSet).hasMessageContaining("unique users(email)");
+    }
+
+    @Test
+    void foreignKeyPrefixIndexesAndUnknownIndexesDoNotFailStartup() {
+        liveSchemaWithout(null);
+        index("rsvps", "fk_rsvps_event", false, "event_id");
+        index("events", "idx_events_title", false, "title");
+
+        assertThatCode(verifier::afterPropertiesSet).doesNotThrowAnyException();
+    }
+
+    @Test
+    void disabledVerifierDoesNotReadTheSchema() {
+        ReflectionTestUtils.setField(verifier, "enabled", false);
+
+        verifier.afterPropertiesSet();
+
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    private void liveSchemaWithout(ExpectedIndex omitted) {
+        int n = 0;
+        for (ExpectedIndex expected : SchemaIndexVerifier.EXPECTED_INDEXES) {
+            if (!expected.equals(omitted)) {
+                index(expected.table(), "idx_" + n++, expected.unique(), expected.columns().toArray(String[]::new));
+            }
+        }
+    }
+
+    private void index(String table, String name, boolean unique, String... columns) {
+        for (String column : columns) {
+            statistics.add(new Object[] {table, name, unique ? 0 : 1, column});
+        }
+    }
+
+    private static ResultSet row(Object[] values) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("TABLE_NAME")).thenReturn((String) values[0]);
+        when(rs.getString("INDEX_NAME")).thenReturn((String) values[1]);
+        when(rs.getInt("NON_UNIQUE")).thenReturn((Integer) values[2]);
+        when(rs.getString("COLUMN_NAME")).thenReturn((String) values[3]);
+        return rs;
+    }
+}
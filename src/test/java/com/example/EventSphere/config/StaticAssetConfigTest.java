@@ -0,0 +1,137 @@
+package com.example.EventSphere.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+class StaticAssetConfigTest {
+
+    // Templates must link assets through @{...} so the encoding filter can put the hash in the URL
+    private static final Pattern RAW_ASSET_LINK = Pattern.compile("(?<!th:)(href|src)=\"/(css|js)/");
+
+    private AnnotationConfigWebApplicationContext context;
+    private MockMvc mockMvc;
+    private String hashedStylesheet;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        // Converts the "365d" default of app.static-assets.max-age the way Spring Boot does
+        context.addBeanFactoryPostProcessor(beanFactory ->
+            beanFactory.setConversionService(ApplicationConversionService.getSharedInstance()));
+        context.register(MvcConfig.class, StaticAssetConfig.class);
+        context.refresh();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+            .addFilters(context.getBean(ResourceUrlEncodingFilter.class))
+            .build();
+
+        try (InputStream css = new ClassPathResource("static/css/style.css").getInputStream()) {
+            hashedStylesheet = "/css/style-" + DigestUtils.md5DigestAsHex(css) + ".css";
+        }
+    }
+
+    @AfterEach
+    void closeContext() {
+        context.close();
+    }
+
+    @Test
+    void assetUrlsCarryTheContentHash() {
+        ResourceUrlProvider urlProvider = context.getBean("mvcResourceUrlProvider", ResourceUrlProvider.class);
+
+        assertThat(urlProvider.getForLookupPath("/css/style.css")).isEqualTo(hashedStylesheet);
+        assertThat(urlProvider.getForLookupPath("/js/main.js")).matches("/js/main-[0-9a-f]{32}\\.js");
+    }
+
+    @Test
+    void hashedAssetIsCachedForAYearWithoutRevalidation() throws Exception {
+        mockMvc.perform(get(hashedStylesheet))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+            .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void gzipClientsGetThePrecompressedCopy() throws Exception {
+        mockMvc.perform(get(hashedStylesheet).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH,
+                new ClassPathResource("static/css/style.css.gz").contentLength()));
+    }
+
+    @Test
+    void staleHashIsNotServed() throws Exception {
+        mockMvc.perform(get("/css/style-0123456789abcdef0123456789abcdef.css"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void linksEncodedByAPageGetTheHashedUrl() throws Exception {
+        mockMvc.perform(get("/link").param("path", "/css/style.css"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(hashedStylesheet));
+    }
+
+    @Test
+    void templatesLinkAssetsThroughTheUrlExpression() throws IOException {
+        try (Stream<Path> templates = Files.walk(Path.of("src/main/resources/templates"))) {
+            templates.filter(path -> path.toString().endsWith(".html")).forEach(template -> {
+                try {
+                    assertThat(RAW_ASSET_LINK.matcher(Files.readString(template)).find()).as(template.toString()).isFalse();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @Import(LinkController.class)
+    static class MvcConfig {
+    }
+
+    // Stands in for a template: Thymeleaf resolves @{...} links through encodeURL
+    @RestController
+    static class LinkController {
+
+        @GetMapping("/link")
+        String link(@RequestParam String path, HttpServletResponse response) {
+            return response.encodeURL(path);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.EventSphere.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.EventSphere.config.TokenBuckets.Limit;
+
+class TokenBucketsTest {
+
+    private final TokenBuckets buckets = new TokenBuckets(1000, Duration.ofHours(1));
+
+    @Test
+    void allowsAFullBurstThenAsksToWaitForOneInterval() {
+        Limit limit = Limit.parse("3/1h");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(buckets.tryAcquire("login:ip:203.0.113.7", limit)).isZero();
+        }
+        long wait = buckets.tryAcquire("login:ip:203.0.113.7", limit);
+
+        assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.MINUTES.toNanos(20));
+    }
+
+    @Test
+    void rejectedRequestsDoNotPushTheWaitFurtherOut() {
+        Limit limit = Limit.parse("1/1h");
+        buckets.tryAcquire("key", limit);
+
+        long first = buckets.tryAcquire("key", limit);
+        long second = buckets.tryAcquire("key", limit);
+
+        assertThat(second).isLessThanOrEqualTo(first);
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        Limit limit = Limit.parse("1/1h");
+
+        assertThat(buckets.tryAcquire("login:ip:203.0.113.7", limit)).isZero();
+        assertThat(buckets.tryAcquire("login:ip:198.51.100.9", limit)).isZero();
+        assertThat(buckets.tryAcquire("login:ip:203.0.113.7", limit)).isPositive();
+    }
+
+    @Test
+    void concurrentCallersNeverGetMoreThanTheCapacity() throws Exception {
+        Limit limit = Limit.parse("50/1h");
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            Future<?>[] callers = new Future<?>[8];
+            for (int t = 0; t < callers.length; t++) {
+                callers[t] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        if (buckets.tryAcquire("shared", limit) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> caller : callers) {
+                caller.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(allowed).hasValue(50);
+    }
+
+    @Test
+    void parsesRequestsPerPeriod() {
+        Limit limit = Limit.parse("20 / 1m");
+
+        assertThat(limit.capacity()).isEqualTo(20);
+        assertThat(limit.period()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(limit.intervalNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(3));
+    }
+
+    @Test
+    void rejectsMalformedLimits() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Limit.parse("20"));
+        assertThatIllegalArgumentException().isThrownBy(() -> Limit.parse("0/1m"));
+        assertThatIllegalArgumentException().isThrownBy(() -> Limit.parse("5/0s"));
+    }
+}
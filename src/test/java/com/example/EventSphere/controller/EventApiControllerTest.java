@@ -0,0 +1,206 @@
+package com.example.EventSphere.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.EventSphere.config.ApiConfig;
+import com.example.EventSphere.model.AuthenticatedUser;
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.RSVP;
+import com.example.EventSphere.model.User;
+import com.example.EventSphere.service.EventService;
+import com.example.EventSphere.service.RSVPService;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class EventApiControllerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 11, 2, 18, 0);
+
+    private final EventService eventService = mock(EventService.class);
+    private final RSVPService rsvpService = mock(RSVPService.class);
+
+    private MockMvc mockMvc;
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new EventApiController(eventService, rsvpService))
+            .setMessageConverters(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build()))
+            .addFilter(new ApiConfig().apiEtagFilter().getFilter(), "/api/*")
+            .build();
+        organizer = new User();
+        organizer.setUserId(1L);
+        organizer.setName("Olivia");
+        organizer.setRole(User.Role.ORGANIZER);
+    }
+
+    @Test
+    void firstPageReturnsDefaultFieldsAndACursorWhenMoreFollow() throws Exception {
+        when(eventService.getUpcomingEventsPage(null, null, null, 3))
+            .thenReturn(List.of(event(10L, 0), event(11L, 1), event(12L, 2)));
+        when(rsvpService.getGoingCounts(List.of(10L, 11L))).thenReturn(Map.of(10L, 4L));
+
+        mockMvc.perform(get("/api/v1/events").param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(2))
+            .andExpect(jsonPath("$.data[0].id").value(10))
+            .andExpect(jsonPath("$.data[0].startsAt").value("2026-11-02T18:00:00"))
+            .andExpect(jsonPath("$.data[0].participants").value(4))
+            .andExpect(jsonPath("$.data[1].participants").value(0))
+            .andExpect(jsonPath("$.data[0].description").doesNotExist())
+            .andExpect(jsonPath("$.nextCursor").value(ApiCursors.after(event(11L, 1))));
+    }
+
+    @Test
+    void cursorContinuesAfterTheLastEventOfThePreviousPage() throws Exception {
+        String cursor = ApiCursors.after(event(11L, 1));
+        when(eventService.getUpcomingEventsPage(Event.Category.MEETUP, START.plusDays(1), 11L, 21))
+            .thenReturn(List.of(event(12L, 2)));
+
+        mockMvc.perform(get("/api/v1/events").param("category", "meetup").param("cursor", cursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].id").value(12))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void selectedFieldsComeInDeclarationOrderWithoutTheSeatCountQuery() throws Exception {
+        when(eventService.getUpcomingEventsPage(any(), any(), any(), anyInt())).thenReturn(List.of(event(10L, 0)));
+
+        String body = mockMvc.perform(get("/api/v1/events").param("fields", "startsAt, title"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).isEqualTo("{\"data\":[{\"title\":\"Event 10\",\"startsAt\":\"2026-11-02T18:00:00\"}],\"nextCursor\":null}");
+        verify(rsvpService, never()).getGoingCounts(anyCollection());
+    }
+
+    @Test
+    void pageSizeIsCappedAtTheMaximum() throws Exception {
+        when(eventService.getUpcomingEventsPage(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/events").param("limit", "5000")).andExpect(status().isOk());
+
+        verify(eventService).getUpcomingEventsPage(isNull(), isNull(), isNull(), eq(EventApiController.MAX_LIMIT + 1));
+    }
+
+    @Test
+    void unknownFieldsAndForgedCursorsAreBadRequests() throws Exception {
+        mockMvc.perform(get("/api/v1/events").param("fields", "title,password"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value(startsWith("Unknown field 'password'")));
+        mockMvc.perform(get("/api/v1/events").param("cursor", "not-a-cursor!"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/events").param("cursor", ApiCursors.after(rsvp(3L))))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unchangedResponseRevalidatesWithNotModified() throws Exception {
+        when(eventService.getUpcomingEventsPage(any(), any(), any(), anyInt())).thenReturn(List.of(event(10L, 0)));
+
+        String etag = mockMvc.perform(get("/api/v1/events").param("fields", "id,title"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+
+        mockMvc.perform(get("/api/v1/events").param("fields", "id,title").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        when(eventService.getUpcomingEventsPage(any(), any(), any(), anyInt())).thenReturn(List.of(event(11L, 0)));
+        mockMvc.perform(get("/api/v1/events").param("fields", "id,title").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void inactiveOrMissingEventIsNotFound() throws Exception {
+        Event hidden = event(10L, 0);
+        hidden.setActive(false);
+        when(eventService.findByIdWithDetails(10L)).thenReturn(Optional.of(hidden));
+        when(eventService.findByIdWithDetails(11L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/events/10")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/events/11")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void ownRsvpsNeedAUserAccountAndArePrivate() throws Exception {
+        mockMvc.perform(get("/api/v1/me/rsvps")).andExpect(status().isForbidden());
+
+        User attendee = new User();
+        attendee.setUserId(7L);
+        attendee.setEmail("jane@example.com");
+        attendee.setRole(User.Role.USER);
+        AuthenticatedUser principal = AuthenticatedUser.of(attendee);
+        when(rsvpService.getUserRSVPsPage(7L, 3L, 21)).thenReturn(List.of(rsvp(4L)));
+
+        mockMvc.perform(get("/api/v1/me/rsvps").param("cursor", ApiCursors.after(rsvp(3L)))
+                .principal(UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(jsonPath("$.data[0].id").value(4))
+            .andExpect(jsonPath("$.data[0].eventTitle").value("Event 10"))
+            .andExpect(jsonPath("$.data[0].status").value("GOING"));
+    }
+
+    @Test
+    void cursorsRoundTrip() {
+        assertThat(ApiCursors.eventPosition(ApiCursors.after(event(11L, 1))))
+            .isEqualTo(new ApiCursors.EventPosition(START.plusDays(1), 11L));
+        assertThat(ApiCursors.eventPosition(null)).isEqualTo(new ApiCursors.EventPosition(null, null));
+        assertThat(ApiCursors.rsvpPosition(ApiCursors.after(rsvp(3L)))).isEqualTo(3L);
+        assertThatThrownBy(() -> ApiCursors.rsvpPosition(ApiCursors.after(event(11L, 1))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Event event(Long id, int daysLater) {
+        Event event = new Event();
+        event.setEventId(id);
+        event.setTitle("Event " + id);
+        event.setCategory(Event.Category.MEETUP);
+        event.setLocation("Hall " + id);
+        event.setDateTime(START.plusDays(daysLater));
+        event.setEndDateTime(START.plusDays(daysLater).plusHours(2));
+        event.setMaxParticipants(50);
+        event.setOrganizer(organizer);
+        return event;
+    }
+
+    private RSVP rsvp(Long id) {
+        RSVP rsvp = new RSVP();
+        rsvp.setRsvpId(id);
+        rsvp.setEvent(event(10L, 0));
+        rsvp.setStatus(RSVP.Status.GOING);
+        return rsvp;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.EventSphere.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+
+/**
+ * IDENTITY ids make Hibernate run every insert on its own; pooled table ids let inserts be batched.
+ */
+class IdGeneratorMappingTest {
+
+    private static final List<Class<?>> GENERATED_ID_ENTITIES = List.of(User.class, Admin.class, Event.class,
+        RSVP.class, Volunteer.class, Subscription.class, PasswordResetToken.class, EmailOutboxMessage.class);
+
+    @Test
+    void generatedIdsComeFromTheSequenceTableInBlocksOfFifty() {
+        for (Class<?> entity : GENERATED_ID_ENTITIES) {
+            Field id = idField(entity);
+            GeneratedValue generatedValue = id.getAnnotation(GeneratedValue.class);
+            TableGenerator generator = id.getAnnotation(TableGenerator.class);
+
+            assertThat(generatedValue).as(entity.getSimpleName()).isNotNull();
+            assertThat(generatedValue.strategy()).as(entity.getSimpleName()).isEqualTo(GenerationType.TABLE);
+            assertThat(generator).as(entity.getSimpleName()).isNotNull();
+            assertThat(generator.name()).as(entity.getSimpleName()).isEqualTo(generatedValue.generator());
+            assertThat(generator.table()).as(entity.getSimpleName()).isEqualTo("id_sequences");
+            assertThat(generator.allocationSize()).as(entity.getSimpleName()).isEqualTo(50);
+            // The migration and snapshot restore seed each sequence under its table's name
+            assertThat(generator.pkColumnValue()).as(entity.getSimpleName())
+                .isEqualTo(entity.getAnnotation(Table.class).name());
+        }
+    }
+
+    @Test
+    void noEntityUsesIdentityIds() {
+        for (Class<?> entity : GENERATED_ID_ENTITIES) {
+            assertThat(idField(entity).getAnnotation(GeneratedValue.class).strategy()).isNotEqualTo(GenerationType.IDENTITY);
+        }
+        // Archived rows keep the id they had in the hot table
+        assertThat(idField(ArchivedEvent.class).getAnnotation(GeneratedValue.class)).isNull();
+    }
+
+    private static Field idField(Class<?> entity) {
+        return Arrays.stream(entity.getDeclaredFields())
+            .filter(field -> field.isAnnotationPresent(Id.class))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.EventSphere.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * The regions in hibernate-cache.conf are per node, so their expiry is what bounds cross-node staleness.
+ */
+class SecondLevelCacheRegionsTest {
+
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(30);
+
+    private static CacheManager cacheManager;
+
+    @BeforeAll
+    static void openCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        cacheManager = provider.getCacheManager(URI.create("classpath:hibernate-cache.conf"),
+            SecondLevelCacheRegionsTest.class.getClassLoader());
+    }
+
+    @AfterAll
+    static void closeCacheManager() {
+        cacheManager.close();
+    }
+
+    @Test
+    void entityRegionsExpireWithinTheStalenessBound() {
+        for (String region : List.of("events", "users", "admins")) {
+            OptionalLong expireAfterWrite = configuration(region).getExpireAfterWrite();
+
+            assertThat(expireAfterWrite).as(region).isPresent();
+            assertThat(Duration.ofNanos(expireAfterWrite.getAsLong())).as(region).isLessThanOrEqualTo(MAX_STALENESS);
+        }
+    }
+
+    @Test
+    void listingQueriesAreNotCached() {
+        assertThat(cacheManager.getCache("event-listings")).isNull();
+        assertThat(cacheManager.getCache("default-query-results-region")).isNull();
+    }
+
+    @Test
+    void rsvpsAreNotCached() {
+        assertThat(cacheManager.getCache("rsvps")).isNull();
+        assertThat(cacheManager.getCache("event-rsvps")).isNull();
+        assertThat(RSVP.class.isAnnotationPresent(org.hibernate.annotations.Cache.class)).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CaffeineConfiguration<Object, Object> configuration(String region) {
+        Cache<Object, Object> cache = cacheManager.getCache(region);
+        assertThat(cache).as(region).isNotNull();
+        return cache.getConfiguration(CaffeineConfiguration.class);
+    }
+}
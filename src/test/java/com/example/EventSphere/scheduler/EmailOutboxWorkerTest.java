@@ -0,0 +1,130 @@
+package com.example.EventSphere.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.example.EventSphere.model.EmailOutboxMessage;
+import com.example.EventSphere.service.BulkMailSender;
+import com.example.EventSphere.service.EmailOutboxService;
+import com.example.EventSphere.service.RelayRateLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EmailOutboxWorkerTest {
+
+    private final EmailOutboxService outboxService = mock(EmailOutboxService.class);
+    private final BulkMailSender bulkMailSender = mock(BulkMailSender.class);
+
+    @Test
+    void batchFitsWithinHalfTheLeaseUnderRateLimit() {
+        RelayRateLimiter onePerSecond = new RelayRateLimiter(1);
+
+        // 60 slots in half a 120 s lease, shared by 4 connections
+        assertThat(EmailOutboxWorker.batchSize(onePerSecond, 4, 100, Duration.ofSeconds(120))).isEqualTo(15);
+        assertThat(EmailOutboxWorker.batchSize(new RelayRateLimiter(0.001), 4, 100, Duration.ofSeconds(120))).isEqualTo(1);
+        assertThat(EmailOutboxWorker.batchSize(new RelayRateLimiter(0), 4, 100, Duration.ofSeconds(120))).isEqualTo(100);
+    }
+
+    @Test
+    void takesARelaySlotOnceABatchIsClaimed() throws InterruptedException {
+        RelayRateLimiter rateLimiter = spy(new RelayRateLimiter(0));
+        when(outboxService.claimDue(anyInt())).thenReturn(messages(2));
+        when(bulkMailSender.sendBatch(anyList())).thenReturn(new IdentityHashMap<>());
+
+        EmailOutboxWorker worker = worker(rateLimiter, 1, 10);
+        worker.drainOutbox();
+        worker.shutdown();
+
+        InOrder order = inOrder(rateLimiter, outboxService, bulkMailSender);
+        order.verify(outboxService).claimDue(10);
+        order.verify(rateLimiter).acquire();
+        order.verify(bulkMailSender).sendBatch(anyList());
+    }
+
+    @Test
+    void idlePollBooksNoRelaySlots() throws InterruptedException {
+        RelayRateLimiter rateLimiter = spy(new RelayRateLimiter(0));
+        when(outboxService.claimDue(anyInt())).thenReturn(List.of());
+
+        EmailOutboxWorker worker = worker(rateLimiter, 4, 10);
+        worker.drainOutbox();
+        worker.shutdown();
+
+        // One connection looks for expired leases; the other three stay free
+        verify(outboxService, times(1)).claimDue(10);
+        verify(rateLimiter, never()).acquire();
+        verifyNoInteractions(bulkMailSender);
+    }
+
+    @Test
+    void startsOnlyAsManyConnectionsAsThePendingBatchesNeed() throws InterruptedException {
+        when(outboxService.countPending()).thenReturn(15L);
+        when(outboxService.claimDue(anyInt())).thenReturn(List.of());
+
+        EmailOutboxWorker worker = worker(new RelayRateLimiter(0), 4, 10);
+        worker.drainOutbox();
+        worker.shutdown();
+
+        verify(outboxService, times(2)).claimDue(10);
+    }
+
+    @Test
+    void keepsDrainingWhileBatchesComeBackFull() throws InterruptedException {
+        when(outboxService.claimDue(anyInt())).thenReturn(messages(5)).thenReturn(messages(5)).thenReturn(messages(2));
+        when(bulkMailSender.sendBatch(anyList())).thenReturn(new IdentityHashMap<>());
+
+        EmailOutboxWorker worker = worker(new RelayRateLimiter(0), 1, 5);
+        worker.drainOutbox();
+        worker.shutdown();
+
+        verify(outboxService, times(3)).claimDue(5);
+        verify(outboxService, times(3)).markSent(anyList());
+    }
+
+    @Test
+    void failedMessagesAreRescheduledAndTheRestMarkedSent() throws InterruptedException {
+        List<EmailOutboxMessage> batch = messages(3);
+        Map<EmailOutboxMessage, Exception> failures = new IdentityHashMap<>();
+        failures.put(batch.get(1), new IllegalStateException("550 rejected"));
+        when(outboxService.claimDue(anyInt())).thenReturn(batch);
+        when(bulkMailSender.sendBatch(batch)).thenReturn(failures);
+
+        EmailOutboxWorker worker = worker(new RelayRateLimiter(0), 1, 10);
+        worker.drainOutbox();
+        worker.shutdown();
+
+        verify(outboxService).markSent(List.of(0L, 2L));
+        verify(outboxService).markFailed(1L, "550 rejected");
+    }
+
+    private EmailOutboxWorker worker(RelayRateLimiter rateLimiter, int connections, int messagesPerConnection) {
+        return new EmailOutboxWorker(outboxService, bulkMailSender, rateLimiter, new SimpleMeterRegistry(),
+            connections, messagesPerConnection, 120);
+    }
+
+    private static List<EmailOutboxMessage> messages(int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            EmailOutboxMessage message = new EmailOutboxMessage("user" + i + "@example.com", "Subject", "Body", null);
+            message.setId((long) i);
+            return message;
+        }).toList();
+    }
+}
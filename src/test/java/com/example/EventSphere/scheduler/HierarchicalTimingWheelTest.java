@@ -0,0 +1,104 @@
+package com.example.EventSphere.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = TimeUnit.MINUTES.toMillis(1);
+    // On a tick boundary, so START + n * TICK is exactly tick n
+    private static final long START = 1_699_999_980_000L;
+
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+
+    @Test
+    void expiresOnlyOnceTheDeadlineTickIsReached() {
+        wheel.schedule("reminder", START + 90 * TICK + 1);
+
+        assertThat(wheel.advanceTo(START + 90 * TICK)).isEmpty();
+        assertThat(wheel.advanceTo(START + 91 * TICK)).containsExactly("reminder");
+        assertThat(wheel.isScheduled("reminder")).isFalse();
+        assertThat(wheel.advanceTo(START + 200 * TICK)).isEmpty();
+    }
+
+    @Test
+    void returnsExpiredKeysInDeadlineOrder() {
+        wheel.schedule("in-a-day", START + TimeUnit.DAYS.toMillis(1));
+        wheel.schedule("in-an-hour", START + TimeUnit.HOURS.toMillis(1));
+        wheel.schedule("in-a-minute", START + TICK);
+
+        assertThat(wheel.advanceTo(START + TimeUnit.DAYS.toMillis(2)))
+            .containsExactly("in-a-minute", "in-an-hour", "in-a-day");
+    }
+
+    @Test
+    void pastDeadlinesFireOnTheNextAdvance() {
+        wheel.schedule("late", START - TICK);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(START)).containsExactly("late");
+    }
+
+    @Test
+    void reschedulingReplacesAndCancellingRemoves() {
+        wheel.schedule("moved", START + 10 * TICK);
+        wheel.schedule("moved", START + 500 * TICK);
+        wheel.schedule("cancelled", START + 10 * TICK);
+
+        assertThat(wheel.cancel("cancelled")).isTrue();
+        assertThat(wheel.cancel("cancelled")).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(START + 499 * TICK)).isEmpty();
+        assertThat(wheel.advanceTo(START + 500 * TICK)).containsExactly("moved");
+    }
+
+    @Test
+    void deadlinesBeyondTheHorizonCascadeDownToTheRightTick() {
+        long farOut = START + TimeUnit.DAYS.toMillis(400);
+        wheel.schedule("next-year", farOut);
+
+        assertThat(wheel.advanceTo(farOut - TICK)).isEmpty();
+        assertThat(wheel.advanceTo(farOut)).containsExactly("next-year");
+    }
+
+    @Test
+    void matchesASortedReferenceUnderRandomSchedules() {
+        Random random = new Random(42);
+        Map<String, Long> deadlineTicks = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            String key = "event-" + i;
+            long deadline = START + (long) (random.nextDouble() * TimeUnit.DAYS.toMillis(300));
+            wheel.schedule(key, deadline);
+            deadlineTicks.put(key, (deadline + TICK - 1) / TICK);
+        }
+
+        Set<String> fired = new HashSet<>();
+        long now = START;
+        while (now < START + TimeUnit.DAYS.toMillis(301)) {
+            now += (long) (random.nextDouble() * TimeUnit.HOURS.toMillis(30));
+            long nowTick = now / TICK;
+            List<String> expired = wheel.advanceTo(now);
+
+            List<String> expected = new ArrayList<>();
+            deadlineTicks.forEach((key, tick) -> {
+                if (tick <= nowTick && !fired.contains(key)) {
+                    expected.add(key);
+                }
+            });
+            assertThat(expired).containsExactlyInAnyOrderElementsOf(expected);
+            fired.addAll(expired);
+        }
+        assertThat(fired).hasSize(5000);
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.EventSphere.model.EmailOutboxMessage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+class BulkMailSenderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RelayRateLimiter rateLimiter = spy(new RelayRateLimiter(0));
+    private final JavaMailSenderImpl mailSender = mock(JavaMailSenderImpl.class);
+    private final Session session = mock(Session.class);
+    private final Transport transport = mock(Transport.class);
+
+    private BulkMailSender bulkMailSender;
+
+    @BeforeEach
+    void setUp() throws MessagingException {
+        Session realSession = Session.getInstance(new Properties());
+        when(mailSender.getSession()).thenReturn(session);
+        when(mailSender.getHost()).thenReturn("relay.example.com");
+        when(mailSender.getPort()).thenReturn(587);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(realSession));
+        when(session.getTransport("smtp")).thenReturn(transport);
+        when(transport.isConnected()).thenReturn(true);
+
+        bulkMailSender = new BulkMailSender(rateLimiter, meterRegistry);
+        bulkMailSender.setMailSender(mailSender);
+        ReflectionTestUtils.setField(bulkMailSender, "fromAddress", "noreply@eventsphere.com");
+    }
+
+    @Test
+    void sendsWholeBatchOverOneConnection() throws MessagingException {
+        List<EmailOutboxMessage> batch = messages(3);
+
+        Map<EmailOutboxMessage, Exception> failures = bulkMailSender.sendBatch(batch);
+
+        assertThat(failures).isEmpty();
+        verify(transport).connect(any(), anyInt(), isNull(), isNull());
+        verify(transport, times(3)).sendMessage(any(Message.class), any());
+        verify(transport).close();
+        assertThat(meterRegistry.get("eventsphere.mail.send.latency").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("eventsphere.mail.bulk.delivered").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void pacesEveryMessageAfterTheFirst() {
+        bulkMailSender.sendBatch(messages(4));
+
+        // The worker took the first slot before claiming the batch
+        verify(rateLimiter, times(3)).acquire();
+    }
+
+    @Test
+    void rejectedMessageDoesNotFailTheRest() throws MessagingException {
+        List<EmailOutboxMessage> batch = messages(3);
+        doThrow(new MessagingException("550 mailbox unavailable"))
+            .when(transport).sendMessage(argThat(message -> recipientOf(message).equals("user1@example.com")), any());
+
+        Map<EmailOutboxMessage, Exception> failures = bulkMailSender.sendBatch(batch);
+
+        assertThat(failures).containsOnlyKeys(batch.get(1));
+        assertThat(meterRegistry.get("eventsphere.mail.bulk.delivered").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void connectionFailureFailsWholeBatch() throws MessagingException {
+        List<EmailOutboxMessage> batch = messages(2);
+        doThrow(new MessagingException("535 authentication failed"))
+            .when(transport).connect(any(), anyInt(), any(), any());
+
+        Map<EmailOutboxMessage, Exception> failures = bulkMailSender.sendBatch(batch);
+
+        assertThat(failures).containsOnlyKeys(batch.toArray(EmailOutboxMessage[]::new));
+        verify(transport, never()).sendMessage(any(Message.class), any());
+    }
+
+    @Test
+    void droppedConnectionFailsRemainingMessages() throws MessagingException {
+        List<EmailOutboxMessage> batch = messages(3);
+        when(transport.isConnected()).thenReturn(true, false);
+
+        Map<EmailOutboxMessage, Exception> failures = bulkMailSender.sendBatch(batch);
+
+        assertThat(failures).containsOnlyKeys(batch.get(1), batch.get(2));
+        verify(transport).close();
+    }
+
+    private static List<EmailOutboxMessage> messages(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new EmailOutboxMessage("user" + i + "@example.com", "Subject " + i, "Body " + i, null))
+            .toList();
+    }
+
+    private static String recipientOf(Message message) {
+        try {
+            return message.getAllRecipients()[0].toString();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
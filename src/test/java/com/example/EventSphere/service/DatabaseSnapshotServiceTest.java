@@ -0,0 +1,168 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Runs export and restore against a scripted {@link JdbcTemplate}: a few rows per table on the way out, and a
+ * record of every insert batch on the way in.
+ */
+class DatabaseSnapshotServiceTest {
+
+    private static final Pattern SELECT_TABLE = Pattern.compile("SELECT \\* FROM (\\w+) ORDER BY");
+    private static final Pattern INSERT_TABLE = Pattern.compile("INSERT INTO (\\w+) \\(");
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    private final Cache cache = mock(Cache.class);
+    private final Map<String, List<Object[]>> tableRows = Map.of(
+        "users", List.of(new Object[] {1L, "Jane", Timestamp.valueOf(CREATED)}, new Object[] {2L, "John", null}),
+        "events", List.of(new Object[] {10L, "Meetup", Timestamp.valueOf(CREATED)},
+            new Object[] {11L, "Hackathon", Timestamp.valueOf(CREATED)}, new Object[] {12L, "Workshop", null}));
+    private final List<String> insertOrder = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, List<Object[]>> inserted = Collections.synchronizedMap(new java.util.HashMap<>());
+
+    private DatabaseSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+
+        snapshotService = new DatabaseSnapshotService(mock(DataSource.class), transactionManager,
+            Jackson2ObjectMapperBuilder.json().build(), entityManagerFactory, 100, 2);
+        ReflectionTestUtils.setField(snapshotService, "jdbcTemplate", jdbcTemplate);
+
+        doAnswer(invocation -> {
+            scan(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            String table = group(INSERT_TABLE, invocation.getArgument(0));
+            List<Object[]> batch = invocation.getArgument(1);
+            insertOrder.add(table);
+            inserted.computeIfAbsent(table, t -> Collections.synchronizedList(new ArrayList<>())).addAll(List.copyOf(batch));
+            return new int[batch.size()];
+        });
+    }
+
+    @Test
+    void exportWritesOneFilePerTableAndAManifest() throws IOException {
+        List<DatabaseSnapshotService.TableStats> stats = snapshotService.exportSnapshot(directory);
+
+        assertThat(stats).extracting(DatabaseSnapshotService.TableStats::table).startsWith("users", "admins", "events");
+        assertThat(stats).filteredOn(table -> table.table().equals("events")).singleElement()
+            .extracting(DatabaseSnapshotService.TableStats::rows).isEqualTo(3L);
+        assertThat(directory.resolve("users.jsonl.gz")).exists();
+        assertThat(Files.readString(directory.resolve(DatabaseSnapshotService.MANIFEST_FILE)))
+            .contains("\"name\" : \"events\"").contains("\"rows\" : 3");
+    }
+
+    @Test
+    void restoreReloadsEveryRowInBatchesLevelByLevel() throws IOException {
+        snapshotService.exportSnapshot(directory);
+
+        snapshotService.restoreSnapshot(directory);
+
+        assertThat(inserted.get("users")).extracting(row -> row[1]).containsExactly("Jane", "John");
+        assertThat(inserted.get("events")).extracting(row -> row[0]).containsExactly(10, 11, 12);
+        assertThat(inserted.get("events").get(0)[2]).isEqualTo("2026-10-01T12:00:00");
+        // batch-size=2: three events take two batches
+        assertThat(insertOrder).containsExactly("users", "events", "events");
+        verify(jdbcTemplate).update(anyString(), eq("events"));
+        verify(jdbcTemplate, never()).update(anyString(), eq("archived_events"));
+        verify(cache).evictAll();
+    }
+
+    @Test
+    void restoreRefusesADatabaseWithData() throws IOException {
+        snapshotService.exportSnapshot(directory);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rsvps", Long.class)).thenReturn(4L);
+
+        assertThatIllegalStateException().isThrownBy(() -> snapshotService.restoreSnapshot(directory))
+            .withMessageContaining("rsvps is not empty");
+        assertThat(insertOrder).isEmpty();
+    }
+
+    @Test
+    void snapshotsFromBeforeTheArchiveSkipTheArchiveTables() throws IOException {
+        snapshotService.exportSnapshot(directory);
+        Path manifest = directory.resolve(DatabaseSnapshotService.MANIFEST_FILE);
+        var objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        var snapshot = objectMapper.readValue(manifest.toFile(), DatabaseSnapshotService.SnapshotManifest.class);
+        objectMapper.writeValue(manifest.toFile(), new DatabaseSnapshotService.SnapshotManifest(snapshot.createdAt(),
+            snapshot.tables().stream().filter(table -> !table.name().startsWith("archived_")).toList()));
+
+        snapshotService.restoreSnapshot(directory);
+
+        assertThat(inserted).containsOnlyKeys("users", "events");
+    }
+
+    private void scan(String sql, RowCallbackHandler handler) throws SQLException {
+        List<Object[]> rows = tableRows.getOrDefault(group(SELECT_TABLE, sql), List.of());
+        for (Object[] row : rows) {
+            ResultSet resultSet = mock(ResultSet.class);
+            ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+            when(resultSet.getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnCount()).thenReturn(3);
+            when(metaData.getColumnLabel(1)).thenReturn("id");
+            when(metaData.getColumnLabel(2)).thenReturn("name");
+            when(metaData.getColumnLabel(3)).thenReturn("created_at");
+            for (int i = 0; i < row.length; i++) {
+                when(resultSet.getObject(i + 1)).thenReturn(row[i]);
+            }
+            handler.processRow(resultSet);
+        }
+    }
+
+    private static String group(Pattern pattern, String sql) {
+        Matcher matcher = pattern.matcher(sql);
+        assertThat(matcher.find()).as(sql).isTrue();
+        return matcher.group(1);
+    }
+}
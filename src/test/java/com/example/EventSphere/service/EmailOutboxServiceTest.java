@@ -0,0 +1,117 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.EventSphere.model.EmailOutboxMessage;
+import com.example.EventSphere.repository.EmailOutboxRepository;
+
+import jakarta.persistence.EntityManager;
+
+class EmailOutboxServiceTest {
+
+    private final EmailOutboxRepository repository = mock(EmailOutboxRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final EmailOutboxService outboxService = new EmailOutboxService(repository);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxService, "entityManager", entityManager);
+        ReflectionTestUtils.setField(outboxService, "writeChunkSize", 2);
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxService, "initialBackoffSeconds", 30L);
+        ReflectionTestUtils.setField(outboxService, "maxBackoffSeconds", 100L);
+        ReflectionTestUtils.setField(outboxService, "leaseSeconds", 120L);
+    }
+
+    @Test
+    void claimedMessagesAreLeasedAndCountAnAttempt() {
+        EmailOutboxMessage message = new EmailOutboxMessage("jane@example.com", "Reminder", "Body");
+        when(repository.findDueForUpdate(any(), eq(PageRequest.of(0, 25)))).thenReturn(List.of(message));
+
+        List<EmailOutboxMessage> claimed = outboxService.claimDue(25);
+
+        assertThat(claimed).containsExactly(message);
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxMessage.Status.SENDING);
+        assertThat(message.getAttempts()).isEqualTo(1);
+        // Until the lease runs out no other worker can claim it; after that a crashed send is retried
+        assertThat(message.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(120), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void failedDeliveryBacksOffExponentiallyUpToTheCap() {
+        EmailOutboxMessage message = claimedMessage(1);
+
+        outboxService.markFailed(1L, "421 try later");
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxMessage.Status.PENDING);
+        assertThat(message.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(30), within(5, ChronoUnit.SECONDS));
+
+        message.setAttempts(2);
+        outboxService.markFailed(1L, "421 try later");
+        assertThat(message.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(60), within(5, ChronoUnit.SECONDS));
+        assertThat(message.getLastError()).isEqualTo("421 try later");
+    }
+
+    @Test
+    void backoffIsCappedAtTheMaximum() {
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 10);
+        EmailOutboxMessage message = claimedMessage(5);
+
+        outboxService.markFailed(1L, "421 try later");
+
+        assertThat(message.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(100), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void lastAttemptDeadLetters() {
+        EmailOutboxMessage message = claimedMessage(3);
+
+        assertThat(outboxService.markFailed(1L, "550 no such user")).isTrue();
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxMessage.Status.DEAD);
+    }
+
+    @Test
+    void largeFanOutIsWrittenInDetachedChunks() {
+        long written = outboxService.enqueueAll(IntStream.range(0, 5)
+            .mapToObj(i -> new EmailOutboxMessage("user" + i + "@example.com", "New event", "Body")));
+
+        assertThat(written).isEqualTo(5);
+        verify(repository, times(5)).save(any(EmailOutboxMessage.class));
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void markingNothingSentSkipsTheUpdate() {
+        outboxService.markSent(List.of());
+
+        verify(repository, never()).markSent(any(), any());
+    }
+
+    private EmailOutboxMessage claimedMessage(int attempts) {
+        EmailOutboxMessage message = new EmailOutboxMessage("jane@example.com", "Reminder", "Body");
+        message.setId(1L);
+        message.setStatus(EmailOutboxMessage.Status.SENDING);
+        message.setAttempts(attempts);
+        when(repository.findById(1L)).thenReturn(Optional.of(message));
+        return message;
+    }
+}
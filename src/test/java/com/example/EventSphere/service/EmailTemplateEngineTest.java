@@ -0,0 +1,81 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.service.EmailTemplateEngine.CompiledTemplate;
+import com.example.EventSphere.service.EmailTemplateEngine.PreparedEmail;
+import com.example.EventSphere.service.EmailTemplateEngine.RenderedEmail;
+
+class EmailTemplateEngineTest {
+
+    private final EmailTemplateEngine engine = new EmailTemplateEngine();
+
+    @BeforeEach
+    void loadTemplates() throws IOException {
+        engine.loadTemplates();
+    }
+
+    @Test
+    void reminderBindsEventFieldsOnceAndNamesPerRecipient() {
+        PreparedEmail reminder = engine.prepare("event-reminder", event("Spring <Meetup>"));
+
+        RenderedEmail jane = reminder.render(Map.of("name", "Jane")::get);
+        RenderedEmail john = reminder.render(Map.of("name", "John")::get);
+
+        assertThat(jane.subject()).isEqualTo("Event Reminder: Spring <Meetup>");
+        assertThat(jane.text()).contains("Hello Jane,").contains("05, 2026").contains("Time: 18:30")
+            .contains("Location: Main Hall");
+        assertThat(john.text()).contains("Hello John,");
+        // Fully bound subjects are shared, not rebuilt per recipient
+        assertThat(john.subject()).isSameAs(jane.subject());
+    }
+
+    @Test
+    void htmlPartEscapesValuesButTextDoesNot() {
+        RenderedEmail email = engine.prepare("event-reminder", event("Spring <Meetup>"))
+            .render(Map.of("name", "<b>Jane</b>")::get);
+
+        assertThat(email.html()).contains("Spring &lt;Meetup&gt;").contains("&lt;b&gt;Jane&lt;/b&gt;")
+            .doesNotContain("<b>Jane</b>");
+        assertThat(email.text()).contains("Hello <b>Jane</b>,");
+    }
+
+    @Test
+    void unknownTemplateIsRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> engine.prepare("no-such-template"));
+    }
+
+    @Test
+    void missingValuesRenderEmpty() {
+        CompiledTemplate template = CompiledTemplate.parse("Hi {{ name }}, see {{link}}.", false);
+
+        assertThat(template.render(key -> "name".equals(key) ? "Jane" : null)).isEqualTo("Hi Jane, see .");
+    }
+
+    @Test
+    void bindingKeepsUnknownPlaceholdersForLater() {
+        CompiledTemplate template = CompiledTemplate.parse("{{a}}-{{b}}-{{a}}", false)
+            .bind(key -> "a".equals(key) ? "1" : null);
+
+        assertThat(template.render(key -> "b".equals(key) ? "2" : null)).isEqualTo("1-2-1");
+    }
+
+    private static Event event(String title) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setCategory(Event.Category.DONATION_DRIVE);
+        event.setLocation("Main Hall");
+        event.setDateTime(LocalDateTime.of(2026, 11, 5, 18, 30));
+        event.setDescription("Talks and pizza");
+        return event;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.MailRecipient;
+import com.example.EventSphere.model.Subscription;
+import com.example.EventSphere.model.User;
+import com.example.EventSphere.repository.EventRepository;
+import com.example.EventSphere.repository.SubscriptionRepository;
+
+class EventAnnouncementServiceTest {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final SubscriptionRepository subscriptionRepository = mock(SubscriptionRepository.class);
+    private final EmailService emailService = mock(EmailService.class);
+    private final EventAnnouncementService announcementService =
+        new EventAnnouncementService(eventRepository, subscriptionRepository, emailService);
+
+    @Test
+    void streamsCategoryAndLocationSubscribersIntoTheOutboxAndClosesTheCursor() {
+        Event event = event(true);
+        when(eventRepository.findByIdWithOrganizer(5L)).thenReturn(Optional.of(event));
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<MailRecipient> subscribers = Stream.of(new MailRecipient("jane@example.com", "Jane"))
+            .onClose(() -> closed.set(true));
+        when(subscriptionRepository.streamSubscribers(any(), any(), any())).thenReturn(subscribers);
+
+        announcementService.onEventCreated(new EventCreated(5L));
+
+        verify(subscriptionRepository).streamSubscribers(eq("MEETUP"),
+            eq(Subscription.locationKeys("HITEC City,  Hyderabad")), eq(9L));
+        verify(emailService).sendNewEventNotification(event, subscribers);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void inactiveOrMissingEventsAreNotAnnounced() {
+        when(eventRepository.findByIdWithOrganizer(5L)).thenReturn(Optional.of(event(false)));
+
+        announcementService.onEventCreated(new EventCreated(5L));
+        announcementService.onEventCreated(new EventCreated(6L));
+
+        verifyNoInteractions(subscriptionRepository, emailService);
+    }
+
+    @Test
+    void locationKeysCoverTheWholeLocationAndEachPart() {
+        assertThat(Subscription.locationKeys(" HITEC City,  Hyderabad "))
+            .containsExactly("hitec city, hyderabad", "hitec city", "hyderabad");
+        assertThat(Subscription.locationKeys("  ")).isEmpty();
+    }
+
+    @Test
+    void subscriptionsAreStoredNormalizedAndOnlyOnce() {
+        SubscriptionService subscriptionService = new SubscriptionService(subscriptionRepository);
+        User user = organizer();
+        when(subscriptionRepository.save(any(Subscription.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(subscriptionService.subscribe(user, Subscription.Type.CATEGORY, " meetup ").getTopicKey()).isEqualTo("MEETUP");
+        assertThat(subscriptionService.subscribe(user, Subscription.Type.LOCATION, " Hyderabad  City").getTopicKey())
+            .isEqualTo("hyderabad city");
+
+        when(subscriptionRepository.existsByUser_UserIdAndTypeAndTopicKey(9L, Subscription.Type.LOCATION, "hyderabad"))
+            .thenReturn(true);
+        assertThatThrownBy(() -> subscriptionService.subscribe(user, Subscription.Type.LOCATION, "Hyderabad"))
+            .hasMessageContaining("already subscribed");
+        assertThatThrownBy(() -> subscriptionService.subscribe(user, Subscription.Type.CATEGORY, "party"))
+            .hasMessageContaining("Unknown category");
+        verify(subscriptionRepository, times(2)).save(any(Subscription.class));
+    }
+
+    private static Event event(boolean active) {
+        Event event = new Event();
+        event.setEventId(5L);
+        event.setTitle("Spring Meetup");
+        event.setCategory(Event.Category.MEETUP);
+        event.setLocation("HITEC City,  Hyderabad");
+        event.setActive(active);
+        event.setOrganizer(organizer());
+        return event;
+    }
+
+    private static User organizer() {
+        User user = new User();
+        user.setUserId(9L);
+        return user;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.example.EventSphere.repository.ArchivedEventRepository;
+import com.example.EventSphere.repository.EventRepository;
+import com.example.EventSphere.repository.RSVPRepository;
+import com.example.EventSphere.repository.VolunteerRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EventArchiveServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    private final ArchivedEventRepository archivedEventRepository = mock(ArchivedEventRepository.class);
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final RSVPRepository rsvpRepository = mock(RSVPRepository.class);
+    private final VolunteerRepository volunteerRepository = mock(VolunteerRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EventArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        archiveService = new EventArchiveService(archivedEventRepository, eventRepository, rsvpRepository,
+            volunteerRepository, transactionManager, meterRegistry, 2);
+    }
+
+    @Test
+    void eventsAreCopiedBeforeTheOriginalsAreDeleted() {
+        when(eventRepository.findCompletedEventIds(CUTOFF, Limit.of(2))).thenReturn(List.of(1L));
+
+        assertThat(archiveService.archiveCompletedBefore(CUTOFF)).isEqualTo(1);
+
+        InOrder order = inOrder(archivedEventRepository, rsvpRepository, volunteerRepository, eventRepository);
+        order.verify(archivedEventRepository).archiveEvents(eq(List.of(1L)), any());
+        order.verify(archivedEventRepository).archiveRsvps(List.of(1L));
+        order.verify(archivedEventRepository).archiveVolunteers(List.of(1L));
+        order.verify(rsvpRepository).deleteByEventIds(List.of(1L));
+        order.verify(volunteerRepository).deleteByEventIds(List.of(1L));
+        order.verify(eventRepository).deleteByEventIds(List.of(1L));
+    }
+
+    @Test
+    void eachBatchRunsInItsOwnTransactionUntilAShortOne() {
+        when(eventRepository.findCompletedEventIds(CUTOFF, Limit.of(2)))
+            .thenReturn(List.of(1L, 2L))
+            .thenReturn(List.of(3L, 4L))
+            .thenReturn(List.of(5L));
+
+        assertThat(archiveService.archiveCompletedBefore(CUTOFF)).isEqualTo(5);
+
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(3)).commit(any());
+        verify(eventRepository, times(3)).findCompletedEventIds(CUTOFF, Limit.of(2));
+        assertThat(meterRegistry.counter("eventsphere.archive.events").count()).isEqualTo(5);
+    }
+
+    @Test
+    void fullLastBatchEndsOnTheEmptyLookup() {
+        when(eventRepository.findCompletedEventIds(CUTOFF, Limit.of(2)))
+            .thenReturn(List.of(1L, 2L))
+            .thenReturn(List.of());
+
+        assertThat(archiveService.archiveCompletedBefore(CUTOFF)).isEqualTo(2);
+
+        verify(archivedEventRepository, times(1)).archiveEvents(any(), any());
+    }
+
+    @Test
+    void failedBatchIsRolledBackAndStopsTheRun() {
+        when(eventRepository.findCompletedEventIds(CUTOFF, Limit.of(2))).thenReturn(List.of(1L, 2L));
+        when(volunteerRepository.deleteByEventIds(List.of(1L, 2L))).thenThrow(new IllegalStateException("lock wait timeout"));
+
+        assertThatThrownBy(() -> archiveService.archiveCompletedBefore(CUTOFF)).hasMessage("lock wait timeout");
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(eventRepository, never()).deleteByEventIds(any());
+        assertThat(meterRegistry.counter("eventsphere.archive.events").count()).isZero();
+    }
+}
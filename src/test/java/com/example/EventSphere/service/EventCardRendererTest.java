@@ -0,0 +1,101 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.example.EventSphere.model.Event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EventCardRendererTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EventCardRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        renderer = new EventCardRenderer(templateEngine, meterRegistry, 100);
+        bindRequest("");
+    }
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void linksResolveAgainstTheContextPath() {
+        bindRequest("/eventsphere");
+
+        String card = renderer.render("listing-card", event(7L, 1L), Locale.ENGLISH);
+
+        assertThat(card).contains("href=\"/eventsphere/events/7\"").contains("Spring Meetup");
+    }
+
+    @Test
+    void sharedCardsCarryNoSessionId() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            @Override
+            public String encodeURL(String url) {
+                return url + ";jsessionid=ABC123";
+            }
+        };
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+
+        String card = renderer.render("home-card", event(7L, 1L), Locale.ENGLISH);
+
+        assertThat(card).contains("href=\"/events/7\"").doesNotContain("jsessionid");
+    }
+
+    @Test
+    void rendersOncePerVersionAndContextPath() {
+        String first = renderer.render("home-card", event(7L, 1L), Locale.ENGLISH);
+
+        assertThat(renderer.render("home-card", event(7L, 1L), Locale.ENGLISH)).isSameAs(first);
+        assertThat(renderer.render("home-card", event(7L, 2L), Locale.ENGLISH)).isNotSameAs(first);
+
+        bindRequest("/eventsphere");
+        assertThat(renderer.render("home-card", event(7L, 1L), Locale.ENGLISH)).contains("/eventsphere/events/7");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "eventsphere.event-cards").tag("result", "hit")
+            .functionCounter().count()).isEqualTo(1);
+    }
+
+    private static void bindRequest(String contextPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", contextPath + "/");
+        request.setContextPath(contextPath);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+    }
+
+    private static Event event(Long id, Long version) {
+        Event event = new Event();
+        event.setEventId(id);
+        event.setVersion(version);
+        event.setTitle("Spring Meetup");
+        event.setDescription("Talks and pizza");
+        event.setCategory(Event.Category.MEETUP);
+        event.setLocation("Main Hall");
+        event.setDateTime(LocalDateTime.of(2026, 11, 5, 18, 30));
+        return event;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.ExportJob;
+import com.example.EventSphere.repository.ExportJobRepository;
+
+class EventExportServiceTest {
+
+    @TempDir
+    Path exportDir;
+
+    private final ParticipantExportService participantExportService = mock(ParticipantExportService.class);
+    private final ExportJobRepository jobRepository = mock(ExportJobRepository.class);
+    private EventExportService exportService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(jobRepository.save(any(ExportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobRepository.markCompleted(anyString(), any())).thenReturn(1);
+        doAnswer(invocation -> writeCsv(invocation.getArgument(1), "participants," + invocation.getArgument(0)))
+            .when(participantExportService).writeParticipantsCsv(any(), any());
+        doAnswer(invocation -> writeCsv(invocation.getArgument(1), "volunteers," + invocation.getArgument(0)))
+            .when(participantExportService).writeVolunteersCsv(any(), any());
+
+        exportService = new EventExportService(participantExportService, jobRepository, 2, exportDir.toString(), 60);
+    }
+
+    @AfterEach
+    void shutdown() {
+        exportService.shutdown();
+    }
+
+    @Test
+    void streamedZipHasBothFilesPerEventInOrder() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writeZip(List.of(event(1L, "Spring Meetup"), event(2L, "Hack Night!")), out);
+
+        assertThat(entryNames(out.toByteArray())).containsExactly(
+            "spring-meetup-1/participants.csv", "spring-meetup-1/volunteers.csv",
+            "hack-night--2/participants.csv", "hack-night--2/volunteers.csv");
+    }
+
+    @Test
+    void backgroundExportReportsProgressToTheDatabaseAndCompletes() throws IOException {
+        ExportJob job = exportService.startExport(List.of(event(1L, "A"), event(2L, "B")), "user:7", "my-events.zip");
+
+        assertThat(job.getTotalEntries()).isEqualTo(4);
+        verify(jobRepository, timeout(5000)).markCompleted(eq(job.getId()), any());
+        InOrder progress = inOrder(jobRepository);
+        for (int completed = 1; completed <= 4; completed++) {
+            progress.verify(jobRepository).updateProgress(eq(job.getId()), eq(completed), any());
+        }
+        progress.verify(jobRepository).markCompleted(eq(job.getId()), any());
+
+        completeInMemory(job);
+        Path file = exportService.findFile(job).orElseThrow();
+        assertThat(file.getParent()).isEqualTo(exportDir);
+        assertThat(entryNames(Files.readAllBytes(file))).hasSize(4);
+    }
+
+    @Test
+    void jobSweptWhileRunningDropsItsFile() {
+        when(jobRepository.markCompleted(anyString(), any())).thenReturn(0);
+
+        ExportJob job = exportService.startExport(List.of(event(1L, "A")), "user:7", "my-events.zip");
+
+        verify(jobRepository, timeout(5000)).markCompleted(eq(job.getId()), any());
+        awaitNoFiles();
+    }
+
+    @Test
+    void failedEntryFailsTheJobAndLeavesNoFile() throws IOException {
+        doThrow(new IOException("connection reset")).when(participantExportService).writeParticipantsCsv(eq(2L), any());
+
+        ExportJob job = exportService.startExport(List.of(event(1L, "A"), event(2L, "B")), "user:7", "my-events.zip");
+
+        verify(jobRepository, timeout(5000)).markFailed(eq(job.getId()), eq("Export failed: connection reset"), any());
+        awaitNoFiles();
+    }
+
+    @Test
+    void fileIsOnlyServedForCompletedJobs() throws IOException {
+        ExportJob job = new ExportJob("6f1c1a5e-2f4b-4c1e-9a57-0c2d3e4f5a6b", "user:7", "my-events.zip", 1, 2);
+        Files.writeString(exportDir.resolve(job.getId() + ".zip"), "zip");
+
+        assertThat(exportService.findFile(job)).isEmpty();
+
+        completeInMemory(job);
+        assertThat(exportService.findFile(job)).isPresent();
+
+        Files.delete(exportDir.resolve(job.getId() + ".zip"));
+        assertThat(exportService.findFile(job)).isEmpty();
+    }
+
+    @Test
+    void purgeDeletesOnlyTheFilesOfRowsThisNodeRemoved() throws IOException {
+        Files.writeString(exportDir.resolve("expired.zip"), "zip");
+        Files.writeString(exportDir.resolve("taken.zip"), "zip");
+        when(jobRepository.findIdsIdleSince(any(), any())).thenReturn(List.of("expired", "taken"));
+        when(jobRepository.deleteIdleSince(eq("expired"), any())).thenReturn(1);
+        // Another node's sweep got there first and owns the file
+        when(jobRepository.deleteIdleSince(eq("taken"), any())).thenReturn(0);
+
+        assertThat(exportService.purgeExpiredJobs()).isEqualTo(1);
+
+        assertThat(exportDir.resolve("expired.zip")).doesNotExist();
+        assertThat(exportDir.resolve("taken.zip")).exists();
+        verify(jobRepository).findIdsIdleSince(
+            argThat(cutoff -> cutoff.isBefore(LocalDateTime.now().minusMinutes(59))), any());
+    }
+
+    @Test
+    void progressUpdatesAreNotSentForStreamedZips() throws IOException {
+        exportService.writeZip(List.of(event(1L, "A")), new ByteArrayOutputStream());
+
+        verify(jobRepository, never()).updateProgress(anyString(), anyInt(), any());
+    }
+
+    private void awaitNoFiles() {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline && exportDir.toFile().list().length > 0) {
+            Thread.onSpinWait();
+        }
+        assertThat(exportDir).isEmptyDirectory();
+    }
+
+    private static void completeInMemory(ExportJob job) {
+        ReflectionTestUtils.setField(job, "status", ExportJob.Status.COMPLETED);
+    }
+
+    private static Object writeCsv(OutputStream out, String line) throws IOException {
+        out.write(line.getBytes(StandardCharsets.UTF_8));
+        return null;
+    }
+
+    private static Event event(Long id, String title) {
+        Event event = new Event();
+        event.setEventId(id);
+        event.setTitle(title);
+        return event;
+    }
+
+    private static List<String> entryNames(byte[] zip) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+                names.add(entry.getName());
+            }
+        }
+        return names;
+    }
+}
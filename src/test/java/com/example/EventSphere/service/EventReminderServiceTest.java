@@ -0,0 +1,103 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.model.RSVP;
+import com.example.EventSphere.model.User;
+import com.example.EventSphere.repository.EventRepository;
+import com.example.EventSphere.repository.RSVPRepository;
+
+class EventReminderServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 11, 2, 18, 0);
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final RSVPRepository rsvpRepository = mock(RSVPRepository.class);
+    private final EmailService emailService = mock(EmailService.class);
+    private final EventReminderService reminderService =
+        new EventReminderService(eventRepository, rsvpRepository, emailService);
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reminderService, "batchSize", 2);
+        event = new Event();
+        event.setEventId(5L);
+        event.setDateTime(START);
+        when(eventRepository.findById(5L)).thenReturn(Optional.of(event));
+    }
+
+    @Test
+    void claimedReminderIsQueuedForEveryAttendeeInBatches() {
+        when(eventRepository.claimReminder(eq(5L), eq(START), eq(3600L), any())).thenReturn(1);
+        when(rsvpRepository.findGoingWithUserAfter(5L, 0L, PageRequest.of(0, 2))).thenReturn(going(1, 2));
+        when(rsvpRepository.findGoingWithUserAfter(5L, 2L, PageRequest.of(0, 2))).thenReturn(going(3));
+
+        EventReminderService.Dispatch dispatch = reminderService.sendReminders(5L, START, Duration.ofHours(1));
+
+        assertThat(dispatch.queued()).isEqualTo(3);
+        assertThat(dispatch.movedTo()).isNull();
+        verify(emailService, times(2)).sendEventReminders(eq(event), any());
+    }
+
+    @Test
+    void reminderAnotherNodeClaimedIsSkipped() {
+        when(eventRepository.claimReminder(eq(5L), eq(START), eq(86400L), any())).thenReturn(0);
+
+        EventReminderService.Dispatch dispatch = reminderService.sendReminders(5L, START, Duration.ofHours(24));
+
+        assertThat(dispatch).isEqualTo(new EventReminderService.Dispatch(0, null));
+        verifyNoInteractions(rsvpRepository, emailService);
+    }
+
+    @Test
+    void movedEventReportsItsNewStartWithoutClaiming() {
+        event.setDateTime(START.plusDays(1));
+
+        EventReminderService.Dispatch dispatch = reminderService.sendReminders(5L, START, Duration.ofHours(1));
+
+        assertThat(dispatch).isEqualTo(new EventReminderService.Dispatch(0, START.plusDays(1)));
+        verify(eventRepository, never()).claimReminder(anyLong(), any(), anyLong(), any());
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void deactivatedEventIsNeitherClaimedNorRescheduled() {
+        event.setActive(false);
+
+        assertThat(reminderService.sendReminders(5L, START, Duration.ofHours(1)))
+            .isEqualTo(new EventReminderService.Dispatch(0, null));
+        verify(eventRepository, never()).claimReminder(anyLong(), any(), anyLong(), any());
+    }
+
+    private static List<RSVP> going(long... rsvpIds) {
+        return LongStream.of(rsvpIds).mapToObj(id -> {
+            RSVP rsvp = new RSVP();
+            rsvp.setRsvpId(id);
+            rsvp.setUser(new User());
+            return rsvp;
+        }).toList();
+    }
+}
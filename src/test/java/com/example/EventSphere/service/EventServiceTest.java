@@ -0,0 +1,53 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.example.EventSphere.repository.EventRepository;
+import com.example.EventSphere.repository.RSVPRepository;
+import com.example.EventSphere.repository.VolunteerRepository;
+
+class EventServiceTest {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final RSVPRepository rsvpRepository = mock(RSVPRepository.class);
+    private final VolunteerRepository volunteerRepository = mock(VolunteerRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final EventService eventService = new EventService(eventRepository, rsvpRepository, volunteerRepository,
+        eventPublisher, mock(OptimisticLockRetry.class));
+
+    @Test
+    void deletingAnEventRemovesRegistrationsWithOneStatementPerTable() {
+        when(eventRepository.existsById(5L)).thenReturn(true);
+
+        eventService.deleteEvent(5L);
+
+        InOrder order = inOrder(rsvpRepository, volunteerRepository, eventRepository);
+        order.verify(rsvpRepository).deleteByEventIds(List.of(5L));
+        order.verify(volunteerRepository).deleteByEventIds(List.of(5L));
+        order.verify(eventRepository).deleteByEventIds(List.of(5L));
+        verify(eventRepository, never()).delete(any());
+        verify(eventPublisher).publishEvent(any(EventScheduleChange.class));
+    }
+
+    @Test
+    void deletingAMissingEventFailsWithoutStatements() {
+        assertThatThrownBy(() -> eventService.deleteEvent(5L)).hasMessage("Event not found");
+
+        verify(rsvpRepository, never()).deleteByEventIds(anyList());
+        verify(eventRepository, never()).deleteByEventIds(anyList());
+    }
+}
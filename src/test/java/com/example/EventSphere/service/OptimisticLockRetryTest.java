@@ -0,0 +1,147 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OptimisticLockRetryTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    void conflictIsRetriedInAFreshTransaction() {
+        OptimisticLockRetry retry = new OptimisticLockRetry(transactionManager, meterRegistry, 3, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retry.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw conflict();
+            }
+            return "saved";
+        });
+
+        assertThat(result).isEqualTo("saved");
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues()).allMatch(definition ->
+            definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        assertThat(meterRegistry.counter("eventsphere.optimistic-lock.retries").count()).isEqualTo(1);
+    }
+
+    @Test
+    void conflictIsRethrownOnceAttemptsRunOut() {
+        OptimisticLockRetry retry = new OptimisticLockRetry(transactionManager, meterRegistry, 3, 1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.run(() -> {
+            attempts.incrementAndGet();
+            throw conflict();
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.counter("eventsphere.optimistic-lock.retries").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("eventsphere.optimistic-lock.exhausted").count()).isEqualTo(1);
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        OptimisticLockRetry retry = new OptimisticLockRetry(transactionManager, meterRegistry, 3, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.run(() -> {
+            attempts.incrementAndGet();
+            throw new DataIntegrityViolationException("duplicate");
+        })).isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(attempts).hasValue(1);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void concurrentWritersAllLandThroughRetries() throws Exception {
+        OptimisticLockRetry retry = new OptimisticLockRetry(transactionManager, meterRegistry, 100, 1);
+        VersionedCounter row = new VersionedCounter();
+        int writers = 8;
+        int updatesEach = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?>[] futures = new Future<?>[writers];
+            for (int i = 0; i < writers; i++) {
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    for (int n = 0; n < updatesEach; n++) {
+                        retry.run(row::increment);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(row.value()).isEqualTo(writers * updatesEach);
+        assertThat(meterRegistry.counter("eventsphere.optimistic-lock.exhausted").count()).isZero();
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(Object.class, 1L);
+    }
+
+    /**
+     * A row with a version column: a save based on a stale read fails like a versioned Hibernate update.
+     */
+    private static final class VersionedCounter {
+
+        private final AtomicLong state = new AtomicLong();
+
+        void increment() {
+            long read = state.get();
+            Thread.yield();
+            long version = read >>> 32;
+            long value = read & 0xFFFF_FFFFL;
+            if (!state.compareAndSet(read, ((version + 1) << 32) | (value + 1))) {
+                throw conflict();
+            }
+        }
+
+        long value() {
+            return state.get() & 0xFFFF_FFFFL;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.EventSphere.model.RSVP;
+import com.example.EventSphere.model.User;
+import com.example.EventSphere.repository.RSVPRepository;
+import com.example.EventSphere.repository.VolunteerRepository;
+
+import jakarta.persistence.EntityManager;
+
+class ParticipantExportServiceTest {
+
+    private final RSVPRepository rsvpRepository = mock(RSVPRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final ParticipantExportService exportService =
+        new ParticipantExportService(rsvpRepository, mock(VolunteerRepository.class));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(exportService, "entityManager", entityManager);
+    }
+
+    @Test
+    void writesEachCursorRowAndDetachesItOnceWritten() throws IOException {
+        RSVP jane = rsvp("Jane Doe", "jane@example.com", null);
+        RSVP team = rsvp("Smith, John", "john@example.com", "The \"Fast\" Team");
+        AtomicBoolean closed = new AtomicBoolean();
+        when(rsvpRepository.streamByEventIdWithUser(5L)).thenReturn(Stream.of(jane, team).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writeParticipantsCsv(5L, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "Participant Name,Email,Status,RSVP Date,Team Name,Team Size\n"
+                + "Jane Doe,jane@example.com,GOING,2026-11-01T09:30,,\n"
+                + "\"Smith, John\",john@example.com,GOING,2026-11-01T09:30,\"The \"\"Fast\"\" Team\",4");
+        verify(entityManager).detach(jane);
+        verify(entityManager).detach(jane.getUser());
+        verify(entityManager).detach(team);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void quotesFieldsWithSeparatorsQuotesOrLineBreaks() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvWriter csv = new CsvWriter(out);
+
+        csv.row("plain", "a,b", "say \"hi\"", "two\nlines", "cr\rhere", null).startRow().field(42);
+        csv.flush();
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+            .isEqualTo("plain,\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",\"cr\rhere\",\n42");
+    }
+
+    @Test
+    void nothingReachesTheStreamUntilTheBufferFillsOrFlushes() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvWriter csv = new CsvWriter(out);
+
+        csv.row("a", "b");
+        assertThat(out.size()).isZero();
+
+        csv.flush();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("a,b");
+    }
+
+    private static RSVP rsvp(String name, String email, String teamName) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        RSVP rsvp = new RSVP();
+        rsvp.setUser(user);
+        rsvp.setStatus(RSVP.Status.GOING);
+        rsvp.setRsvpDate(LocalDateTime.of(2026, 11, 1, 9, 30));
+        rsvp.setTeamName(teamName);
+        rsvp.setTeamSize(teamName != null ? 4 : null);
+        return rsvp;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.example.EventSphere.model.PasswordResetToken;
+import com.example.EventSphere.model.User;
+import com.example.EventSphere.repository.PasswordResetTokenRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordResetTokenServiceTest {
+
+    private final PasswordResetTokenRepository repository = mock(PasswordResetTokenRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PasswordResetTokenService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        service = new PasswordResetTokenService(repository, meterRegistry, Duration.ofMinutes(10), 100, 2);
+        user = new User();
+        user.setUserId(7L);
+        user.setEmail("jane@example.com");
+        when(repository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+        when(repository.deleteUnexpired(anyString(), any())).thenReturn(1);
+    }
+
+    @Test
+    void onlyTheHashOfTheTokenIsStored() {
+        String token = service.issue(user);
+
+        ArgumentCaptor<PasswordResetToken> stored = ArgumentCaptor.forClass(PasswordResetToken.class);
+        verify(repository).save(stored.capture());
+        assertThat(stored.getValue().getTokenHash())
+            .isEqualTo(PasswordResetTokenService.hash(token))
+            .doesNotContain(token)
+            .hasSize(64);
+        assertThat(stored.getValue().getExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(9));
+    }
+
+    @Test
+    void issuedTokenIsServedFromTheCacheAndRedeemedOnce() {
+        String token = service.issue(user);
+
+        assertThat(service.isValid(token)).isTrue();
+        assertThat(service.consume(token)).contains(7L);
+        verify(repository, never()).findByTokenHash(anyString());
+
+        assertThat(service.consume(token)).isEmpty();
+        assertThat(meterRegistry.counter("eventsphere.password-reset.consumed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void tokenIssuedOnAnotherNodeIsLookedUpByHash() {
+        String token = "issued-elsewhere";
+        when(repository.findByTokenHash(PasswordResetTokenService.hash(token)))
+            .thenReturn(Optional.of(new PasswordResetToken(PasswordResetTokenService.hash(token), user,
+                LocalDateTime.now().plusMinutes(5))));
+
+        assertThat(service.consume(token)).contains(7L);
+        verify(repository).deleteUnexpired(eq(PasswordResetTokenService.hash(token)), any());
+    }
+
+    @Test
+    void tokenSpentByAConcurrentRequestIsRejected() {
+        String token = service.issue(user);
+        when(repository.deleteUnexpired(anyString(), any())).thenReturn(0);
+
+        assertThat(service.consume(token)).isEmpty();
+        assertThat(meterRegistry.counter("eventsphere.password-reset.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String token = "stale";
+        when(repository.findByTokenHash(PasswordResetTokenService.hash(token)))
+            .thenReturn(Optional.of(new PasswordResetToken(PasswordResetTokenService.hash(token), user,
+                LocalDateTime.now().minusSeconds(1))));
+
+        assertThat(service.isValid(token)).isFalse();
+        verify(repository, never()).deleteUnexpired(anyString(), any());
+    }
+
+    @Test
+    void issuingAgainRevokesTheOutstandingToken() {
+        String first = service.issue(user);
+        String second = service.issue(user);
+
+        assertThat(service.isValid(first)).isFalse();
+        assertThat(service.isValid(second)).isTrue();
+        verify(repository, times(2)).deleteByUser_UserId(7L);
+    }
+
+    @Test
+    void sweepDeletesInChunksUntilAShortOne() {
+        when(repository.deleteExpired(any(), anyInt())).thenReturn(2, 2, 1);
+
+        assertThat(service.purgeExpired()).isEqualTo(5);
+        verify(repository, times(3)).deleteExpired(any(), eq(2));
+        assertThat(meterRegistry.counter("eventsphere.password-reset.expired").count()).isEqualTo(5);
+    }
+}
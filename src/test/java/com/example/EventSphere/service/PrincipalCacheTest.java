@@ -0,0 +1,95 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.EventSphere.model.AuthenticatedUser;
+import com.example.EventSphere.model.User;
+
+class PrincipalCacheTest {
+
+    private final PrincipalCache cache = new PrincipalCache(100, Duration.ofMinutes(5));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadsOncePerEmailRegardlessOfCase() {
+        cache.get("Jane@Example.com", loader(1L));
+        cache.get("jane@example.com ", loader(1L));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void handsOutCopiesSoErasingCredentialsDoesNotTouchTheCache() {
+        AuthenticatedUser first = cache.get("jane@example.com", loader(1L)).orElseThrow();
+        first.eraseCredentials();
+
+        assertThat(cache.get("jane@example.com", loader(1L)).orElseThrow().getPassword()).isEqualTo("hash-1");
+    }
+
+    @Test
+    void evictsRightAwayOutsideATransaction() {
+        cache.get("jane@example.com", loader(1L));
+
+        cache.evict("jane@example.com");
+
+        assertThat(cache.get("jane@example.com", loader(2L)).orElseThrow().getCredentialsVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void evictsOnlyAfterCommitInsideATransaction() {
+        cache.get("jane@example.com", loader(1L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict("jane@example.com");
+        // A login racing the password change still sees the committed state, and must not pin it past the commit
+        assertThat(cache.get("jane@example.com", loader(2L)).orElseThrow().getCredentialsVersion()).isEqualTo(1L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.get("jane@example.com", loader(2L)).orElseThrow().getCredentialsVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void rolledBackChangeKeepsTheEntry() {
+        cache.get("jane@example.com", loader(1L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict("jane@example.com");
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        cache.get("jane@example.com", loader(2L));
+        assertThat(loads).hasValue(1);
+    }
+
+    private Function<String, Optional<AuthenticatedUser>> loader(long credentialsVersion) {
+        return email -> {
+            loads.incrementAndGet();
+            User user = new User();
+            user.setUserId(7L);
+            user.setEmail(email.trim().toLowerCase());
+            user.setName("Jane");
+            user.setRole(User.Role.USER);
+            user.setEnabled(true);
+            user.setPassword("hash-" + credentialsVersion);
+            user.setCredentialsVersion(credentialsVersion);
+            return Optional.of(AuthenticatedUser.of(user));
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class RelayRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+
+    @Test
+    void reservesOneSlotPerMessage() {
+        RelayRateLimiter limiter = new RelayRateLimiter(10, clock::get);
+
+        assertThat(limiter.reserve()).isEqualTo(1_000);
+        assertThat(limiter.reserve()).isEqualTo(1_000 + 100_000_000L);
+        assertThat(limiter.reserve()).isEqualTo(1_000 + 200_000_000L);
+    }
+
+    @Test
+    void idleTimeIsNotBankedAsBurst() {
+        RelayRateLimiter limiter = new RelayRateLimiter(10, clock::get);
+        limiter.reserve();
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        long now = clock.get();
+        assertThat(limiter.reserve()).isEqualTo(now);
+        assertThat(limiter.reserve()).isEqualTo(now + 100_000_000L);
+    }
+
+    @Test
+    void unlimitedNeverWaits() {
+        RelayRateLimiter limiter = new RelayRateLimiter(0, clock::get);
+
+        assertThat(limiter.isLimited()).isFalse();
+        assertThat(limiter.reserve()).isEqualTo(clock.get());
+        assertThat(limiter.reserve()).isEqualTo(clock.get());
+        assertThat(limiter.messagesWithin(Duration.ofSeconds(1))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void countsMessagesWithinWindow() {
+        RelayRateLimiter limiter = new RelayRateLimiter(4, clock::get);
+
+        assertThat(limiter.messagesWithin(Duration.ofSeconds(60))).isEqualTo(240);
+    }
+
+    @Test
+    void acquirePacesConcurrentCallers() throws InterruptedException {
+        RelayRateLimiter limiter = new RelayRateLimiter(50);
+        Thread[] callers = new Thread[4];
+        long start = System.nanoTime();
+        for (int i = 0; i < callers.length; i++) {
+            callers[i] = Thread.ofVirtual().start(() -> {
+                for (int j = 0; j < 3; j++) {
+                    limiter.acquire();
+                }
+            });
+        }
+        for (Thread caller : callers) {
+            caller.join();
+        }
+
+        // 12 slots of 20 ms, the first one starting right away
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(220));
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.EventSphere.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.EventSphere.model.Event;
+import com.example.EventSphere.repository.EventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+
+class SeatAvailabilityHubTest {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final RSVPService rsvpService = mock(RSVPService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<Long, Event> events = new ConcurrentHashMap<>();
+    private final Map<Long, Long> going = new ConcurrentHashMap<>();
+
+    private SeatAvailabilityHub hub;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(eventRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<Event> found = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                if (events.containsKey(id)) {
+                    found.add(events.get(id));
+                }
+            }
+            return found;
+        });
+        when(rsvpService.getGoingCounts(anyCollection())).thenAnswer(invocation -> Map.copyOf(going));
+        hub = new SeatAvailabilityHub(eventRepository, rsvpService, transactionManager, meterRegistry,
+            Duration.ofMinutes(30), 3);
+        mockMvc = MockMvcBuilders.standaloneSetup(new SeatsController(hub)).build();
+        addEvent(5L, 10);
+    }
+
+    @AfterEach
+    void shutdown() {
+        hub.destroy();
+    }
+
+    @Test
+    void streamStartsWithTheCurrentAvailability() throws Exception {
+        going.put(5L, 4L);
+
+        MvcResult stream = subscribe(5L);
+
+        awaitContent(stream, "\"participants\":4");
+        assertThat(stream.getResponse().getContentAsString())
+            .startsWith("event:seats\ndata:{\"eventId\":5,\"participants\":4,\"maxParticipants\":10,\"full\":false,"
+                + "\"registrationClosed\":false}");
+    }
+
+    @Test
+    void burstOfChangesIsPushedOncePerFlush() throws Exception {
+        MvcResult stream = subscribe(5L);
+        awaitContent(stream, "\"participants\":0");
+        clearInvocations(eventRepository);
+
+        for (long count = 1; count <= 10; count++) {
+            going.put(5L, count);
+            hub.onSeatCountChange(new SeatCountChange(5L));
+        }
+        hub.flush();
+
+        awaitContent(stream, "\"participants\":10,\"maxParticipants\":10,\"full\":true");
+        assertThat(stream.getResponse().getContentAsString()).doesNotContain("\"participants\":5");
+        verify(eventRepository).findAllById(List.of(5L));
+        assertThat(meterRegistry.counter("eventsphere.live-seats.pushes").count()).isEqualTo(2);
+    }
+
+    @Test
+    void backToBackFlushesArriveInOrderAndEndOnTheLatestCount() throws Exception {
+        MvcResult stream = subscribe(5L);
+        awaitContent(stream, "\"participants\":0");
+
+        for (long count = 1; count <= 50; count++) {
+            going.put(5L, count);
+            hub.onSeatCountChange(new SeatCountChange(5L));
+            hub.flush();
+        }
+
+        awaitContent(stream, "\"participants\":50");
+        Matcher participants = Pattern.compile("\"participants\":(\\d+)").matcher(stream.getResponse().getContentAsString());
+        List<Integer> pushed = new ArrayList<>();
+        while (participants.find()) {
+            pushed.add(Integer.parseInt(participants.group(1)));
+        }
+        // A writer that falls behind skips counts, but never goes back to an older one
+        assertThat(pushed).isSorted().doesNotHaveDuplicates().endsWith(50);
+    }
+
+    @Test
+    void unchangedAvailabilityAndUnwatchedEventsAreNotPushed() throws Exception {
+        MvcResult stream = subscribe(5L);
+        awaitContent(stream, "\"participants\":0");
+        addEvent(6L, 10);
+        clearInvocations(eventRepository);
+
+        hub.onSeatCountChange(new SeatCountChange(6L));
+        hub.flush();
+        verify(eventRepository, never()).findAllById(any());
+
+        hub.onSeatCountChange(new SeatCountChange(5L));
+        hub.flush();
+        assertThat(meterRegistry.counter("eventsphere.live-seats.pushes").count()).isEqualTo(1);
+    }
+
+    @Test
+    void heartbeatPushesPassedDeadlinesAndKeepsTheStreamAlive() throws Exception {
+        events.get(5L).setRegistrationDeadline(LocalDateTime.now().plusMinutes(10));
+        MvcResult stream = subscribe(5L);
+        awaitContent(stream, "\"registrationClosed\":false");
+
+        events.get(5L).setRegistrationDeadline(LocalDateTime.now().minusSeconds(1));
+        hub.heartbeat();
+
+        awaitContent(stream, "\"registrationClosed\":true");
+        awaitContent(stream, ":keep-alive");
+    }
+
+    @Test
+    void deletedEventClosesItsStreams() throws Exception {
+        MvcResult first = subscribe(5L);
+        MvcResult second = subscribe(5L);
+        awaitContent(second, "\"participants\":0");
+
+        events.remove(5L);
+        hub.onScheduleChange(EventScheduleChange.deleted(5L));
+        hub.flush();
+
+        assertThat(subscriberGauge()).isZero();
+        // A completed emitter ends the async request, which sets its result
+        assertThatCode(() -> first.getAsyncResult(10_000)).doesNotThrowAnyException();
+        assertThatCode(() -> second.getAsyncResult(10_000)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void subscribersAreCappedAndFreedWhenClientsGoAway() throws Exception {
+        MvcResult first = subscribe(5L);
+        subscribe(5L);
+        subscribe(5L);
+        assertThat(hub.acceptsSubscribers()).isFalse();
+
+        disconnect(first);
+
+        assertThat(subscriberGauge()).isEqualTo(2);
+        assertThat(hub.acceptsSubscribers()).isTrue();
+    }
+
+    @Test
+    void missingEventGetsNoStream() {
+        assertThat(hub.subscribe(99L)).isEmpty();
+        assertThat(subscriberGauge()).isZero();
+    }
+
+    @Test
+    void concurrentSubscribesAndDisconnectsKeepTheCountExact() throws Exception {
+        SimpleMeterRegistry roomyRegistry = new SimpleMeterRegistry();
+        SeatAvailabilityHub roomy = new SeatAvailabilityHub(eventRepository, rsvpService, transactionManager,
+            roomyRegistry, Duration.ofMinutes(30), 10_000);
+        MockMvc roomyMvc = MockMvcBuilders.standaloneSetup(new SeatsController(roomy)).build();
+        for (long id = 1; id <= 4; id++) {
+            addEvent(id, 10);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                long eventId = t % 4 + 1;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int n = 0; n < 50; n++) {
+                        MvcResult stream = roomyMvc.perform(get("/seats/{id}", eventId)).andReturn();
+                        if (n % 2 == 1) {
+                            disconnect(stream);
+                        }
+                        going.merge(eventId, 1L, Long::sum);
+                        roomy.onSeatCountChange(new SeatCountChange(eventId));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        roomy.flush();
+
+        assertThat(subscriberGauge(roomyRegistry)).isEqualTo(200);
+        roomy.destroy();
+        assertThat(subscriberGauge(roomyRegistry)).isZero();
+    }
+
+    private MvcResult subscribe(Long eventId) throws Exception {
+        return mockMvc.perform(get("/seats/{id}", eventId)).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    // What the container reports when writing to a closed connection fails
+    private static void disconnect(MvcResult stream) throws IOException {
+        MockAsyncContext asyncContext = (MockAsyncContext) stream.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onError(new AsyncEvent(asyncContext, new IOException("Broken pipe")));
+        }
+    }
+
+    private void addEvent(Long id, int maxParticipants) {
+        Event event = new Event();
+        event.setEventId(id);
+        event.setMaxParticipants(maxParticipants);
+        events.put(id, event);
+    }
+
+    private double subscriberGauge() {
+        return subscriberGauge(meterRegistry);
+    }
+
+    private static int subscriberGauge(SimpleMeterRegistry registry) {
+        return (int) registry.get("eventsphere.live-seats.subscribers").gauge().value();
+    }
+
+    // Pushes are written by each stream's writer on a virtual thread
+    private static void awaitContent(MvcResult stream, String expected) throws Exception {
+        await(() -> {
+            try {
+                return stream.getResponse().getContentAsString().contains(expected);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @RestController
+    static class SeatsController {
+
+        private final SeatAvailabilityHub hub;
+
+        SeatsController(SeatAvailabilityHub hub) {
+            this.hub = hub;
+        }
+
+        @GetMapping("/seats/{id}")
+        SseEmitter seats(@PathVariable Long id) {
+            return hub.subscribe(id).orElseThrow();
+        }
+    }
+}